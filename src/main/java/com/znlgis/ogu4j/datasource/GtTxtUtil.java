@@ -10,6 +10,7 @@ import cn.hutool.core.util.NumberUtil;
 import cn.hutool.core.util.ObjectUtil;
 import com.znlgis.ogu4j.utils.EncodingUtil;
 import com.znlgis.ogu4j.utils.NumUtil;
+import com.znlgis.ogu4j.utils.ParallelUtil;
 import com.znlgis.ogu4j.engine.util.CrsUtil;
 import com.znlgis.ogu4j.engine.enums.FieldDataType;
 import com.znlgis.ogu4j.engine.enums.GeometryType;
@@ -17,6 +18,7 @@ import com.znlgis.ogu4j.geometry.GeometryUtil;
 import com.znlgis.ogu4j.engine.model.layer.OguCoordinate;
 import com.znlgis.ogu4j.engine.model.layer.OguFeature;
 import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
 import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 import com.znlgis.ogu4j.engine.model.layer.OguLayerMetadata;
@@ -53,10 +55,75 @@ public class GtTxtUtil {
      * @param metadata   元数据信息
      * @param fieldNames 字段名称顺序
      * @param zoneNumber 带号
+     * @see #saveTxtByZone(OguLayer, String, OguLayerMetadata, List)
      */
     @SneakyThrows
     public static void saveTxt(OguLayer layer, String txtPath, OguLayerMetadata metadata, List<String> fieldNames, Integer zoneNumber) {
-        // 转换为内部表示并保存
+        try (GtTxtWriter writer = new GtTxtWriter(layer, txtPath, metadata, fieldNames, zoneNumber)) {
+            for (OguFeature feature : layer.getFeatures()) {
+                writer.write(feature);
+            }
+        }
+    }
+
+    /**
+     * 按3度分带保存OguLayer为多个TXT文件
+     * <p>
+     * 使用{@link CrsUtil#reprojectByZone(OguLayer)}按要素所在投影带拆分并转换图层，每个投影带写入一个TXT文件，
+     * 文件名为TXT文件路径的主文件名加"_带号"，如"result.txt"的第38带写入"result_38.txt"。
+     * 各文件的带号和几度分带按所在投影带填写，其余元数据相同。各投影带的文件并行写入。
+     * </p>
+     *
+     * @param layer      OguLayer
+     * @param txtPath    TXT文件路径，用于确定各投影带文件的目录和文件名
+     * @param metadata   元数据信息
+     * @param fieldNames 字段名称顺序
+     * @return 各投影带的TXT文件路径，KEY为带号，按带号从小到大排列
+     */
+    public static Map<Integer, String> saveTxtByZone(OguLayer layer, String txtPath, OguLayerMetadata metadata,
+                                                     List<String> fieldNames) {
+        Map<Integer, OguLayer> zoneLayers = CrsUtil.reprojectByZone(layer);
+        File file = new File(txtPath);
+        String baseName = FileUtil.mainName(file);
+        String extension = FileUtil.extName(file);
+        Map<Integer, String> paths = new LinkedHashMap<>();
+        for (Integer wkid : zoneLayers.keySet()) {
+            int dh = CrsUtil.getDh(wkid);
+            String fileName = baseName + "_" + dh + (CharSequenceUtil.isEmpty(extension) ? "" : "." + extension);
+            paths.put(dh, new File(file.getAbsoluteFile().getParentFile(), fileName).getPath());
+        }
+
+        List<Integer> wkids = new ArrayList<>(zoneLayers.keySet());
+        // 投影带数量通常只有几个，每个分区各写一个文件，达到2个即并行
+        ParallelUtil.forEachIndex(wkids.size(), 2, i -> {
+            Integer wkid = wkids.get(i);
+            int dh = CrsUtil.getDh(wkid);
+            saveTxt(zoneLayers.get(wkid), paths.get(dh), zoneMetadata(metadata, dh), fieldNames, dh);
+        });
+        return paths;
+    }
+
+    /**
+     * 复制元数据并改为指定的3度带带号
+     */
+    private static OguLayerMetadata zoneMetadata(OguLayerMetadata source, int dh) {
+        if (source == null) {
+            return null;
+        }
+        return new OguLayerMetadata(source.getFormatVersion(), source.getDataSource(), source.getDataDate(),
+                source.getCoordinateSystemName(), "3", source.getProjectionType(), source.getMeasureUnit(),
+                String.valueOf(dh), source.getPrecision(), source.getTransformParams(), source.getExtendedInfos());
+    }
+
+    /**
+     * 生成TXT文件头部（扩展信息、属性描述和地块坐标标记）
+     *
+     * @param layer      OguLayer
+     * @param metadata   元数据信息
+     * @param zoneNumber 带号
+     * @return 头部文本行
+     */
+    static List<String> headerLines(OguLayer layer, OguLayerMetadata metadata, Integer zoneNumber) {
         OguLayerMetadata layerMetadata = prepareMetadata(layer, metadata, zoneNumber);
         List<String> txtLines = new ArrayList<>();
 
@@ -83,105 +150,103 @@ public class GtTxtUtil {
         txtLines.add("精度=" + (layerMetadata.getPrecision() == null ? "0.01" : layerMetadata.getPrecision()));
         txtLines.add("转换参数=" + (layerMetadata.getTransformParams() == null ? "0,0,0,0,0,0,0" : layerMetadata.getTransformParams()));
 
-        // 处理字段名称
-        if (fieldNames == null || fieldNames.isEmpty()) {
-            fieldNames = getDefaultFieldNames();
-        }
-
         // 写入地块坐标
         txtLines.add("[地块坐标]");
+        return txtLines;
+    }
 
-        Integer wkid = null;
-        for (OguFeature feature : layer.getFeatures()) {
-            // 处理几何
-            List<OguCoordinate> coordinates = new ArrayList<>();
-            Geometry geometry = GeometryUtil.wkt2Geometry(feature.getGeometry());
-            if (wkid == null) {
-                zoneNumber = CrsUtil.getDh(geometry);
-                wkid = CrsUtil.getProjectedWkid(zoneNumber);
-            }
-            geometry = CrsUtil.transform(geometry, layer.getWkid(), wkid);
-
-            if (geometry instanceof Polygonal) {
-                List<Polygon> polygons = new ArrayList<>();
-                if (geometry instanceof Polygon) {
-                    polygons.add((Polygon) geometry);
-                } else if (geometry instanceof MultiPolygon multiPolygon) {
-                    for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
-                        polygons.add((Polygon) multiPolygon.getGeometryN(i));
-                    }
+    /**
+     * 生成单个要素的TXT文本行（属性行和坐标行）
+     *
+     * @param feature    要素
+     * @param geometry   已投影到目标坐标系的几何
+     * @param fieldNames 字段名称顺序
+     * @return 要素文本行
+     */
+    static List<String> featureLines(OguFeature feature, Geometry geometry, List<String> fieldNames) {
+        List<String> txtLines = new ArrayList<>();
+
+        // 处理几何
+        List<OguCoordinate> coordinates = new ArrayList<>();
+        if (geometry instanceof Polygonal) {
+            List<Polygon> polygons = new ArrayList<>();
+            if (geometry instanceof Polygon) {
+                polygons.add((Polygon) geometry);
+            } else if (geometry instanceof MultiPolygon multiPolygon) {
+                for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+                    polygons.add((Polygon) multiPolygon.getGeometryN(i));
                 }
+            }
 
-                int qh = 1;
-                for (Polygon polygon : polygons) {
-                    List<LinearRing> rings = new ArrayList<>();
-                    rings.add(polygon.getExteriorRing());
-                    for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
-                        rings.add(polygon.getInteriorRingN(i));
-                    }
+            int qh = 1;
+            for (Polygon polygon : polygons) {
+                List<LinearRing> rings = new ArrayList<>();
+                rings.add(polygon.getExteriorRing());
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    rings.add(polygon.getInteriorRingN(i));
+                }
 
-                    for (LinearRing ring : rings) {
-                        int pn = 1;
-                        for (Coordinate coordinate : ring.getCoordinates()) {
-                            OguCoordinate coord = new OguCoordinate();
-                            coord.setPointNumber(String.valueOf(pn));
-                            coord.setRingNumber(qh);
-                            coord.setY(coordinate.getY());
-                            coord.setX(coordinate.getX());
-                            coordinates.add(coord);
-                            pn++;
-                        }
-                        qh++;
+                for (LinearRing ring : rings) {
+                    int pn = 1;
+                    for (Coordinate coordinate : ring.getCoordinates()) {
+                        OguCoordinate coord = new OguCoordinate();
+                        coord.setPointNumber(String.valueOf(pn));
+                        coord.setRingNumber(qh);
+                        coord.setY(coordinate.getY());
+                        coord.setX(coordinate.getX());
+                        coordinates.add(coord);
+                        pn++;
                     }
+                    qh++;
                 }
-            } else {
-                throw new RuntimeException("不支持的几何类型");
             }
+        } else {
+            throw new RuntimeException("不支持的几何类型");
+        }
 
-            // 处理属性值
-            List<String> values = new ArrayList<>();
-            for (String fieldName : fieldNames) {
-                switch (fieldName) {
-                    case "JZDS":
-                        values.add(String.valueOf(coordinates.size()));
-                        break;
-                    case "DKMJ":
-                        double area = geometry.getArea() / 10000;
-                        values.add(NumUtil.getPlainString(area));
-                        break;
-                    case "JLTXSX":
-                        values.add("面");
-                        break;
-                    default: {
-                        if (feature.getAttributes() != null) {
-                            Optional<OguFieldValue> optional = feature.getAttributes().stream()
-                                    .filter(m -> m.getField() != null && m.getField().getName() != null
-                                            && m.getField().getName().equalsIgnoreCase(fieldName)
-                                            && ObjectUtil.isNotEmpty(m.getValue())).findFirst();
-                            if (optional.isPresent()) {
-                                values.add(String.valueOf(optional.get().getValue()));
-                            } else {
-                                values.add("");
-                            }
+        // 处理属性值
+        List<String> values = new ArrayList<>();
+        for (String fieldName : fieldNames) {
+            switch (fieldName) {
+                case "JZDS":
+                    values.add(String.valueOf(coordinates.size()));
+                    break;
+                case "DKMJ":
+                    double area = geometry.getArea() / 10000;
+                    values.add(NumUtil.getPlainString(area));
+                    break;
+                case "JLTXSX":
+                    values.add("面");
+                    break;
+                default: {
+                    if (feature.getAttributes() != null) {
+                        Optional<OguFieldValue> optional = feature.getAttributes().stream()
+                                .filter(m -> m.getField() != null && m.getField().getName() != null
+                                        && m.getField().getName().equalsIgnoreCase(fieldName)
+                                        && ObjectUtil.isNotEmpty(m.getValue())).findFirst();
+                        if (optional.isPresent()) {
+                            values.add(String.valueOf(optional.get().getValue()));
                         } else {
                             values.add("");
                         }
+                    } else {
+                        values.add("");
                     }
                 }
             }
+        }
 
-            // 写入要素属性行
-            txtLines.add(CharSequenceUtil.join(",", values) + ",@");
+        // 写入要素属性行
+        txtLines.add(CharSequenceUtil.join(",", values) + ",@");
 
-            // 写入坐标行
-            for (OguCoordinate coord : coordinates) {
-                txtLines.add(CharSequenceUtil.join(",", coord.getPointNumber(), coord.getRingNumber(),
-                        NumUtil.getPlainString(coord.getY()),
-                        NumUtil.getPlainString(coord.getX())));
-            }
+        // 写入坐标行
+        for (OguCoordinate coord : coordinates) {
+            txtLines.add(CharSequenceUtil.join(",", coord.getPointNumber(), coord.getRingNumber(),
+                    NumUtil.getPlainString(coord.getY()),
+                    NumUtil.getPlainString(coord.getX())));
         }
 
-        FileUtil.writeLines(txtLines, txtPath, StandardCharsets.UTF_8);
+        return txtLines;
     }
 
     /**
@@ -339,6 +404,7 @@ public class GtTxtUtil {
         }
 
         final List<OguField> finalFields = fields;
+        final OguFieldSchema fieldSchema = layer.getFieldSchema();
         zbMap.forEach((zbKey, zbLines) -> {
             OguFeature feature = new OguFeature();
             List<String> fieldValues = CharSequenceUtil.split(zbKey, ",");
@@ -404,6 +470,7 @@ public class GtTxtUtil {
                 attributes.add(fieldValue);
             }
             feature.setAttributes(attributes);
+            feature.bind(fieldSchema);
 
             feature.setId(IdUtil.simpleUUID());
             int wkid = 4488 + NumberUtil.parseInt(zoneNumber[0]);
@@ -434,7 +501,7 @@ public class GtTxtUtil {
      *
      * @return 默认字段名称列表
      */
-    private static List<String> getDefaultFieldNames() {
+    static List<String> getDefaultFieldNames() {
         List<String> fieldNames = new ArrayList<>();
         fieldNames.add("JZDS");
         fieldNames.add("DKMJ");
@@ -0,0 +1,94 @@
+package com.znlgis.ogu4j.datasource;
+
+import cn.hutool.core.io.FileUtil;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.model.layer.OguLayerMetadata;
+import com.znlgis.ogu4j.engine.util.CrsUtil;
+import lombok.SneakyThrows;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 国土TXT坐标文件流式写入器
+ * <p>
+ * 打开时写入属性描述头部，之后逐个要素写入属性行和坐标行，不在内存中保留已写入的要素。
+ * 投影带号由第一个要素的几何确定（图层已是带号前缀的3度带投影坐标系时保持原投影带），
+ * 后续要素均投影到同一投影坐标系。
+ * 跨越多个投影带的图层可使用{@link GtTxtUtil#saveTxtByZone(OguLayer, String, OguLayerMetadata, List)}按带拆分写入。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GtTxtUtil#saveTxt(OguLayer, String, OguLayerMetadata, List, Integer)
+ */
+public class GtTxtWriter implements Closeable {
+
+    private final BufferedWriter writer;
+
+    private final Integer sourceWkid;
+
+    private final List<String> fieldNames;
+
+    private Integer targetWkid;
+
+    /**
+     * 构造函数
+     *
+     * @param layer      图层结构（提供坐标系信息）
+     * @param txtPath    TXT文件路径
+     * @param metadata   元数据信息
+     * @param fieldNames 字段名称顺序，为空时使用默认字段顺序
+     * @param zoneNumber 带号
+     */
+    @SneakyThrows
+    public GtTxtWriter(OguLayer layer, String txtPath, OguLayerMetadata metadata, List<String> fieldNames,
+                       Integer zoneNumber) {
+        this.sourceWkid = layer.getWkid();
+        this.fieldNames = fieldNames == null || fieldNames.isEmpty() ? GtTxtUtil.getDefaultFieldNames() : fieldNames;
+        List<String> headerLines = GtTxtUtil.headerLines(layer, metadata, zoneNumber);
+        this.writer = FileUtil.getWriter(txtPath, StandardCharsets.UTF_8, false);
+        try {
+            writeLines(headerLines);
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 写入单个要素
+     *
+     * @param feature 要素
+     */
+    @SneakyThrows
+    public void write(OguFeature feature) {
+        Geometry geometry = feature.getJtsGeometry();
+        if (targetWkid == null) {
+            // 已是带号前缀的3度带投影坐标系时保持原投影带
+            boolean zoned = sourceWkid != null && sourceWkid >= CrsUtil.getProjectedWkid(25)
+                    && sourceWkid <= CrsUtil.getProjectedWkid(45);
+            targetWkid = zoned ? sourceWkid : CrsUtil.getProjectedWkid(CrsUtil.getDh(geometry));
+        }
+        geometry = CrsUtil.transform(geometry, sourceWkid, targetWkid);
+        writeLines(GtTxtUtil.featureLines(feature, geometry, fieldNames));
+    }
+
+    private void writeLines(List<String> lines) throws IOException {
+        for (String line : lines) {
+            writer.write(line);
+            writer.newLine();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -4,6 +4,8 @@ import com.znlgis.ogu4j.engine.GisEngine;
 import com.znlgis.ogu4j.engine.GisEngineFactory;
 import com.znlgis.ogu4j.engine.enums.DataFormatType;
 import com.znlgis.ogu4j.engine.enums.GisEngineType;
+import com.znlgis.ogu4j.engine.io.LayerCursor;
+import com.znlgis.ogu4j.engine.io.LayerSink;
 import com.znlgis.ogu4j.exception.OguException;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 
@@ -52,6 +54,74 @@ public class OguLayerUtil {
         return engine.readLayer(formatType, path, layerName, attributeFilter, spatialFilterWkt);
     }
 
+    /**
+     * 读取图层（带读取选项）
+     * <p>
+     * 读取选项可指定几何规范化方式（geometryNormalize），
+     * 参见{@link com.znlgis.ogu4j.engine.io.LayerReader#read(String, String, String, String, Map)}。
+     * </p>
+     *
+     * @param formatType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件
+     * @param spatialFilterWkt 空间过滤条件
+     * @param options          读取选项（可为null）
+     * @param gisEngineType    GIS引擎类型
+     * @return OguLayer图层对象
+     * @throws OguException 读取失败时抛出异常
+     */
+    public static OguLayer readLayer(DataFormatType formatType, String path, String layerName,
+                                      String attributeFilter, String spatialFilterWkt,
+                                      Map<String, Object> options, GisEngineType gisEngineType) throws OguException {
+        GisEngine engine = GisEngineFactory.getEngine(gisEngineType, formatType);
+        return engine.readLayer(formatType, path, layerName, attributeFilter, spatialFilterWkt, options);
+    }
+
+    /**
+     * 打开图层要素游标
+     * <p>
+     * 使用引擎抽象层API以流式方式读取图层数据，适用于无法一次性加载到内存的大图层。
+     * 返回的游标使用完毕后必须关闭。
+     * </p>
+     *
+     * @param formatType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件
+     * @param spatialFilterWkt 空间过滤条件
+     * @param gisEngineType    GIS引擎类型
+     * @return 图层要素游标
+     * @throws OguException 打开失败时抛出异常
+     */
+    public static LayerCursor openLayerCursor(DataFormatType formatType, String path, String layerName,
+                                              String attributeFilter, String spatialFilterWkt,
+                                              GisEngineType gisEngineType) throws OguException {
+        GisEngine engine = GisEngineFactory.getEngine(gisEngineType, formatType);
+        return engine.openLayerCursor(formatType, path, layerName, attributeFilter, spatialFilterWkt);
+    }
+
+    /**
+     * 打开图层要素游标（带读取选项）
+     *
+     * @param formatType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件
+     * @param spatialFilterWkt 空间过滤条件
+     * @param options          读取选项（可为null）
+     * @param gisEngineType    GIS引擎类型
+     * @return 图层要素游标
+     * @throws OguException 打开失败时抛出异常
+     */
+    public static LayerCursor openLayerCursor(DataFormatType formatType, String path, String layerName,
+                                              String attributeFilter, String spatialFilterWkt,
+                                              Map<String, Object> options, GisEngineType gisEngineType)
+            throws OguException {
+        GisEngine engine = GisEngineFactory.getEngine(gisEngineType, formatType);
+        return engine.openLayerCursor(formatType, path, layerName, attributeFilter, spatialFilterWkt, options);
+    }
+
     /**
      * 写入图层
      * <p>
@@ -73,4 +143,28 @@ public class OguLayerUtil {
         GisEngine engine = GisEngineFactory.getEngine(gisEngineType, formatType);
         engine.writeLayer(formatType, layer, path, layerName, options);
     }
+
+    /**
+     * 打开图层要素写入通道
+     * <p>
+     * 使用引擎抽象层API以流式方式写入图层数据，适用于无法一次性加载到内存的大图层。
+     * 返回的通道写入完毕后必须关闭。
+     * </p>
+     *
+     * @param formatType    数据格式类型
+     * @param schema        目标图层结构
+     * @param path          目标路径
+     * @param layerName     图层名称
+     * @param options       写入选项
+     * @param gisEngineType GIS引擎类型
+     * @return 图层要素写入通道
+     * @throws OguException 打开失败时抛出异常
+     */
+    public static LayerSink openLayerSink(DataFormatType formatType, OguLayer schema, String path,
+                                          String layerName, Map<String, Object> options,
+                                          GisEngineType gisEngineType) throws OguException {
+        schema.validate();
+        GisEngine engine = GisEngineFactory.getEngine(gisEngineType, formatType);
+        return engine.openLayerSink(formatType, schema, path, layerName, options);
+    }
 }
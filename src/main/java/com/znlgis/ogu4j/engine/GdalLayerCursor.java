@@ -0,0 +1,86 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
+import com.znlgis.ogu4j.engine.io.AbstractLayerCursor;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.util.OgrFeatureMapper;
+import com.znlgis.ogu4j.engine.util.OgrUtil;
+import org.gdal.ogr.DataSource;
+import org.gdal.ogr.Feature;
+import org.gdal.ogr.Layer;
+
+/**
+ * GDAL图层要素游标
+ * <p>
+ * 基于OGR图层的GetNextFeature逐个读取要素，并按打开时编译的字段映射转换，每个OGR要素转换后立即释放。
+ * 游标关闭时释放OGR数据源。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GdalLayerCursor extends AbstractLayerCursor {
+
+    private final DataSource dataSource;
+
+    private final Layer layer;
+
+    private final OgrFeatureMapper mapper;
+
+    /**
+     * 构造函数（简化所有几何）
+     * <p>
+     * 如果图层结构中缺少几何类型，将预读第一个要素补齐后再校验图层结构。
+     * 构造失败时OGR数据源由调用方负责释放。
+     * </p>
+     *
+     * @param schema     图层结构（不含要素）
+     * @param dataSource OGR数据源
+     * @param layer      已设置过滤条件的OGR图层
+     */
+    public GdalLayerCursor(OguLayer schema, DataSource dataSource, Layer layer) {
+        this(schema, dataSource, layer, GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 构造函数
+     * <p>
+     * 游标逐个读取要素，几何规范化在读取线程中按顺序执行。
+     * </p>
+     *
+     * @param schema        图层结构（不含要素）
+     * @param dataSource    OGR数据源
+     * @param layer         已设置过滤条件的OGR图层
+     * @param normalizeType 几何规范化方式
+     */
+    public GdalLayerCursor(OguLayer schema, DataSource dataSource, Layer layer, GeometryNormalizeType normalizeType) {
+        super(schema);
+        this.dataSource = dataSource;
+        this.layer = layer;
+        this.mapper = new OgrFeatureMapper(layer.GetLayerDefn(), schema, normalizeType);
+        if (schema.getGeometryType() == null) {
+            hasNext();
+        }
+        schema.validate();
+    }
+
+    @Override
+    protected OguFeature readNext() {
+        Feature feature = layer.GetNextFeature();
+        if (feature == null) {
+            return null;
+        }
+        try {
+            return mapper.toOguFeature(feature);
+        } finally {
+            feature.delete();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        OgrUtil.closeDataSource(dataSource);
+    }
+}
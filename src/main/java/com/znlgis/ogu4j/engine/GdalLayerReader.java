@@ -4,13 +4,18 @@ import cn.hutool.core.io.FileUtil;
 import com.znlgis.ogu4j.engine.util.OgrUtil;
 import com.znlgis.ogu4j.engine.util.ShpUtil;
 import com.znlgis.ogu4j.engine.enums.DataFormatType;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
 import com.znlgis.ogu4j.exception.DataSourceException;
 import com.znlgis.ogu4j.exception.OguException;
+import com.znlgis.ogu4j.engine.io.LayerCursor;
 import com.znlgis.ogu4j.engine.io.LayerReader;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 import org.gdal.gdal.gdal;
+import org.gdal.ogr.DataSource;
+import org.gdal.ogr.Layer;
 
 import java.nio.charset.Charset;
+import java.util.Map;
 
 /**
  * GDAL图层读取器
@@ -38,22 +43,65 @@ public class GdalLayerReader implements LayerReader {
     @Override
     public OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt)
             throws OguException {
+        return read(path, layerName, attributeFilter, spatialFilterWkt, null);
+    }
+
+    @Override
+    public OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                         Map<String, Object> options) throws OguException {
         OgrUtil.checkGdalEnv();
+        GeometryNormalizeType normalizeType = GeometryNormalizeType.fromOptions(options);
 
         switch (formatType) {
             case SHP:
-                return readShapefile(path, layerName, attributeFilter, spatialFilterWkt);
+                return readShapefile(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
             case GEOJSON:
-                return readGeoJSON(path, layerName, attributeFilter, spatialFilterWkt);
+                return readGeoJSON(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
             case FILEGDB:
-                return readFileGDB(path, layerName, attributeFilter, spatialFilterWkt);
+                return readFileGDB(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
             case POSTGIS:
-                return readPostGIS(path, layerName, attributeFilter, spatialFilterWkt);
+                return readPostGIS(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
             default:
                 throw new DataSourceException("Unsupported format: " + formatType);
         }
     }
 
+    @Override
+    public LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt)
+            throws OguException {
+        return openCursor(path, layerName, attributeFilter, spatialFilterWkt, null);
+    }
+
+    @Override
+    public LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                                  Map<String, Object> options) throws OguException {
+        OgrUtil.checkGdalEnv();
+        GeometryNormalizeType normalizeType = GeometryNormalizeType.fromOptions(options);
+
+        try {
+            switch (formatType) {
+                case SHP:
+                    Charset shpCharset = ShpUtil.check(path);
+                    gdal.SetConfigOption("SHAPE_ENCODING", shpCharset.name());
+                    String shpDir = FileUtil.getParent(path, 1);
+                    String shpName = layerName != null ? layerName : FileUtil.mainName(path);
+                    return openOgrCursor(shpDir, shpName, attributeFilter, spatialFilterWkt, normalizeType);
+                case GEOJSON:
+                    String name = layerName != null ? layerName : FileUtil.mainName(path);
+                    return openOgrCursor(path, name, attributeFilter, spatialFilterWkt, normalizeType);
+                case FILEGDB:
+                case POSTGIS:
+                    return openOgrCursor(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
+                default:
+                    throw new DataSourceException("Unsupported format: " + formatType);
+            }
+        } catch (OguException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataSourceException("Failed to open layer cursor: " + path, e);
+        }
+    }
+
     @Override
     public boolean supports(String path) {
         if (path == null) {
@@ -74,42 +122,71 @@ public class GdalLayerReader implements LayerReader {
         }
     }
 
-    private OguLayer readShapefile(String shpPath, String layerName, String attributeFilter, String spatialFilterWkt)
+    private LayerCursor openOgrCursor(String dataSourcePath, String layerName, String attributeFilter,
+                                      String spatialFilterWkt, GeometryNormalizeType normalizeType)
             throws OguException {
+        DataSource dataSource = OgrUtil.openDataSource(formatType, dataSourcePath);
+        if (dataSource == null) {
+            throw new DataSourceException("Failed to open data source: " + dataSourcePath);
+        }
+
+        try {
+            Layer layer = OgrUtil.getLayer(dataSource, layerName);
+            if (layer == null) {
+                throw new DataSourceException("Layer not found: " + layerName);
+            }
+            OguLayer schema = OgrUtil.layer2OguLayerSchema(layer);
+            OgrUtil.applyLayerFilter(layer, schema, attributeFilter, spatialFilterWkt);
+            return new GdalLayerCursor(schema, dataSource, layer, normalizeType);
+        } catch (OguException e) {
+            OgrUtil.closeDataSource(dataSource);
+            throw e;
+        } catch (Exception e) {
+            OgrUtil.closeDataSource(dataSource);
+            throw new DataSourceException("Failed to open layer cursor: " + layerName, e);
+        }
+    }
+
+    private OguLayer readShapefile(String shpPath, String layerName, String attributeFilter, String spatialFilterWkt,
+                                   GeometryNormalizeType normalizeType) throws OguException {
         try {
             Charset shpCharset = ShpUtil.check(shpPath);
             gdal.SetConfigOption("SHAPE_ENCODING", shpCharset.name());
             String shpDir = FileUtil.getParent(shpPath, 1);
             String shpName = layerName != null ? layerName : FileUtil.mainName(shpPath);
-            return OgrUtil.layer2OguLayer(DataFormatType.SHP, shpDir, shpName, attributeFilter, spatialFilterWkt);
+            return OgrUtil.layer2OguLayer(DataFormatType.SHP, shpDir, shpName, attributeFilter, spatialFilterWkt,
+                    normalizeType);
         } catch (Exception e) {
             throw new DataSourceException("Failed to read Shapefile: " + shpPath, e);
         }
     }
 
-    private OguLayer readGeoJSON(String geojsonPath, String layerName, String attributeFilter, String spatialFilterWkt)
-            throws OguException {
+    private OguLayer readGeoJSON(String geojsonPath, String layerName, String attributeFilter, String spatialFilterWkt,
+                                 GeometryNormalizeType normalizeType) throws OguException {
         try {
             String name = layerName != null ? layerName : FileUtil.mainName(geojsonPath);
-            return OgrUtil.layer2OguLayer(DataFormatType.GEOJSON, geojsonPath, name, attributeFilter, spatialFilterWkt);
+            return OgrUtil.layer2OguLayer(DataFormatType.GEOJSON, geojsonPath, name, attributeFilter, spatialFilterWkt,
+                    normalizeType);
         } catch (Exception e) {
             throw new DataSourceException("Failed to read GeoJSON: " + geojsonPath, e);
         }
     }
 
-    private OguLayer readFileGDB(String gdbPath, String layerName, String attributeFilter, String spatialFilterWkt)
-            throws OguException {
+    private OguLayer readFileGDB(String gdbPath, String layerName, String attributeFilter, String spatialFilterWkt,
+                                 GeometryNormalizeType normalizeType) throws OguException {
         try {
-            return OgrUtil.layer2OguLayer(DataFormatType.FILEGDB, gdbPath, layerName, attributeFilter, spatialFilterWkt);
+            return OgrUtil.layer2OguLayer(DataFormatType.FILEGDB, gdbPath, layerName, attributeFilter, spatialFilterWkt,
+                    normalizeType);
         } catch (Exception e) {
             throw new DataSourceException("Failed to read FileGDB layer: " + layerName, e);
         }
     }
 
-    private OguLayer readPostGIS(String connStr, String layerName, String attributeFilter, String spatialFilterWkt)
-            throws OguException {
+    private OguLayer readPostGIS(String connStr, String layerName, String attributeFilter, String spatialFilterWkt,
+                                 GeometryNormalizeType normalizeType) throws OguException {
         try {
-            return OgrUtil.layer2OguLayer(DataFormatType.POSTGIS, connStr, layerName, attributeFilter, spatialFilterWkt);
+            return OgrUtil.layer2OguLayer(DataFormatType.POSTGIS, connStr, layerName, attributeFilter, spatialFilterWkt,
+                    normalizeType);
         } catch (Exception e) {
             throw new DataSourceException("Failed to read PostGIS layer: " + layerName, e);
         }
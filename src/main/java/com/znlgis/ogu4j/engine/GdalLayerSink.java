@@ -0,0 +1,85 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.io.AbstractLayerSink;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.util.OgrFeatureEncoder;
+import com.znlgis.ogu4j.engine.util.OgrUtil;
+import org.gdal.ogr.DataSource;
+import org.gdal.ogr.Layer;
+
+/**
+ * GDAL图层要素写入通道
+ * <p>
+ * 基于OGR图层的CreateFeature逐个写入要素，属性按打开时编译的写入计划按序号设置，每个OGR要素写入后立即释放。
+ * 批量提交数量大于0时在OGR事务中写入，每写入指定数量的要素提交一次。
+ * 通道关闭时提交剩余要素并释放OGR数据源；写入失败或放弃时回滚剩余要素。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GdalLayerSink extends AbstractLayerSink {
+
+    private final DataSource dataSource;
+
+    private final Layer layer;
+
+    private final OgrFeatureEncoder encoder;
+
+    private final int batchSize;
+
+    private int pending;
+
+    /**
+     * 构造函数
+     *
+     * @param schema     目标图层结构（不含要素）
+     * @param dataSource OGR数据源
+     * @param layer      已创建字段的OGR图层
+     * @param batchSize  批量提交数量，小于等于0时不使用事务
+     */
+    public GdalLayerSink(OguLayer schema, DataSource dataSource, Layer layer, int batchSize) {
+        super(schema);
+        this.dataSource = dataSource;
+        this.layer = layer;
+        this.encoder = new OgrFeatureEncoder(layer.GetLayerDefn(), schema);
+        this.batchSize = batchSize;
+        if (batchSize > 0) {
+            layer.StartTransaction();
+        }
+    }
+
+    @Override
+    protected void doWrite(OguFeature feature) {
+        encoder.write(layer, feature);
+        if (batchSize > 0 && ++pending >= batchSize) {
+            layer.CommitTransaction();
+            layer.StartTransaction();
+            pending = 0;
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        try {
+            if (batchSize > 0) {
+                layer.CommitTransaction();
+            }
+        } finally {
+            OgrUtil.closeDataSource(dataSource);
+        }
+    }
+
+    @Override
+    protected void doAbort() {
+        try {
+            if (batchSize > 0) {
+                layer.RollbackTransaction();
+            }
+        } finally {
+            OgrUtil.closeDataSource(dataSource);
+        }
+    }
+}
@@ -8,10 +8,13 @@ import com.znlgis.ogu4j.engine.enums.DataFormatType;
 import com.znlgis.ogu4j.exception.DataSourceException;
 import com.znlgis.ogu4j.exception.OguException;
 import com.znlgis.ogu4j.geometry.GeometryUtil;
+import com.znlgis.ogu4j.engine.io.LayerSink;
 import com.znlgis.ogu4j.engine.io.LayerWriter;
 import com.znlgis.ogu4j.engine.model.DbConnBaseModel;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 import org.gdal.gdal.gdal;
+import org.gdal.ogr.DataSource;
+import org.gdal.ogr.Layer;
 
 import java.util.Map;
 import java.util.Vector;
@@ -63,6 +66,44 @@ public class GdalLayerWriter implements LayerWriter {
         }
     }
 
+    @Override
+    public LayerSink openSink(OguLayer schema, String path, String layerName, Map<String, Object> options)
+            throws OguException {
+        OgrUtil.checkGdalEnv();
+        OguLayer layer = schema.copySchema();
+        GeometryUtil.excludeSpecialFields(layer.getFields());
+
+        try {
+            switch (formatType) {
+                case SHP:
+                    gdal.SetConfigOption("SHAPE_ENCODING", "");
+                    String shpDir = FileUtil.getParent(path, 1);
+                    String shpName = layerName != null ? layerName : FileUtil.mainName(path);
+                    return openOgrSink(shpDir, layer, shpName, shapefileOptions(options), 0);
+                case GEOJSON:
+                    String name = layerName != null ? layerName : FileUtil.mainName(path);
+                    return openOgrSink(path, layer, name, null, 0);
+                case FILEGDB:
+                    return openOgrSink(path, layer, layerName, fileGdbOptions(options), 0);
+                case POSTGIS:
+                    DbConnBaseModel dbConnBaseModel = PostgisUtil.parseConnectionString(path);
+                    Vector<String> gdalOptions = OgrUtil.postgisLayerOptions(gdalOptions(options));
+                    int batchSize = 1000;
+                    if (options != null && options.get("batchSize") instanceof Integer size && size > 0) {
+                        batchSize = size;
+                    }
+                    return openOgrSink(PostgisUtil.toGdalPostgisConnStr(dbConnBaseModel), layer, layerName,
+                            gdalOptions, batchSize);
+                default:
+                    throw new DataSourceException("Unsupported format: " + formatType);
+            }
+        } catch (OguException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataSourceException("Failed to open layer sink: " + path, e);
+        }
+    }
+
     @Override
     public boolean supports(String path) {
         if (path == null) {
@@ -88,12 +129,7 @@ public class GdalLayerWriter implements LayerWriter {
             throws OguException {
         try {
             gdal.SetConfigOption("SHAPE_ENCODING", "");
-            Vector<String> gdalOptions = new Vector<>();
-            gdalOptions.add("ENCODING=UTF-8");
-
-            if (options != null && options.containsKey("gdalOptions")) {
-                gdalOptions.addAll((java.util.Collection<String>) options.get("gdalOptions"));
-            }
+            Vector<String> gdalOptions = shapefileOptions(options);
 
             String shpDir = FileUtil.getParent(shpPath, 1);
             String shpName = layerName != null ? layerName : FileUtil.mainName(shpPath);
@@ -117,14 +153,7 @@ public class GdalLayerWriter implements LayerWriter {
     private void writeFileGDB(OguLayer layer, String gdbPath, String layerName, Map<String, Object> options)
             throws OguException {
         try {
-            Vector<String> gdalOptions = null;
-            if (options != null && options.containsKey("featureDataset")) {
-                String featureDataset = (String) options.get("featureDataset");
-                if (CharSequenceUtil.isNotBlank(featureDataset)) {
-                    gdalOptions = new Vector<>();
-                    gdalOptions.add("FEATURE_DATASET=" + featureDataset);
-                }
-            }
+            Vector<String> gdalOptions = fileGdbOptions(options);
             OgrUtil.oguLayer2Layer(DataFormatType.FILEGDB, gdbPath, layer, layerName, gdalOptions);
         } catch (Exception e) {
             throw new DataSourceException("Failed to write FileGDB layer: " + layerName, e);
@@ -136,14 +165,59 @@ public class GdalLayerWriter implements LayerWriter {
             throws OguException {
         try {
             DbConnBaseModel dbConnBaseModel = PostgisUtil.parseConnectionString(connStr);
-            Vector<String> gdalOptions = null;
-            if (options != null && options.containsKey("gdalOptions")) {
-                gdalOptions = new Vector<>();
-                gdalOptions.addAll((java.util.Collection<String>) options.get("gdalOptions"));
-            }
+            Vector<String> gdalOptions = gdalOptions(options);
             OgrUtil.oguLayer2Layer4Postgis(DataFormatType.POSTGIS, dbConnBaseModel, layer, layerName, gdalOptions);
         } catch (Exception e) {
             throw new DataSourceException("Failed to write PostGIS layer: " + layerName, e);
         }
     }
+
+    private LayerSink openOgrSink(String dataSourcePath, OguLayer layer, String layerName, Vector<String> gdalOptions,
+                                  int batchSize) throws OguException {
+        DataSource dataSource = OgrUtil.openOrCreateDataSource(formatType, dataSourcePath);
+        if (dataSource == null) {
+            throw new DataSourceException("Failed to open data source: " + dataSourcePath);
+        }
+
+        try {
+            Layer ogrLayer = OgrUtil.prepareLayer(dataSource, layer, layerName, gdalOptions);
+            return new GdalLayerSink(layer, dataSource, ogrLayer, batchSize);
+        } catch (Exception e) {
+            OgrUtil.closeDataSource(dataSource);
+            throw new DataSourceException("Failed to open layer sink: " + layerName, e);
+        }
+    }
+
+    private static Vector<String> shapefileOptions(Map<String, Object> options) {
+        Vector<String> gdalOptions = new Vector<>();
+        gdalOptions.add("ENCODING=UTF-8");
+
+        Vector<String> extraOptions = gdalOptions(options);
+        if (extraOptions != null) {
+            gdalOptions.addAll(extraOptions);
+        }
+        return gdalOptions;
+    }
+
+    private static Vector<String> fileGdbOptions(Map<String, Object> options) {
+        Vector<String> gdalOptions = null;
+        if (options != null && options.containsKey("featureDataset")) {
+            String featureDataset = (String) options.get("featureDataset");
+            if (CharSequenceUtil.isNotBlank(featureDataset)) {
+                gdalOptions = new Vector<>();
+                gdalOptions.add("FEATURE_DATASET=" + featureDataset);
+            }
+        }
+        return gdalOptions;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Vector<String> gdalOptions(Map<String, Object> options) {
+        Vector<String> gdalOptions = null;
+        if (options != null && options.containsKey("gdalOptions")) {
+            gdalOptions = new Vector<>();
+            gdalOptions.addAll((java.util.Collection<String>) options.get("gdalOptions"));
+        }
+        return gdalOptions;
+    }
 }
@@ -0,0 +1,401 @@
+package com.znlgis.ogu4j.engine;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.util.IdUtil;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
+import com.znlgis.ogu4j.engine.io.AbstractLayerCursor;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.util.CrsUtil;
+import com.znlgis.ogu4j.engine.util.GeoJsonUtil;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GeoJSON图层要素游标
+ * <p>
+ * 基于Jackson流式解析器单遍读取FeatureCollection，每次只在内存中保留一个要素。
+ * 打开时读取features数组之前的name和crs成员，未声明坐标系时默认为CGCS2000（4490）。
+ * </p>
+ * <p>
+ * 字段定义由要素属性推断：数值按取值在INTEGER、LONG、DOUBLE之间逐步放宽，
+ * 出现布尔值或其他非数值取值时放宽为STRING，布尔值以"true"/"false"文本读取。
+ * 传入预扫描字段（见{@link #scanFields(JsonParser)}）时图层结构在打开后即完整且不再变化，
+ * 属性值按字段类型转换；否则遇到新属性时追加到字段列表末尾，遍历完成前字段列表可能尚不完整。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GeoJsonLayerCursor extends AbstractLayerCursor {
+
+    private final JsonParser parser;
+
+    private final FieldInference fieldInference;
+
+    private final Map<String, OguField> fixedFields;
+
+    private final GeometryNormalizeType normalizeType;
+
+    private boolean inFeatures;
+
+    /**
+     * 构造函数（简化所有几何）
+     * <p>
+     * 读取features数组之前的图层信息，并预读第一个要素以确定几何类型。
+     * 构造失败时解析器由调用方负责关闭。
+     * </p>
+     *
+     * @param parser      位于文档开头的JSON解析器
+     * @param defaultName 文档未声明name成员时使用的图层名称
+     * @throws IOException 解析失败时抛出异常
+     */
+    public GeoJsonLayerCursor(JsonParser parser, String defaultName) throws IOException {
+        this(parser, defaultName, GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param parser        位于文档开头的JSON解析器
+     * @param defaultName   文档未声明name成员时使用的图层名称
+     * @param normalizeType 几何规范化方式
+     * @throws IOException 解析失败时抛出异常
+     */
+    public GeoJsonLayerCursor(JsonParser parser, String defaultName, GeometryNormalizeType normalizeType)
+            throws IOException {
+        this(parser, defaultName, normalizeType, null);
+    }
+
+    /**
+     * 构造函数（使用预扫描字段）
+     * <p>
+     * 图层结构直接使用传入的字段列表，遍历过程中不再追加或放宽字段，
+     * 未出现在字段列表中的属性被忽略。
+     * </p>
+     *
+     * @param parser        位于文档开头的JSON解析器
+     * @param defaultName   文档未声明name成员时使用的图层名称
+     * @param normalizeType 几何规范化方式
+     * @param fields        预扫描的字段列表，为null时由遍历的要素逐步推断
+     * @throws IOException 解析失败时抛出异常
+     * @see #scanFields(JsonParser)
+     */
+    public GeoJsonLayerCursor(JsonParser parser, String defaultName, GeometryNormalizeType normalizeType,
+                              List<OguField> fields) throws IOException {
+        super(new OguLayer());
+        this.parser = parser;
+        this.normalizeType = normalizeType;
+
+        OguLayer schema = getSchema();
+        schema.setName(defaultName);
+        if (fields == null) {
+            fieldInference = new FieldInference(new ArrayList<>());
+            fixedFields = null;
+            schema.setFields(fieldInference.fields);
+        } else {
+            fieldInference = null;
+            fixedFields = new HashMap<>();
+            for (OguField field : fields) {
+                fixedFields.put(field.getName(), field);
+            }
+            schema.setFields(new ArrayList<>(fields));
+        }
+        schema.setFeatures(new ArrayList<>());
+        Integer wkid = readHeader();
+        schema.setWkid(wkid == null ? GeoJsonUtil.DEFAULT_WKID : wkid);
+        schema.setTolerance(CrsUtil.getTolerance(schema.getWkid()));
+
+        hasNext();
+        schema.validate();
+    }
+
+    /**
+     * 扫描整个文档推断字段列表
+     * <p>
+     * 只解析各要素的properties成员，几何等其他成员直接跳过。解析器由调用方负责关闭。
+     * </p>
+     *
+     * @param parser 位于文档开头的JSON解析器
+     * @return 按属性首次出现顺序排列的字段列表
+     * @throws IOException 解析失败时抛出异常
+     */
+    public static List<OguField> scanFields(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "GeoJSON root must be an object");
+        }
+
+        FieldInference inference = new FieldInference(new ArrayList<>());
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (!"features".equals(name) || token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String member = parser.currentName();
+                    if (parser.nextToken() == JsonToken.START_OBJECT && "properties".equals(member)) {
+                        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                            String property = parser.currentName();
+                            parser.nextToken();
+                            inference.add(property, GeoJsonUtil.readValue(parser));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "GeoJSON feature must be an object");
+            }
+        }
+        return inference.fields;
+    }
+
+    private Integer readHeader() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "GeoJSON root must be an object");
+        }
+
+        Integer wkid = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "name":
+                    if (token == JsonToken.VALUE_STRING && CharSequenceUtil.isNotBlank(parser.getText())) {
+                        getSchema().setName(parser.getText());
+                    }
+                    break;
+                case "crs":
+                    wkid = GeoJsonUtil.readCrs(parser);
+                    break;
+                case "features":
+                    if (token == JsonToken.START_ARRAY) {
+                        inFeatures = true;
+                        return wkid;
+                    }
+                    parser.skipChildren();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return wkid;
+    }
+
+    @Override
+    protected OguFeature readNext() throws IOException {
+        if (!inFeatures) {
+            return null;
+        }
+
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.END_ARRAY) {
+            inFeatures = false;
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "GeoJSON feature must be an object");
+        }
+        return readFeature();
+    }
+
+    private OguFeature readFeature() throws IOException {
+        OguLayer schema = getSchema();
+        OguFeature oguFeature = new OguFeature();
+        List<OguFieldValue> fieldValues = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "id":
+                    if (token != JsonToken.VALUE_NULL) {
+                        oguFeature.setId(parser.getText());
+                    }
+                    break;
+                case "geometry":
+                    if (token == JsonToken.START_OBJECT) {
+                        Geometry geometry = GeoJsonUtil.readGeometry(parser);
+                        if (normalizeType == GeometryNormalizeType.NONE) {
+                            oguFeature.setJtsGeometry(geometry);
+                        } else {
+                            byte[] wkb = GeometryUtil.geometry2Wkb(geometry);
+                            oguFeature.setGeometryWkb(GeometryUtil.normalizeWkb(wkb, schema.getWkid(), normalizeType));
+                        }
+                        if (schema.getGeometryType() == null) {
+                            schema.setGeometryType(GeometryUtil.geometryType(geometry));
+                        }
+                    }
+                    break;
+                case "properties":
+                    if (token == JsonToken.START_OBJECT) {
+                        readProperties(fieldValues);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        if (CharSequenceUtil.isBlank(oguFeature.getId())) {
+            oguFeature.setId(IdUtil.simpleUUID());
+        }
+        oguFeature.setAttributes(fieldValues);
+        oguFeature.bind(schema.getFieldSchema());
+        return oguFeature;
+    }
+
+    private void readProperties(List<OguFieldValue> fieldValues) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            Object value = GeoJsonUtil.readValue(parser);
+
+            OguField field;
+            if (fixedFields == null) {
+                field = fieldInference.add(name, value);
+            } else {
+                field = fixedFields.get(name);
+                if (field == null) {
+                    continue;
+                }
+                value = convertValue(value, field.getDataType());
+            }
+
+            OguFieldValue fieldValue = new OguFieldValue();
+            fieldValue.setField(field);
+            fieldValue.setValue(value);
+            fieldValues.add(fieldValue);
+        }
+    }
+
+    /**
+     * 按最终的字段类型转换已读取要素的属性值
+     * <p>
+     * 未使用预扫描字段时，字段类型可能在读取后续要素时被放宽，先前读取的属性值仍为原类型；
+     * 遍历完成后对全部要素调用此方法，使属性值与使用预扫描字段的游标一致。只转换类型被放宽过的字段。
+     * </p>
+     *
+     * @param features 本游标读取的要素
+     */
+    void convertWidenedValues(List<OguFeature> features) {
+        if (fieldInference == null || fieldInference.widenedFields.isEmpty()) {
+            return;
+        }
+        Set<OguField> widenedFields = fieldInference.widenedFields;
+        for (OguFeature feature : features) {
+            if (feature.getAttributes() == null) {
+                continue;
+            }
+            for (OguFieldValue fieldValue : feature.getAttributes()) {
+                OguField field = fieldValue.getField();
+                if (widenedFields.contains(field)) {
+                    fieldValue.setValue(convertValue(fieldValue.getValue(), field.getDataType()));
+                }
+            }
+        }
+    }
+
+    private static Object convertValue(Object value, FieldDataType dataType) {
+        if (value == null) {
+            return null;
+        }
+        switch (dataType) {
+            case LONG:
+                return value instanceof Integer i ? Long.valueOf(i) : value;
+            case DOUBLE:
+                return value instanceof Number n && !(value instanceof Double) ? n.doubleValue() : value;
+            case STRING:
+                return value instanceof String ? value : value.toString();
+            default:
+                return value;
+        }
+    }
+
+    @Override
+    protected void doClose() throws IOException {
+        parser.close();
+    }
+
+    /**
+     * 由属性取值推断字段定义
+     */
+    private static final class FieldInference {
+        private final List<OguField> fields;
+
+        private final Map<String, OguField> fieldIndex = new HashMap<>();
+
+        private final Set<OguField> untypedFields = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private final Set<OguField> widenedFields = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private FieldInference(List<OguField> fields) {
+            this.fields = fields;
+        }
+
+        private OguField add(String name, Object value) {
+            OguField field = fieldIndex.get(name);
+            if (field == null) {
+                field = new OguField(name, name, FieldDataType.STRING);
+                fieldIndex.put(name, field);
+                untypedFields.add(field);
+                fields.add(field);
+            }
+            if (value != null) {
+                mergeDataType(field, value);
+            }
+            return field;
+        }
+
+        private void mergeDataType(OguField field, Object value) {
+            FieldDataType type;
+            if (value instanceof Integer) {
+                type = FieldDataType.INTEGER;
+            } else if (value instanceof Long) {
+                type = FieldDataType.LONG;
+            } else if (value instanceof Double) {
+                type = FieldDataType.DOUBLE;
+            } else {
+                type = FieldDataType.STRING;
+            }
+
+            if (untypedFields.remove(field)) {
+                field.setDataType(type);
+                return;
+            }
+
+            FieldDataType current = field.getDataType();
+            if (current == type) {
+                return;
+            }
+            widenedFields.add(field);
+            if (type == FieldDataType.STRING || current == FieldDataType.STRING) {
+                field.setDataType(FieldDataType.STRING);
+            } else if (current == FieldDataType.DOUBLE || type == FieldDataType.DOUBLE) {
+                field.setDataType(FieldDataType.DOUBLE);
+            } else {
+                field.setDataType(FieldDataType.LONG);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.znlgis.ogu4j.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import com.fasterxml.jackson.core.JsonParser;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
+import com.znlgis.ogu4j.engine.io.LayerCursor;
+import com.znlgis.ogu4j.engine.io.LayerReader;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.util.GeoJsonUtil;
+import com.znlgis.ogu4j.exception.FormatParseException;
+import com.znlgis.ogu4j.exception.OguException;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
+import com.znlgis.ogu4j.utils.EncodingUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * GeoJSON图层读取器
+ * <p>
+ * 基于Jackson流式API实现的GeoJSON读取器，单遍解析文件并直接生成OguFeature，
+ * 不经过GeoTools要素对象，也不会将整个文件读入字符串。
+ * 文件编码仅根据文件开头的内容检测，UTF-8文件直接以字节流解析。
+ * 路径以.gz结尾的文件按GZIP压缩的UTF-8文档解压读取。
+ * GeoJSON格式不支持属性过滤和空间过滤条件，相关参数会被忽略。
+ * 读取选项geometryNormalize指定几何规范化方式；完整读取图层时先按顺序解析全部要素，
+ * 再并行规范化要素几何，要素顺序与文件一致；字段类型在解析过程中被放宽时，
+ * 先读取的属性值在解析完成后按最终类型转换。
+ * 打开游标时先扫描一遍全部要素的属性推断字段，游标返回的图层结构即包含所有字段。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GeoJsonLayerCursor
+ */
+public class GeoJsonLayerReader implements LayerReader {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    @Override
+    public OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt)
+            throws OguException {
+        return read(path, layerName, attributeFilter, spatialFilterWkt, null);
+    }
+
+    @Override
+    public OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                         Map<String, Object> options) throws OguException {
+        GeometryNormalizeType normalizeType = GeometryNormalizeType.fromOptions(options);
+        try (GeoJsonLayerCursor cursor = openCursor(path, layerName, GeometryNormalizeType.NONE, false)) {
+            List<OguFeature> features = new ArrayList<>();
+            while (cursor.hasNext()) {
+                features.add(cursor.next());
+            }
+            cursor.convertWidenedValues(features);
+            GeometryUtil.normalizeGeometries(features, cursor.getSchema().getWkid(), normalizeType);
+
+            OguLayer layer = cursor.getSchema().copySchema();
+            layer.setFeatures(features);
+            return layer;
+        } catch (OguException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FormatParseException("Failed to read GeoJSON: " + path, e);
+        }
+    }
+
+    @Override
+    public LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt)
+            throws OguException {
+        return openCursor(path, layerName, GeometryNormalizeType.ALWAYS, true);
+    }
+
+    @Override
+    public LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                                  Map<String, Object> options) throws OguException {
+        return openCursor(path, layerName, GeometryNormalizeType.fromOptions(options), true);
+    }
+
+    private GeoJsonLayerCursor openCursor(String path, String layerName, GeometryNormalizeType normalizeType,
+                                          boolean scanFields) throws OguException {
+        JsonParser parser = null;
+        try {
+            File file = new File(path);
+            List<OguField> fields = null;
+            if (scanFields) {
+                try (JsonParser scanParser = createParser(file)) {
+                    fields = GeoJsonLayerCursor.scanFields(scanParser);
+                }
+            }
+
+            parser = createParser(file);
+            GeoJsonLayerCursor cursor = new GeoJsonLayerCursor(parser, defaultName(file), normalizeType, fields);
+            if (layerName != null) {
+                cursor.getSchema().setName(layerName);
+            }
+            return cursor;
+        } catch (Exception e) {
+            IoUtil.close(parser);
+            throw new FormatParseException("Failed to read GeoJSON: " + path, e);
+        }
+    }
+
+    private static JsonParser createParser(File file) throws IOException {
+        InputStream in = FileUtil.getInputStream(file);
+        try {
+            if (file.getName().toLowerCase().endsWith(GZIP_SUFFIX)) {
+                return GeoJsonUtil.JSON_FACTORY.createParser(new GZIPInputStream(in, IoUtil.DEFAULT_LARGE_BUFFER_SIZE));
+            }
+            Charset encoding = EncodingUtil.getFileEncoding(file);
+            return StandardCharsets.UTF_8.equals(encoding)
+                    ? GeoJsonUtil.JSON_FACTORY.createParser(in)
+                    : GeoJsonUtil.JSON_FACTORY.createParser(new InputStreamReader(in, encoding));
+        } catch (IOException | RuntimeException e) {
+            IoUtil.close(in);
+            throw e;
+        }
+    }
+
+    private static String defaultName(File file) {
+        String name = FileUtil.mainName(file);
+        return file.getName().toLowerCase().endsWith(GZIP_SUFFIX) ? FileUtil.mainName(name) : name;
+    }
+
+    @Override
+    public boolean supports(String path) {
+        if (path == null) {
+            return false;
+        }
+        String lowerPath = path.toLowerCase();
+        if (lowerPath.endsWith(GZIP_SUFFIX)) {
+            lowerPath = lowerPath.substring(0, lowerPath.length() - GZIP_SUFFIX.length());
+        }
+        return lowerPath.endsWith(".geojson") || lowerPath.endsWith(".json");
+    }
+}
@@ -0,0 +1,106 @@
+package com.znlgis.ogu4j.engine;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.znlgis.ogu4j.engine.io.AbstractLayerSink;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.util.GeoJsonUtil;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.IOException;
+
+/**
+ * GeoJSON图层要素写入通道
+ * <p>
+ * 基于Jackson流式生成器逐个写入要素，打开时写入FeatureCollection头部，
+ * 关闭时补全features数组和根对象并关闭生成器。
+ * 可指定坐标保留的小数位数，以减小输出体积。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GeoJsonLayerSink extends AbstractLayerSink {
+
+    private final JsonGenerator generator;
+
+    private final int precision;
+
+    /**
+     * 构造函数（坐标保留完整精度）
+     * <p>
+     * 构造失败时生成器由调用方负责关闭。
+     * </p>
+     *
+     * @param schema    目标图层结构（不含要素）
+     * @param generator JSON生成器
+     * @throws IOException 写入头部失败时抛出异常
+     */
+    public GeoJsonLayerSink(OguLayer schema, JsonGenerator generator) throws IOException {
+        this(schema, generator, GeoJsonUtil.FULL_PRECISION);
+    }
+
+    /**
+     * 构造函数
+     * <p>
+     * 构造失败时生成器由调用方负责关闭。
+     * </p>
+     *
+     * @param schema    目标图层结构（不含要素）
+     * @param generator JSON生成器
+     * @param precision 坐标保留的小数位数，小于0表示保留完整精度
+     * @throws IOException 写入头部失败时抛出异常
+     */
+    public GeoJsonLayerSink(OguLayer schema, JsonGenerator generator, int precision) throws IOException {
+        super(schema);
+        this.generator = generator;
+        this.precision = precision;
+
+        generator.writeStartObject();
+        generator.writeStringField("type", "FeatureCollection");
+        if (CharSequenceUtil.isNotBlank(schema.getName())) {
+            generator.writeStringField("name", schema.getName());
+        }
+        GeoJsonUtil.writeCrs(generator, schema.getWkid());
+        generator.writeArrayFieldStart("features");
+    }
+
+    @Override
+    protected void doWrite(OguFeature feature) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "Feature");
+        if (CharSequenceUtil.isNotBlank(feature.getId())) {
+            generator.writeStringField("id", feature.getId());
+        }
+
+        generator.writeFieldName("geometry");
+        Geometry geometry = feature.getJtsGeometry();
+        if (geometry != null) {
+            GeoJsonUtil.writeGeometry(generator, geometry, precision);
+        } else {
+            generator.writeNull();
+        }
+
+        generator.writeObjectFieldStart("properties");
+        for (OguField field : getSchema().getFields()) {
+            generator.writeFieldName(field.getName());
+            GeoJsonUtil.writeValue(generator, feature.getValue(field.getName()));
+        }
+        generator.writeEndObject();
+
+        generator.writeEndObject();
+    }
+
+    @Override
+    protected void doClose() throws IOException {
+        try {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.znlgis.ogu4j.engine;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.util.BooleanUtil;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.znlgis.ogu4j.engine.io.LayerSink;
+import com.znlgis.ogu4j.engine.io.LayerWriter;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.util.GeoJsonUtil;
+import com.znlgis.ogu4j.exception.DataSourceException;
+import com.znlgis.ogu4j.exception.OguException;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GeoJSON图层写入器
+ * <p>
+ * 基于Jackson流式API实现的GeoJSON写入器，逐个要素直接从OguFeature生成JSON并写入目标，
+ * 不构建GeoTools要素集合，也不会在内存中拼接整个文档。输出编码固定为UTF-8。
+ * 除文件路径外，也可直接写入任意OutputStream或WritableByteChannel（如HTTP响应流）。
+ * </p>
+ * <p>
+ * 支持的选项：
+ * </p>
+ * <ul>
+ *   <li>coordinatePrecision：坐标保留的小数位数（0~15），默认保留完整精度</li>
+ *   <li>gzip：是否以GZIP压缩输出，写入文件时路径以.gz结尾则默认压缩</li>
+ * </ul>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GeoJsonLayerSink
+ */
+public class GeoJsonLayerWriter implements LayerWriter {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    @Override
+    public void write(OguLayer layer, String path, String layerName, Map<String, Object> options)
+            throws OguException {
+        try (LayerSink sink = openSink(layer, path, layerName, options)) {
+            sink.write(layer.getFeatures());
+        }
+    }
+
+    /**
+     * 将图层写入输出流
+     * <p>
+     * 写入完成后输出流会被关闭。
+     * </p>
+     *
+     * @param layer     要写入的图层
+     * @param out       输出流
+     * @param layerName 图层名称，为null时使用图层自身名称
+     * @param options   写入选项，可为null
+     * @throws OguException 写入失败时抛出异常
+     */
+    public void write(OguLayer layer, OutputStream out, String layerName, Map<String, Object> options)
+            throws OguException {
+        try (LayerSink sink = openSink(layer, out, layerName, options)) {
+            sink.write(layer.getFeatures());
+        }
+    }
+
+    @Override
+    public LayerSink openSink(OguLayer schema, String path, String layerName, Map<String, Object> options)
+            throws OguException {
+        OutputStream out = null;
+        try {
+            out = FileUtil.getOutputStream(path);
+            boolean gzip = path.toLowerCase().endsWith(GZIP_SUFFIX);
+            return openSink(schema, out, layerName, options, gzip);
+        } catch (Exception e) {
+            IoUtil.close(out);
+            throw new DataSourceException("Failed to write GeoJSON: " + path, e);
+        }
+    }
+
+    /**
+     * 打开写入输出流的要素写入通道
+     * <p>
+     * 关闭写入通道时会同时关闭输出流。
+     * </p>
+     *
+     * @param schema    目标图层结构（要素集合会被忽略）
+     * @param out       输出流
+     * @param layerName 图层名称，为null时使用图层结构中的名称
+     * @param options   写入选项，可为null
+     * @return 要素写入通道
+     * @throws OguException 写入头部失败时抛出异常
+     */
+    public LayerSink openSink(OguLayer schema, OutputStream out, String layerName, Map<String, Object> options)
+            throws OguException {
+        try {
+            return openSink(schema, out, layerName, options, false);
+        } catch (Exception e) {
+            IoUtil.close(out);
+            throw new DataSourceException("Failed to write GeoJSON to output stream", e);
+        }
+    }
+
+    /**
+     * 打开写入通道的要素写入通道
+     * <p>
+     * 关闭写入通道时会同时关闭底层通道。
+     * </p>
+     *
+     * @param schema    目标图层结构（要素集合会被忽略）
+     * @param channel   可写字节通道
+     * @param layerName 图层名称，为null时使用图层结构中的名称
+     * @param options   写入选项，可为null
+     * @return 要素写入通道
+     * @throws OguException 写入头部失败时抛出异常
+     */
+    public LayerSink openSink(OguLayer schema, WritableByteChannel channel, String layerName,
+                              Map<String, Object> options) throws OguException {
+        return openSink(schema, Channels.newOutputStream(channel), layerName, options);
+    }
+
+    private LayerSink openSink(OguLayer schema, OutputStream out, String layerName, Map<String, Object> options,
+                               boolean defaultGzip) throws IOException {
+        OguLayer layer = schema.copySchema();
+        GeometryUtil.excludeSpecialFields(layer.getFields());
+        if (layerName != null) {
+            layer.setName(layerName);
+        }
+
+        OutputStream target = out;
+        JsonGenerator generator = null;
+        try {
+            if (isGzip(options, defaultGzip)) {
+                target = new GZIPOutputStream(out, IoUtil.DEFAULT_LARGE_BUFFER_SIZE);
+            }
+            generator = GeoJsonUtil.JSON_FACTORY.createGenerator(target, JsonEncoding.UTF8);
+            return new GeoJsonLayerSink(layer, generator, getPrecision(options));
+        } catch (IOException | RuntimeException e) {
+            IoUtil.close(generator);
+            IoUtil.close(target);
+            throw e;
+        }
+    }
+
+    private static boolean isGzip(Map<String, Object> options, boolean defaultGzip) {
+        Object gzip = options == null ? null : options.get("gzip");
+        if (gzip == null) {
+            return defaultGzip;
+        }
+        return gzip instanceof Boolean b ? b : BooleanUtil.toBoolean(gzip.toString());
+    }
+
+    private static int getPrecision(Map<String, Object> options) {
+        Object precision = options == null ? null : options.get("coordinatePrecision");
+        if (precision == null) {
+            return GeoJsonUtil.FULL_PRECISION;
+        }
+        int value = precision instanceof Number n ? n.intValue() : Integer.parseInt(precision.toString().trim());
+        if (value > GeoJsonUtil.MAX_PRECISION) {
+            throw new IllegalArgumentException("coordinatePrecision must not exceed " + GeoJsonUtil.MAX_PRECISION);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean supports(String path) {
+        if (path == null) {
+            return false;
+        }
+        String lowerPath = path.toLowerCase();
+        if (lowerPath.endsWith(GZIP_SUFFIX)) {
+            lowerPath = lowerPath.substring(0, lowerPath.length() - GZIP_SUFFIX.length());
+        }
+        return lowerPath.endsWith(".geojson") || lowerPath.endsWith(".json");
+    }
+}
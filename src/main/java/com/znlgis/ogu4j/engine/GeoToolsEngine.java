@@ -15,7 +15,7 @@ import java.util.Set;
  * GeoTools引擎实现
  * <p>
  * 基于GeoTools库的GIS引擎实现。
- * 支持Shapefile、GeoJSON、PostGIS等格式。
+ * 支持Shapefile、GeoJSON、PostGIS等格式，其中GeoJSON使用基于Jackson流式API的读写器。
  * 纯Java实现，无需额外的本地库依赖。
  * </p>
  *
@@ -55,6 +55,9 @@ public class GeoToolsEngine implements GisEngine {
             throw new EngineNotSupportedException(
                     String.format("GeoTools engine does not support reading format: %s", formatType));
         }
+        if (formatType == DataFormatType.GEOJSON) {
+            return new GeoJsonLayerReader();
+        }
         return new GeoToolsLayerReader(formatType);
     }
 
@@ -64,6 +67,9 @@ public class GeoToolsEngine implements GisEngine {
             throw new EngineNotSupportedException(
                     String.format("GeoTools engine does not support writing format: %s", formatType));
         }
+        if (formatType == DataFormatType.GEOJSON) {
+            return new GeoJsonLayerWriter();
+        }
         return new GeoToolsLayerWriter(formatType);
     }
 
@@ -0,0 +1,68 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.collection.BaseSimpleFeatureCollection;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 基于OguLayer的惰性GeoTools要素集合
+ * <p>
+ * 不预先生成SimpleFeature，每次遍历时通过{@link GeoToolsFeatureEncoder}逐个转换图层要素，
+ * 内存中只保留源图层的要素，适合交给GeoTools的写入、导出等按迭代器消费要素集合的接口。
+ * 每个迭代器使用独立的编码计划，可以同时打开多个迭代器。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GeoToolsFeatureCollection extends BaseSimpleFeatureCollection {
+
+    private final OguLayer layer;
+
+    /**
+     * 构造函数
+     *
+     * @param featureType 要素类型
+     * @param layer       源图层
+     */
+    public GeoToolsFeatureCollection(SimpleFeatureType featureType, OguLayer layer) {
+        super(featureType);
+        this.layer = layer;
+    }
+
+    @Override
+    public SimpleFeatureIterator features() {
+        GeoToolsFeatureEncoder encoder = new GeoToolsFeatureEncoder(getSchema(), layer);
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        Iterator<OguFeature> iterator = features.iterator();
+        return new SimpleFeatureIterator() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public SimpleFeature next() throws NoSuchElementException {
+                return encoder.encode(iterator.next());
+            }
+
+            @Override
+            public void close() {
+                // 源要素位于内存中，无需释放资源
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return layer.getFeatureCount();
+    }
+}
@@ -0,0 +1,151 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * GeoTools要素编码计划
+ * <p>
+ * 针对目标SimpleFeatureType和源图层预先编译"要素描述符序号 → 源字段序号"的映射，
+ * 转换每个要素时按序号取值并复用同一个SimpleFeatureBuilder，不再按字段逐个比较名称。
+ * 源要素绑定了源图层的字段结构时按序号取值，否则按字段名称取值。
+ * </p>
+ * <p>
+ * {@link #encode(OguFeature)}复用内部的构建器，不是线程安全的；
+ * {@link #copyTo(OguFeature, SimpleFeature)}不修改编码计划的状态，可由多个线程共享同一实例。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GeoToolsFeatureEncoder {
+
+    private final SimpleFeatureType featureType;
+
+    private final OguFieldSchema sourceSchema;
+
+    private final int geometryIndex;
+
+    private final int[] descriptorIndexes;
+
+    private final int[] sourceOrdinals;
+
+    private final String[] sourceNames;
+
+    private SimpleFeatureBuilder builder;
+
+    /**
+     * 构造函数（按属性名称匹配源字段，不区分大小写）
+     *
+     * @param featureType 目标要素类型
+     * @param source      源图层结构
+     */
+    public GeoToolsFeatureEncoder(SimpleFeatureType featureType, OguLayer source) {
+        this(featureType, source, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param featureType 目标要素类型
+     * @param source      源图层结构
+     * @param fieldMap    目标属性名与源字段名的映射，为null时按属性名称匹配源字段（不区分大小写）；
+     *                    不为null时未出现在映射中的属性不会被赋值
+     */
+    public GeoToolsFeatureEncoder(SimpleFeatureType featureType, OguLayer source, Map<String, String> fieldMap) {
+        this.featureType = featureType;
+        this.sourceSchema = source.getFieldSchema();
+
+        GeometryDescriptor geometryDescriptor = featureType.getGeometryDescriptor();
+        this.geometryIndex = geometryDescriptor == null ? -1 : featureType.indexOf(geometryDescriptor.getName());
+
+        int count = featureType.getAttributeCount();
+        int[] indexes = new int[count];
+        int[] ordinals = new int[count];
+        String[] names = new String[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == geometryIndex) {
+                continue;
+            }
+            String targetName = featureType.getDescriptor(i).getLocalName();
+            String sourceName = fieldMap == null ? targetName : fieldMap.get(targetName);
+            int ordinal = sourceSchema.indexOf(sourceName);
+            if (ordinal >= 0) {
+                indexes[size] = i;
+                ordinals[size] = ordinal;
+                names[size] = sourceSchema.getField(ordinal).getName();
+                size++;
+            }
+        }
+        this.descriptorIndexes = Arrays.copyOf(indexes, size);
+        this.sourceOrdinals = Arrays.copyOf(ordinals, size);
+        this.sourceNames = Arrays.copyOf(names, size);
+    }
+
+    /**
+     * 获取目标要素类型
+     *
+     * @return 目标要素类型
+     */
+    public SimpleFeatureType getFeatureType() {
+        return featureType;
+    }
+
+    /**
+     * 将OguFeature转换为目标要素类型的SimpleFeature
+     *
+     * @param feature OguFeature要素对象
+     * @return GeoTools SimpleFeature要素
+     */
+    public SimpleFeature encode(OguFeature feature) {
+        if (builder == null) {
+            builder = new SimpleFeatureBuilder(featureType);
+        }
+        if (geometryIndex >= 0) {
+            builder.set(geometryIndex, toGeometry(feature));
+        }
+        boolean bound = feature.getFieldSchema() == sourceSchema;
+        for (int i = 0; i < descriptorIndexes.length; i++) {
+            builder.set(descriptorIndexes[i], valueOf(feature, bound, i));
+        }
+        return builder.buildFeature(null);
+    }
+
+    /**
+     * 将OguFeature的几何和属性值直接写入目标要素
+     * <p>
+     * 用于FeatureWriter返回的待写入要素，无需先构建中间要素。
+     * </p>
+     *
+     * @param feature OguFeature要素对象
+     * @param target  目标要素类型的要素
+     */
+    public void copyTo(OguFeature feature, SimpleFeature target) {
+        if (geometryIndex >= 0) {
+            target.setAttribute(geometryIndex, toGeometry(feature));
+        }
+        boolean bound = feature.getFieldSchema() == sourceSchema;
+        for (int i = 0; i < descriptorIndexes.length; i++) {
+            target.setAttribute(descriptorIndexes[i], valueOf(feature, bound, i));
+        }
+    }
+
+    private Object valueOf(OguFeature feature, boolean bound, int i) {
+        return bound ? feature.getValue(sourceOrdinals[i]) : feature.getValue(sourceNames[i]);
+    }
+
+    private static Geometry toGeometry(OguFeature feature) {
+        return feature.getJtsGeometry();
+    }
+}
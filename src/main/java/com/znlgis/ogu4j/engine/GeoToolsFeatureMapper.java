@@ -0,0 +1,136 @@
+package com.znlgis.ogu4j.engine;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.util.IdUtil;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * GeoTools要素转换映射
+ * <p>
+ * 针对一个SimpleFeatureType预先编译"图层字段序号 → 要素描述符序号"的映射，
+ * 转换每个要素时按序号直接读取属性值和几何，不再按字段名称查找字段定义或描述符。
+ * 同一要素类型的所有要素应共享同一个映射实例。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class GeoToolsFeatureMapper {
+
+    private final OguLayer layer;
+
+    private final OguFieldSchema fieldSchema;
+
+    private final OguField[] fields;
+
+    private final int[] descriptorIndexes;
+
+    private final int geometryIndex;
+
+    private final GeometryNormalizeType normalizeType;
+
+    /**
+     * 构造函数（简化所有几何）
+     * <p>
+     * 图层字段与要素描述符按名称（不区分大小写）匹配，几何描述符不参与字段映射；
+     * 在要素类型中找不到对应描述符的字段，其属性值始终为null。
+     * </p>
+     *
+     * @param featureType GeoTools要素类型
+     * @param layer       要素所属的图层结构
+     */
+    public GeoToolsFeatureMapper(SimpleFeatureType featureType, OguLayer layer) {
+        this(featureType, layer, GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param featureType   GeoTools要素类型
+     * @param layer         要素所属的图层结构
+     * @param normalizeType 转换要素时的几何规范化方式
+     */
+    public GeoToolsFeatureMapper(SimpleFeatureType featureType, OguLayer layer, GeometryNormalizeType normalizeType) {
+        this.layer = layer;
+        this.normalizeType = normalizeType;
+        this.fieldSchema = layer.getFieldSchema();
+        this.fields = new OguField[fieldSchema.size()];
+        this.descriptorIndexes = new int[fieldSchema.size()];
+
+        GeometryDescriptor geometryDescriptor = featureType.getGeometryDescriptor();
+        this.geometryIndex = geometryDescriptor == null ? -1 : featureType.indexOf(geometryDescriptor.getName());
+
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fieldSchema.getField(i);
+            descriptorIndexes[i] = descriptorIndexOf(featureType, fields[i].getName());
+        }
+    }
+
+    private int descriptorIndexOf(SimpleFeatureType featureType, String fieldName) {
+        int index = featureType.indexOf(fieldName);
+        if (index < 0) {
+            for (int i = 0; i < featureType.getAttributeCount(); i++) {
+                AttributeDescriptor descriptor = featureType.getDescriptor(i);
+                if (CharSequenceUtil.equals(descriptor.getLocalName(), fieldName, true)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        return index == geometryIndex ? -1 : index;
+    }
+
+    /**
+     * 将GeoTools SimpleFeature转换为OguFeature
+     * <p>
+     * 转换后的要素已绑定图层的字段结构。
+     * 如果图层尚未确定几何类型，将根据当前要素的几何补齐。
+     * </p>
+     *
+     * @param feature GeoTools要素
+     * @return OguFeature要素对象
+     */
+    public OguFeature toOguFeature(SimpleFeature feature) {
+        OguFeature oguFeature = new OguFeature();
+
+        String id = feature.getID();
+        if (CharSequenceUtil.isBlank(id)) {
+            id = IdUtil.simpleUUID();
+        }
+        oguFeature.setId(id);
+
+        Geometry geometry = (Geometry) (geometryIndex >= 0
+                ? feature.getAttribute(geometryIndex) : feature.getDefaultGeometry());
+        if (geometry != null) {
+            if (normalizeType == GeometryNormalizeType.NONE) {
+                oguFeature.setJtsGeometry(geometry);
+            } else {
+                byte[] wkb = GeometryUtil.geometry2Wkb(geometry);
+                oguFeature.setGeometryWkb(GeometryUtil.normalizeWkb(wkb, layer.getWkid(), normalizeType));
+            }
+            if (layer.getGeometryType() == null) {
+                layer.setGeometryType(GeometryUtil.geometryType(geometry));
+            }
+        }
+
+        OguFieldValue[] values = new OguFieldValue[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            int index = descriptorIndexes[i];
+            values[i] = new OguFieldValue(fields[i], index < 0 ? null : feature.getAttribute(index));
+        }
+        oguFeature.setAttributes(fieldSchema, values);
+        return oguFeature;
+    }
+}
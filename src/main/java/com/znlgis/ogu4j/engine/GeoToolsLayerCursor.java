@@ -0,0 +1,94 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
+import com.znlgis.ogu4j.engine.io.AbstractLayerCursor;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.feature.FeatureIterator;
+
+/**
+ * GeoTools图层要素游标
+ * <p>
+ * 基于GeoTools FeatureIterator逐个读取要素，并按打开时编译的字段映射转换，
+ * 游标关闭时依次关闭迭代器和底层数据存储。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GeoToolsLayerCursor extends AbstractLayerCursor {
+
+    private final GeoToolsFeatureMapper mapper;
+
+    private final FeatureIterator<SimpleFeature> iterator;
+
+    private final AutoCloseable[] resources;
+
+    /**
+     * 构造函数
+     * <p>
+     * 如果图层结构中缺少几何类型，将预读第一个要素补齐后再校验图层结构。
+     * 构造失败时会关闭迭代器，底层数据存储由调用方负责释放。
+     * </p>
+     *
+     * @param schema      图层结构（不含要素）
+     * @param featureType GeoTools要素类型
+     * @param iterator    GeoTools要素迭代器
+     * @param resources   游标关闭时需要一并释放的资源
+     */
+    public GeoToolsLayerCursor(OguLayer schema, SimpleFeatureType featureType,
+                               FeatureIterator<SimpleFeature> iterator, AutoCloseable... resources) {
+        this(schema, featureType, iterator, GeometryNormalizeType.ALWAYS, resources);
+    }
+
+    /**
+     * 构造函数
+     * <p>
+     * 游标逐个读取要素，几何规范化在读取线程中按顺序执行。
+     * </p>
+     *
+     * @param schema        图层结构（不含要素）
+     * @param featureType   GeoTools要素类型
+     * @param iterator      GeoTools要素迭代器
+     * @param normalizeType 几何规范化方式
+     * @param resources     游标关闭时需要一并释放的资源
+     */
+    public GeoToolsLayerCursor(OguLayer schema, SimpleFeatureType featureType, FeatureIterator<SimpleFeature> iterator,
+                               GeometryNormalizeType normalizeType, AutoCloseable... resources) {
+        super(schema);
+        this.iterator = iterator;
+        this.resources = resources;
+        try {
+            this.mapper = new GeoToolsFeatureMapper(featureType, schema, normalizeType);
+            if (schema.getGeometryType() == null) {
+                hasNext();
+            }
+            schema.validate();
+        } catch (RuntimeException e) {
+            iterator.close();
+            throw e;
+        }
+    }
+
+    @Override
+    protected OguFeature readNext() {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        return mapper.toOguFeature(iterator.next());
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        try {
+            iterator.close();
+        } finally {
+            for (AutoCloseable resource : resources) {
+                resource.close();
+            }
+        }
+    }
+}
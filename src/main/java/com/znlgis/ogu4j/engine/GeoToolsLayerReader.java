@@ -1,40 +1,33 @@
 package com.znlgis.ogu4j.engine;
 
-import cn.hutool.core.io.FileUtil;
-import cn.hutool.core.text.CharSequenceUtil;
-import cn.hutool.core.util.IdUtil;
 import com.znlgis.ogu4j.engine.util.CrsUtil;
-import com.znlgis.ogu4j.utils.EncodingUtil;
 import com.znlgis.ogu4j.engine.util.GeotoolsUtil;
 import com.znlgis.ogu4j.datasource.GtTxtUtil;
 import com.znlgis.ogu4j.engine.util.PostgisUtil;
 import com.znlgis.ogu4j.engine.util.ShpUtil;
 import com.znlgis.ogu4j.engine.enums.DataFormatType;
 import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
 import com.znlgis.ogu4j.engine.enums.GeometryType;
 import com.znlgis.ogu4j.exception.DataSourceException;
 import com.znlgis.ogu4j.exception.FormatParseException;
 import com.znlgis.ogu4j.exception.OguException;
-import com.znlgis.ogu4j.geometry.GeometryUtil;
+import com.znlgis.ogu4j.engine.io.LayerCursor;
 import com.znlgis.ogu4j.engine.io.LayerReader;
 import com.znlgis.ogu4j.engine.model.DbConnBaseModel;
 import com.znlgis.ogu4j.engine.model.layer.OguFeature;
 import com.znlgis.ogu4j.engine.model.layer.OguField;
-import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
 import org.geotools.api.data.SimpleFeatureSource;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.GeometryDescriptor;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
-import org.geotools.data.collection.ListFeatureCollection;
 import org.geotools.data.shapefile.ShapefileDataStore;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.feature.FeatureIterator;
-import org.geotools.geojson.feature.FeatureJSON;
-import org.geotools.geojson.geom.GeometryJSON;
 import org.geotools.jdbc.JDBCDataStore;
-import org.locationtech.jts.geom.Geometry;
 
 import java.io.File;
 import java.nio.charset.Charset;
@@ -68,13 +61,20 @@ public class GeoToolsLayerReader implements LayerReader {
     @Override
     public OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt)
             throws OguException {
+        return read(path, layerName, attributeFilter, spatialFilterWkt, null);
+    }
+
+    @Override
+    public OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                         Map<String, Object> options) throws OguException {
+        GeometryNormalizeType normalizeType = GeometryNormalizeType.fromOptions(options);
         switch (formatType) {
             case SHP:
-                return readShapefile(path, attributeFilter, spatialFilterWkt);
+                return readShapefile(path, attributeFilter, spatialFilterWkt, normalizeType);
             case GEOJSON:
-                return readGeoJSON(path);
+                return new GeoJsonLayerReader().read(path, layerName, attributeFilter, spatialFilterWkt, options);
             case POSTGIS:
-                return readPostGIS(path, layerName, attributeFilter, spatialFilterWkt);
+                return readPostGIS(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
             case TXT:
                 return readTxt(path);
             default:
@@ -82,6 +82,30 @@ public class GeoToolsLayerReader implements LayerReader {
         }
     }
 
+    @Override
+    public LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt)
+            throws OguException {
+        return openCursor(path, layerName, attributeFilter, spatialFilterWkt, null);
+    }
+
+    @Override
+    public LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                                  Map<String, Object> options) throws OguException {
+        GeometryNormalizeType normalizeType = GeometryNormalizeType.fromOptions(options);
+        switch (formatType) {
+            case SHP:
+                return openShapefileCursor(path, attributeFilter, spatialFilterWkt, normalizeType);
+            case GEOJSON:
+                return new GeoJsonLayerReader().openCursor(path, layerName, attributeFilter, spatialFilterWkt, options);
+            case POSTGIS:
+                return openPostGISCursor(path, layerName, attributeFilter, spatialFilterWkt, normalizeType);
+            case TXT:
+                return LayerCursor.of(readTxt(path));
+            default:
+                throw new DataSourceException("Unsupported format: " + formatType);
+        }
+    }
+
     @Override
     public boolean supports(String path) {
         if (path == null) {
@@ -102,8 +126,8 @@ public class GeoToolsLayerReader implements LayerReader {
         }
     }
 
-    private OguLayer readShapefile(String shpPath, String attributeFilter, String spatialFilterWkt)
-            throws OguException {
+    private OguLayer readShapefile(String shpPath, String attributeFilter, String spatialFilterWkt,
+                                   GeometryNormalizeType normalizeType) throws OguException {
         try {
             Charset shpCharset = ShpUtil.check(shpPath);
             File file = new File(shpPath);
@@ -113,46 +137,67 @@ public class GeoToolsLayerReader implements LayerReader {
             SimpleFeatureSource source = shpDataStore.getFeatureSource(typeName);
             SimpleFeatureCollection simpleFeatureCollection = GeotoolsUtil.filter(source, attributeFilter, spatialFilterWkt);
             shpDataStore.dispose();
-            return fromSimpleFeatureCollection(simpleFeatureCollection);
+            return fromSimpleFeatureCollection(simpleFeatureCollection, normalizeType);
         } catch (Exception e) {
             throw new DataSourceException("Failed to read Shapefile: " + shpPath, e);
         }
     }
 
-    private OguLayer readGeoJSON(String geojsonPath) throws OguException {
+    private OguLayer readPostGIS(String connStr, String layerName, String attributeFilter, String spatialFilterWkt,
+                                 GeometryNormalizeType normalizeType) throws OguException {
         try {
-            File file = new File(geojsonPath);
-            Charset encoding = EncodingUtil.getFileEncoding(file);
-            String geojsonString = FileUtil.readString(file, encoding);
-
-            GeometryJSON gjson = new GeometryJSON(16);
-            FeatureJSON fjson = new FeatureJSON(gjson);
-
-            SimpleFeatureType simpleFeatureType = fjson.readFeatureCollectionSchema(geojsonString, true);
-            ListFeatureCollection featureCollection = new ListFeatureCollection(simpleFeatureType);
-            try (FeatureIterator<SimpleFeature> features = fjson.streamFeatureCollection(geojsonString)) {
-                while (features.hasNext()) {
-                    featureCollection.add(features.next());
-                }
-            }
+            DbConnBaseModel dbConnBaseModel = PostgisUtil.parseConnectionString(connStr);
+            JDBCDataStore dataStore = PostgisUtil.getPostgisDataStore(dbConnBaseModel);
+            SimpleFeatureSource source = dataStore.getFeatureSource(layerName);
+            SimpleFeatureCollection simpleFeatureCollection = GeotoolsUtil.filter(source, attributeFilter, spatialFilterWkt);
+            dataStore.dispose();
+            return fromSimpleFeatureCollection(simpleFeatureCollection, normalizeType);
+        } catch (Exception e) {
+            throw new DataSourceException("Failed to read PostGIS layer: " + layerName, e);
+        }
+    }
 
-            return fromSimpleFeatureCollection(featureCollection);
+    private LayerCursor openShapefileCursor(String shpPath, String attributeFilter, String spatialFilterWkt,
+                                            GeometryNormalizeType normalizeType) throws OguException {
+        ShapefileDataStore shpDataStore = null;
+        try {
+            Charset shpCharset = ShpUtil.check(shpPath);
+            File file = new File(shpPath);
+            shpDataStore = new ShapefileDataStore(file.toURI().toURL());
+            shpDataStore.setCharset(shpCharset);
+            String typeName = shpDataStore.getTypeNames()[0];
+            SimpleFeatureSource source = shpDataStore.getFeatureSource(typeName);
+            SimpleFeatureCollection featureCollection = GeotoolsUtil.query(source, attributeFilter, spatialFilterWkt);
+            SimpleFeatureType featureType = featureCollection.getSchema();
+            OguLayer schema = toOguLayerSchema(featureType);
+            return new GeoToolsLayerCursor(schema, featureType, featureCollection.features(), normalizeType,
+                    shpDataStore::dispose);
         } catch (Exception e) {
-            throw new FormatParseException("Failed to parse GeoJSON: " + geojsonPath, e);
+            if (shpDataStore != null) {
+                shpDataStore.dispose();
+            }
+            throw new DataSourceException("Failed to open Shapefile cursor: " + shpPath, e);
         }
     }
 
-    private OguLayer readPostGIS(String connStr, String layerName, String attributeFilter, String spatialFilterWkt)
+    private LayerCursor openPostGISCursor(String connStr, String layerName, String attributeFilter,
+                                          String spatialFilterWkt, GeometryNormalizeType normalizeType)
             throws OguException {
+        JDBCDataStore dataStore = null;
         try {
             DbConnBaseModel dbConnBaseModel = PostgisUtil.parseConnectionString(connStr);
-            JDBCDataStore dataStore = PostgisUtil.getPostgisDataStore(dbConnBaseModel);
+            dataStore = PostgisUtil.getPostgisDataStore(dbConnBaseModel);
             SimpleFeatureSource source = dataStore.getFeatureSource(layerName);
-            SimpleFeatureCollection simpleFeatureCollection = GeotoolsUtil.filter(source, attributeFilter, spatialFilterWkt);
-            dataStore.dispose();
-            return fromSimpleFeatureCollection(simpleFeatureCollection);
+            SimpleFeatureCollection featureCollection = GeotoolsUtil.query(source, attributeFilter, spatialFilterWkt);
+            SimpleFeatureType featureType = featureCollection.getSchema();
+            OguLayer schema = toOguLayerSchema(featureType);
+            return new GeoToolsLayerCursor(schema, featureType, featureCollection.features(), normalizeType,
+                    dataStore::dispose);
         } catch (Exception e) {
-            throw new DataSourceException("Failed to read PostGIS layer: " + layerName, e);
+            if (dataStore != null) {
+                dataStore.dispose();
+            }
+            throw new DataSourceException("Failed to open PostGIS layer cursor: " + layerName, e);
         }
     }
 
@@ -171,8 +216,48 @@ public class GeoToolsLayerReader implements LayerReader {
      * @return OguLayer图层对象
      */
     public static OguLayer fromSimpleFeatureCollection(SimpleFeatureCollection featureCollection) {
-        OguLayer layer = new OguLayer();
+        return fromSimpleFeatureCollection(featureCollection, GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 将GeoTools SimpleFeatureCollection转换为OguLayer
+     * <p>
+     * 先在当前线程中按顺序转换全部要素，再按指定方式并行规范化要素几何，要素顺序与要素集合一致。
+     * </p>
+     *
+     * @param featureCollection GeoTools要素集合
+     * @param normalizeType     几何规范化方式
+     * @return OguLayer图层对象
+     */
+    public static OguLayer fromSimpleFeatureCollection(SimpleFeatureCollection featureCollection,
+                                                       GeometryNormalizeType normalizeType) {
         SimpleFeatureType featureType = featureCollection.getSchema();
+        OguLayer layer = toOguLayerSchema(featureType);
+        List<OguFeature> features = layer.getFeatures();
+        GeoToolsFeatureMapper mapper = new GeoToolsFeatureMapper(featureType, layer, GeometryNormalizeType.NONE);
+        try (FeatureIterator<SimpleFeature> featureIterator = featureCollection.features()) {
+            while (featureIterator.hasNext()) {
+                features.add(mapper.toOguFeature(featureIterator.next()));
+            }
+        }
+        GeometryUtil.normalizeGeometries(features, layer.getWkid(), normalizeType);
+
+        layer.validate();
+        return layer;
+    }
+
+    /**
+     * 将GeoTools SimpleFeatureType转换为不含要素的OguLayer
+     * <p>
+     * 如果要素类型的几何绑定类型为通用Geometry，图层的几何类型将保持为null，
+     * 由{@link GeoToolsFeatureMapper#toOguFeature(SimpleFeature)}根据第一个要素补齐。
+     * </p>
+     *
+     * @param featureType GeoTools要素类型
+     * @return 不含要素的OguLayer图层结构
+     */
+    public static OguLayer toOguLayerSchema(SimpleFeatureType featureType) {
+        OguLayer layer = new OguLayer();
         layer.setName(featureType.getName().getLocalPart());
         CoordinateReferenceSystem crs = featureType.getCoordinateReferenceSystem();
         Map.Entry<Integer, CoordinateReferenceSystem> entry = CrsUtil.standardizeCRS(crs);
@@ -198,46 +283,7 @@ public class GeoToolsLayerReader implements LayerReader {
             fields.add(field);
         }
         layer.setFields(fields);
-
-        List<OguFeature> features = new ArrayList<>();
-        try (FeatureIterator<SimpleFeature> featureIterator = featureCollection.features()) {
-            while (featureIterator.hasNext()) {
-                SimpleFeature feature = featureIterator.next();
-                OguFeature oguFeature = new OguFeature();
-
-                String id = feature.getID();
-                if (CharSequenceUtil.isBlank(id)) {
-                    id = IdUtil.simpleUUID();
-                }
-                oguFeature.setId(id);
-
-                String wkt = ((Geometry) feature.getDefaultGeometry()).toText();
-                oguFeature.setGeometry(GeometryUtil.simplifyWkt(wkt, layer.getWkid()));
-
-                if (layer.getGeometryType() == null) {
-                    layer.setGeometryType(GeometryUtil.geometryType(GeometryUtil.wkt2Geometry(wkt)));
-                }
-
-                List<OguFieldValue> fieldValues = new ArrayList<>();
-                for (int i = 0; i < feature.getAttributeCount(); i++) {
-                    String fn = featureType.getDescriptor(i).getLocalName();
-                    OguField field = fields.stream().filter(f ->
-                            CharSequenceUtil.equals(f.getName(), fn, true)).findFirst().orElse(null);
-                    if (field != null) {
-                        OguFieldValue fieldValue = new OguFieldValue();
-                        fieldValue.setField(field);
-                        fieldValue.setValue(feature.getAttribute(fn));
-                        fieldValues.add(fieldValue);
-                    }
-                }
-
-                oguFeature.setAttributes(fieldValues);
-                features.add(oguFeature);
-            }
-        }
-
-        layer.setFeatures(features);
-        layer.validate();
+        layer.setFeatures(new ArrayList<>());
         return layer;
     }
 }
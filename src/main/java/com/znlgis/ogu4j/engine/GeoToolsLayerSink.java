@@ -0,0 +1,106 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.io.AbstractLayerSink;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.geotools.api.data.FeatureWriter;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/**
+ * GeoTools图层要素写入通道
+ * <p>
+ * 基于GeoTools FeatureWriter逐个追加要素，要素属性按编码计划直接写入待写入要素。使用非自动提交事务时，每写入指定数量的要素提交一次，
+ * 通道关闭时提交剩余要素并依次释放写入器、事务和底层数据存储；写入失败或放弃时回滚剩余要素。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GeoToolsLayerSink extends AbstractLayerSink {
+
+    private final GeoToolsFeatureEncoder encoder;
+
+    private final FeatureWriter<SimpleFeatureType, SimpleFeature> writer;
+
+    private final Transaction transaction;
+
+    private final int batchSize;
+
+    private final AutoCloseable[] resources;
+
+    private int pending;
+
+    /**
+     * 构造函数
+     *
+     * @param schema      目标图层结构（不含要素）
+     * @param encoder     由写入器要素类型编译的要素编码计划
+     * @param writer      GeoTools要素追加写入器
+     * @param transaction 写入器所属事务
+     * @param batchSize   非自动提交事务的批量提交数量
+     * @param resources   通道关闭时需要一并释放的资源
+     */
+    public GeoToolsLayerSink(OguLayer schema, GeoToolsFeatureEncoder encoder,
+                             FeatureWriter<SimpleFeatureType, SimpleFeature> writer, Transaction transaction,
+                             int batchSize, AutoCloseable... resources) {
+        super(schema);
+        this.encoder = encoder;
+        this.writer = writer;
+        this.transaction = transaction;
+        this.batchSize = batchSize;
+        this.resources = resources;
+    }
+
+    @Override
+    protected void doWrite(OguFeature oguFeature) throws Exception {
+        writer.hasNext();
+        encoder.copyTo(oguFeature, writer.next());
+        writer.write();
+
+        if (transaction != Transaction.AUTO_COMMIT && ++pending >= batchSize) {
+            transaction.commit();
+            pending = 0;
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        try {
+            if (transaction != Transaction.AUTO_COMMIT) {
+                transaction.commit();
+            }
+        } catch (Exception e) {
+            transaction.rollback();
+            throw e;
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    protected void doAbort() throws Exception {
+        try {
+            if (transaction != Transaction.AUTO_COMMIT) {
+                transaction.rollback();
+            }
+        } finally {
+            release();
+        }
+    }
+
+    private void release() throws Exception {
+        try {
+            writer.close();
+            if (transaction != Transaction.AUTO_COMMIT) {
+                transaction.close();
+            }
+        } finally {
+            for (AutoCloseable resource : resources) {
+                resource.close();
+            }
+        }
+    }
+}
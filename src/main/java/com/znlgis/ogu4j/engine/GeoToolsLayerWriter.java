@@ -1,10 +1,11 @@
 package com.znlgis.ogu4j.engine;
 
 import cn.hutool.core.io.FileUtil;
-import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.thread.ThreadUtil;
 import com.znlgis.ogu4j.engine.util.CrsUtil;
 import com.znlgis.ogu4j.datasource.GtTxtUtil;
+import com.znlgis.ogu4j.datasource.GtTxtWriter;
 import com.znlgis.ogu4j.engine.util.PostgisUtil;
 import com.znlgis.ogu4j.engine.util.ShpUtil;
 import com.znlgis.ogu4j.engine.enums.DataFormatType;
@@ -12,32 +13,24 @@ import com.znlgis.ogu4j.engine.enums.FieldDataType;
 import com.znlgis.ogu4j.exception.DataSourceException;
 import com.znlgis.ogu4j.exception.OguException;
 import com.znlgis.ogu4j.geometry.GeometryUtil;
+import com.znlgis.ogu4j.engine.io.AbstractLayerSink;
+import com.znlgis.ogu4j.engine.io.LayerSink;
 import com.znlgis.ogu4j.engine.io.LayerWriter;
 import com.znlgis.ogu4j.engine.model.DbConnBaseModel;
 import com.znlgis.ogu4j.engine.model.layer.OguFeature;
-import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 import com.znlgis.ogu4j.engine.model.layer.OguLayerMetadata;
 import org.geotools.api.data.FeatureWriter;
 import org.geotools.api.data.Transaction;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
-import org.geotools.api.feature.type.Name;
-import org.geotools.api.feature.type.PropertyDescriptor;
-import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.DefaultTransaction;
-import org.geotools.data.collection.ListFeatureCollection;
-import org.geotools.data.crs.ForceCoordinateSystemFeatureResults;
 import org.geotools.data.shapefile.ShapefileDataStore;
 import org.geotools.data.shapefile.ShapefileDataStoreFactory;
 import org.geotools.data.simple.SimpleFeatureCollection;
-import org.geotools.feature.FeatureIterator;
-import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
-import org.geotools.geojson.feature.FeatureJSON;
-import org.geotools.geojson.geom.GeometryJSON;
 import org.geotools.jdbc.JDBCDataStore;
-import org.locationtech.jts.geom.Geometry;
 
 import java.io.File;
 import java.io.Serializable;
@@ -49,7 +42,6 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -84,7 +76,7 @@ public class GeoToolsLayerWriter implements LayerWriter {
                 writeShapefile(layer, path);
                 break;
             case GEOJSON:
-                writeGeoJSON(layer, path);
+                new GeoJsonLayerWriter().write(layer, path, layerName, options);
                 break;
             case POSTGIS:
                 writePostGIS(layer, path, layerName);
@@ -97,6 +89,23 @@ public class GeoToolsLayerWriter implements LayerWriter {
         }
     }
 
+    @Override
+    public LayerSink openSink(OguLayer schema, String path, String layerName, Map<String, Object> options)
+            throws OguException {
+        switch (formatType) {
+            case SHP:
+                return openShapefileSink(schema.copySchema(), path);
+            case GEOJSON:
+                return new GeoJsonLayerWriter().openSink(schema, path, layerName, options);
+            case POSTGIS:
+                return openPostGISSink(schema.copySchema(), path, layerName, options);
+            case TXT:
+                return openTxtSink(schema.copySchema(), path, options);
+            default:
+                throw new DataSourceException("Unsupported format: " + formatType);
+        }
+    }
+
     @Override
     public boolean supports(String path) {
         if (path == null) {
@@ -118,71 +127,8 @@ public class GeoToolsLayerWriter implements LayerWriter {
     }
 
     private void writeShapefile(OguLayer layer, String shpPath) throws OguException {
-        try {
-            GeometryUtil.excludeSpecialFields(layer.getFields());
-            ShpUtil.formatFieldName(layer.getFields());
-
-            File shapeFile = new File(shpPath);
-            SimpleFeatureCollection featureCollection = toSimpleFeatureCollection(layer);
-            Map<String, Serializable> params = new HashMap<>();
-            params.put(ShapefileDataStoreFactory.URLP.key, shapeFile.toURI().toURL());
-
-            ShapefileDataStore ds = (ShapefileDataStore) new ShapefileDataStoreFactory().createNewDataStore(params);
-            SimpleFeatureType featureType = featureCollection.getSchema();
-            ds.createSchema(featureType);
-            Charset charset = StandardCharsets.UTF_8;
-            ds.setCharset(charset);
-
-            String typeName = ds.getTypeNames()[0];
-            FeatureWriter<SimpleFeatureType, SimpleFeature> writer = ds.getFeatureWriterAppend(typeName, Transaction.AUTO_COMMIT);
-
-            try (FeatureIterator<SimpleFeature> features = featureCollection.features()) {
-                while (features.hasNext()) {
-                    SimpleFeature feature = features.next();
-                    writer.hasNext();
-                    SimpleFeature writefeature = writer.next();
-                    writefeature.setDefaultGeometry(feature.getDefaultGeometry());
-
-                    for (PropertyDescriptor d : featureType.getDescriptors()) {
-                        if (!(feature.getAttribute(d.getName()) instanceof Geometry)) {
-                            Name name = d.getName();
-                            Object value = feature.getAttribute(name);
-                            writefeature.setAttribute(name, value);
-                        }
-                    }
-
-                    writer.write();
-                }
-            }
-
-            writer.close();
-            ds.dispose();
-
-            String cpgPath = shpPath.substring(0, shpPath.lastIndexOf(".")) + ".cpg";
-            FileUtil.writeString("UTF-8", cpgPath, StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            throw new DataSourceException("Failed to write Shapefile: " + shpPath, e);
-        }
-    }
-
-    private void writeGeoJSON(OguLayer layer, String geojsonPath) throws OguException {
-        try {
-            GeometryUtil.excludeSpecialFields(layer.getFields());
-
-            SimpleFeatureCollection featureCollection = toSimpleFeatureCollection(layer);
-            GeometryJSON gjson = new GeometryJSON(16);
-            FeatureJSON fjson = new FeatureJSON(gjson);
-
-            CoordinateReferenceSystem crs = featureCollection.getSchema().getCoordinateReferenceSystem();
-            if (crs != null) {
-                Integer wkid = CrsUtil.standardizeCRS(crs).getKey();
-                featureCollection = new ForceCoordinateSystemFeatureResults(featureCollection, CrsUtil.getSupportedCRS(wkid).getValue(), false);
-            }
-
-            String geojsonString = fjson.toString(featureCollection);
-            FileUtil.writeString(geojsonString, geojsonPath, "utf-8");
-        } catch (Exception e) {
-            throw new DataSourceException("Failed to write GeoJSON: " + geojsonPath, e);
+        try (LayerSink sink = openShapefileSink(layer.copySchema(), shpPath)) {
+            sink.write(layer.getFeatures());
         }
     }
 
@@ -191,8 +137,7 @@ public class GeoToolsLayerWriter implements LayerWriter {
             GeometryUtil.excludeSpecialFields(layer.getFields());
 
             DbConnBaseModel dbConnBaseModel = PostgisUtil.parseConnectionString(connStr);
-            SimpleFeatureCollection featureCollection = toSimpleFeatureCollection(layer);
-            SimpleFeatureType simpleFeatureType = featureCollection.getSchema();
+            SimpleFeatureType simpleFeatureType = toSimpleFeatureType(layer);
             JDBCDataStore dataStore = PostgisUtil.getPostgisDataStore(dbConnBaseModel);
             if (!Arrays.asList(dataStore.getTypeNames()).contains(layerName)) {
                 SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
@@ -200,31 +145,15 @@ public class GeoToolsLayerWriter implements LayerWriter {
                 tb.setName(layerName);
                 dataStore.createSchema(tb.buildFeatureType());
             }
-
-            SimpleFeatureType featureType = dataStore.getSchema(layerName);
-            Map<String, String> fieldMap = new HashMap<>();
-            for (int i = 0; i < featureType.getAttributeCount(); i++) {
-                String wn = featureType.getDescriptor(i).getLocalName();
-                Optional<PropertyDescriptor> first = simpleFeatureType.getDescriptors().stream()
-                        .filter(m -> CharSequenceUtil.equals(m.getName().getLocalPart(), wn, true))
-                        .findFirst();
-                first.ifPresent(propertyDescriptor -> fieldMap.put(wn, propertyDescriptor.getName().getLocalPart()));
-            }
-
+            GeoToolsFeatureEncoder encoder = new GeoToolsFeatureEncoder(dataStore.getSchema(layerName), layer);
             dataStore.dispose();
 
-            List<SimpleFeature> features = new ArrayList<>();
-            try (FeatureIterator<SimpleFeature> iterator = featureCollection.features()) {
-                while (iterator.hasNext()) {
-                    features.add(iterator.next());
-                }
-            }
-
+            List<OguFeature> features = layer.getFeatures();
             int batchSize = 1000;
             int count = features.size() / batchSize;
             ExecutorService executorService = ThreadUtil.newExecutor(count);
             for (int i = 0; i <= count; i++) {
-                List<SimpleFeature> subList;
+                List<OguFeature> subList;
                 if (i == count) {
                     subList = features.subList(i * batchSize, features.size());
                 } else {
@@ -237,15 +166,9 @@ public class GeoToolsLayerWriter implements LayerWriter {
                         Transaction transaction = new DefaultTransaction("create");
                         FeatureWriter<SimpleFeatureType, SimpleFeature> writer = ds.getFeatureWriterAppend(layerName, transaction);
                         try {
-                            for (SimpleFeature feature : subList) {
+                            for (OguFeature feature : subList) {
                                 writer.hasNext();
-                                SimpleFeature writefeature = writer.next();
-                                writefeature.setDefaultGeometry(feature.getDefaultGeometry());
-
-                                for (Map.Entry<String, String> kv : fieldMap.entrySet()) {
-                                    writefeature.setAttribute(kv.getKey(), feature.getAttribute(kv.getValue()));
-                                }
-
+                                encoder.copyTo(feature, writer.next());
                                 writer.write();
                             }
 
@@ -271,6 +194,114 @@ public class GeoToolsLayerWriter implements LayerWriter {
         }
     }
 
+    private LayerSink openShapefileSink(OguLayer schema, String shpPath) throws OguException {
+        ShapefileDataStore ds = null;
+        try {
+            GeometryUtil.excludeSpecialFields(schema.getFields());
+
+            // 字段名称按DBF限制格式化，格式化在字段副本上进行，源字段名称保持不变
+            List<OguField> shpFields = new ArrayList<>();
+            for (OguField field : schema.getFields()) {
+                shpFields.add(new OguField(field.getName(), field.getAlias(), field.getDescription(),
+                        field.getDataType(), field.getLength(), field.getNullable(), field.getDefaultValue()));
+            }
+            ShpUtil.formatFieldName(shpFields);
+            Map<String, String> fieldMap = new HashMap<>();
+            for (int i = 0; i < shpFields.size(); i++) {
+                fieldMap.putIfAbsent(shpFields.get(i).getName(), schema.getFields().get(i).getName());
+            }
+            OguLayer shpSchema = schema.copySchema();
+            shpSchema.setFields(shpFields);
+
+            File shapeFile = new File(shpPath);
+            SimpleFeatureType featureType = toSimpleFeatureType(shpSchema);
+            Map<String, Serializable> params = new HashMap<>();
+            params.put(ShapefileDataStoreFactory.URLP.key, shapeFile.toURI().toURL());
+
+            ds = (ShapefileDataStore) new ShapefileDataStoreFactory().createNewDataStore(params);
+            ds.createSchema(featureType);
+            ds.setCharset(StandardCharsets.UTF_8);
+
+            String typeName = ds.getTypeNames()[0];
+            FeatureWriter<SimpleFeatureType, SimpleFeature> writer = ds.getFeatureWriterAppend(typeName, Transaction.AUTO_COMMIT);
+            GeoToolsFeatureEncoder encoder = new GeoToolsFeatureEncoder(writer.getFeatureType(), schema, fieldMap);
+
+            return new ShapefileLayerSink(shpSchema, encoder, writer, shpPath, ds);
+        } catch (Exception e) {
+            if (ds != null) {
+                ds.dispose();
+            }
+            throw new DataSourceException("Failed to open Shapefile sink: " + shpPath, e);
+        }
+    }
+
+    private LayerSink openPostGISSink(OguLayer schema, String connStr, String layerName, Map<String, Object> options)
+            throws OguException {
+        JDBCDataStore dataStore = null;
+        Transaction transaction = null;
+        try {
+            GeometryUtil.excludeSpecialFields(schema.getFields());
+
+            DbConnBaseModel dbConnBaseModel = PostgisUtil.parseConnectionString(connStr);
+            SimpleFeatureType simpleFeatureType = toSimpleFeatureType(schema);
+            dataStore = PostgisUtil.getPostgisDataStore(dbConnBaseModel);
+            if (!Arrays.asList(dataStore.getTypeNames()).contains(layerName)) {
+                SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+                tb.init(simpleFeatureType);
+                tb.setName(layerName);
+                dataStore.createSchema(tb.buildFeatureType());
+            }
+
+            int batchSize = 1000;
+            if (options != null && options.get("batchSize") instanceof Integer size && size > 0) {
+                batchSize = size;
+            }
+
+            transaction = new DefaultTransaction("create");
+            FeatureWriter<SimpleFeatureType, SimpleFeature> writer = dataStore.getFeatureWriterAppend(layerName, transaction);
+            GeoToolsFeatureEncoder encoder = new GeoToolsFeatureEncoder(writer.getFeatureType(), schema);
+            return new GeoToolsLayerSink(schema, encoder, writer, transaction, batchSize, dataStore::dispose);
+        } catch (Exception e) {
+            IoUtil.close(transaction);
+            if (dataStore != null) {
+                dataStore.dispose();
+            }
+            throw new DataSourceException("Failed to open PostGIS layer sink: " + layerName, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private LayerSink openTxtSink(OguLayer schema, String txtPath, Map<String, Object> options) throws OguException {
+        try {
+            GeometryUtil.excludeSpecialFields(schema.getFields());
+
+            OguLayerMetadata metadata = null;
+            List<String> fieldNames = null;
+            Integer zoneNumber = null;
+
+            if (options != null) {
+                metadata = (OguLayerMetadata) options.get("metadata");
+                fieldNames = (List<String>) options.get("fieldNames");
+                zoneNumber = (Integer) options.get("zoneNumber");
+            }
+
+            GtTxtWriter writer = new GtTxtWriter(schema, txtPath, metadata, fieldNames, zoneNumber);
+            return new AbstractLayerSink(schema) {
+                @Override
+                protected void doWrite(OguFeature feature) {
+                    writer.write(feature);
+                }
+
+                @Override
+                protected void doClose() throws Exception {
+                    writer.close();
+                }
+            };
+        } catch (Exception e) {
+            throw new DataSourceException("Failed to open TXT sink: " + txtPath, e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void writeTxt(OguLayer layer, String txtPath, Map<String, Object> options) throws OguException {
         try {
@@ -294,12 +325,27 @@ public class GeoToolsLayerWriter implements LayerWriter {
 
     /**
      * 将OguLayer转换为GeoTools SimpleFeatureCollection
+     * <p>
+     * 返回的要素集合是惰性的，遍历时才逐个将图层要素转换为SimpleFeature，
+     * 不会在内存中生成图层要素的第二份副本。
+     * </p>
      *
      * @param layer OguLayer图层对象
      * @return GeoTools SimpleFeatureCollection要素集合
      * @throws Exception 转换失败时抛出异常
      */
     public static SimpleFeatureCollection toSimpleFeatureCollection(OguLayer layer) throws Exception {
+        return new GeoToolsFeatureCollection(toSimpleFeatureType(layer), layer);
+    }
+
+    /**
+     * 根据OguLayer图层结构生成GeoTools SimpleFeatureType
+     *
+     * @param layer OguLayer图层对象
+     * @return GeoTools SimpleFeatureType要素类型
+     * @throws Exception 转换失败时抛出异常
+     */
+    public static SimpleFeatureType toSimpleFeatureType(OguLayer layer) throws Exception {
         SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
         tb.setCRS(CrsUtil.getSupportedCRS(layer.getWkid()).getValue());
         tb.setName(layer.getName());
@@ -325,26 +371,44 @@ public class GeoToolsLayerWriter implements LayerWriter {
             }
         });
 
-        SimpleFeatureType featureType = tb.buildFeatureType();
-        ListFeatureCollection featureCollection = new ListFeatureCollection(featureType);
-        for (OguFeature f : layer.getFeatures()) {
-            SimpleFeatureBuilder builder = new SimpleFeatureBuilder(featureType);
-            if (CharSequenceUtil.isNotBlank(f.getGeometry())) {
-                builder.set("shape", GeometryUtil.wkt2Geometry(f.getGeometry()));
-            } else {
-                builder.set("shape", null);
-            }
+        return tb.buildFeatureType();
+    }
+
+    /**
+     * Shapefile图层要素写入通道
+     * <p>
+     * Shapefile以自动提交方式写入，要素写入后即落盘，无法回滚。通道正常关闭后才写出.cpg编码文件；
+     * 写入失败或放弃时删除已创建的.shp、.shx、.dbf、.prj和.cpg文件，不保留不完整的输出。
+     * </p>
+     */
+    private static final class ShapefileLayerSink extends GeoToolsLayerSink {
+
+        private static final String[] SIDECAR_SUFFIXES = {".shp", ".shx", ".dbf", ".prj", ".cpg"};
+
+        private final String basePath;
 
-            layer.getFields().forEach(ff -> {
-                Optional<OguFieldValue> optional = f.getAttributes().stream()
-                        .filter(m -> CharSequenceUtil.equals(m.getField().getName(), ff.getName(), true))
-                        .findFirst();
-                optional.ifPresent(fieldValue -> builder.set(fieldValue.getField().getName(), fieldValue.getValue()));
-            });
+        private ShapefileLayerSink(OguLayer schema, GeoToolsFeatureEncoder encoder,
+                                   FeatureWriter<SimpleFeatureType, SimpleFeature> writer, String shpPath,
+                                   ShapefileDataStore ds) {
+            super(schema, encoder, writer, Transaction.AUTO_COMMIT, 0, ds::dispose);
+            this.basePath = shpPath.substring(0, shpPath.lastIndexOf("."));
+        }
 
-            featureCollection.add(builder.buildFeature(null));
+        @Override
+        protected void doClose() throws Exception {
+            super.doClose();
+            FileUtil.writeString("UTF-8", basePath + ".cpg", StandardCharsets.UTF_8);
         }
 
-        return featureCollection;
+        @Override
+        protected void doAbort() throws Exception {
+            try {
+                super.doAbort();
+            } finally {
+                for (String suffix : SIDECAR_SUFFIXES) {
+                    FileUtil.del(basePath + suffix);
+                }
+            }
+        }
     }
 }
@@ -2,7 +2,9 @@ package com.znlgis.ogu4j.engine;
 
 import com.znlgis.ogu4j.engine.enums.DataFormatType;
 import com.znlgis.ogu4j.exception.OguException;
+import com.znlgis.ogu4j.engine.io.LayerCursor;
 import com.znlgis.ogu4j.engine.io.LayerReader;
+import com.znlgis.ogu4j.engine.io.LayerSink;
 import com.znlgis.ogu4j.engine.io.LayerWriter;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 
@@ -78,6 +80,61 @@ public interface GisEngine {
     OguLayer readLayer(DataFormatType formatType, String path, String layerName,
                        String attributeFilter, String spatialFilterWkt) throws OguException;
 
+    /**
+     * 读取图层数据（带读取选项）
+     *
+     * @param formatType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件
+     * @param spatialFilterWkt 空间过滤条件
+     * @param options          读取选项（可为null），参见{@link LayerReader#read(String, String, String, String, Map)}
+     * @return OguLayer图层对象
+     * @throws OguException 读取失败时抛出异常
+     */
+    default OguLayer readLayer(DataFormatType formatType, String path, String layerName,
+                               String attributeFilter, String spatialFilterWkt,
+                               Map<String, Object> options) throws OguException {
+        return getReader(formatType).read(path, layerName, attributeFilter, spatialFilterWkt, options);
+    }
+
+    /**
+     * 打开图层要素游标
+     * <p>
+     * 以流式方式读取图层数据，内存占用与图层大小无关。返回的游标使用完毕后必须关闭。
+     * </p>
+     *
+     * @param formatType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件
+     * @param spatialFilterWkt 空间过滤条件
+     * @return 图层要素游标
+     * @throws OguException 打开失败时抛出异常
+     */
+    default LayerCursor openLayerCursor(DataFormatType formatType, String path, String layerName,
+                                        String attributeFilter, String spatialFilterWkt) throws OguException {
+        return getReader(formatType).openCursor(path, layerName, attributeFilter, spatialFilterWkt);
+    }
+
+    /**
+     * 打开图层要素游标（带读取选项）
+     *
+     * @param formatType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件
+     * @param spatialFilterWkt 空间过滤条件
+     * @param options          读取选项（可为null），参见{@link LayerReader#read(String, String, String, String, Map)}
+     * @return 图层要素游标
+     * @throws OguException 打开失败时抛出异常
+     */
+    default LayerCursor openLayerCursor(DataFormatType formatType, String path, String layerName,
+                                        String attributeFilter, String spatialFilterWkt,
+                                        Map<String, Object> options) throws OguException {
+        return getReader(formatType).openCursor(path, layerName, attributeFilter, spatialFilterWkt, options);
+    }
+
     /**
      * 写入图层数据
      *
@@ -90,4 +147,23 @@ public interface GisEngine {
      */
     void writeLayer(DataFormatType formatType, OguLayer layer, String path,
                     String layerName, Map<String, Object> options) throws OguException;
+
+    /**
+     * 打开图层要素写入通道
+     * <p>
+     * 以流式方式写入图层数据，内存占用与图层大小无关。返回的通道写入完毕后必须关闭。
+     * </p>
+     *
+     * @param formatType 数据格式类型
+     * @param schema     目标图层结构
+     * @param path       目标路径
+     * @param layerName  图层名称
+     * @param options    写入选项
+     * @return 图层要素写入通道
+     * @throws OguException 打开失败时抛出异常
+     */
+    default LayerSink openLayerSink(DataFormatType formatType, OguLayer schema, String path,
+                                    String layerName, Map<String, Object> options) throws OguException {
+        return getWriter(formatType).openSink(schema, path, layerName, options);
+    }
 }
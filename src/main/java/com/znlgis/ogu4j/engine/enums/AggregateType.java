@@ -0,0 +1,45 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+/**
+ * 属性汇总方式枚举
+ * <p>
+ * 定义融合等分组运算中，由同组多个要素的属性值生成结果要素属性值的方式。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.engine.model.AggregateFieldModel
+ */
+@Getter
+public enum AggregateType {
+    /**
+     * 求和，结果为双精度浮点值，忽略空值和无法解析为数值的值
+     */
+    SUM("求和", "SUM"),
+    /**
+     * 计数，结果为同组要素数量
+     */
+    COUNT("计数", "COUNT"),
+    /**
+     * 取第一个值，按要素在图层中的顺序
+     */
+    FIRST("第一个值", "FIRST");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    /**
+     * 默认输出字段名前缀
+     */
+    private final String prefix;
+
+    AggregateType(String desc, String prefix) {
+        this.desc = desc;
+        this.prefix = prefix;
+    }
+}
@@ -0,0 +1,35 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+/**
+ * 坐标转换参数类型枚举
+ * <p>
+ * 定义国土TXT格式"转换参数"等场景中使用的参数转换模型。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.engine.util.DatumTransformUtil
+ */
+@Getter
+public enum DatumTransformType {
+    /**
+     * 七参数，空间直角坐标系下的布尔莎模型（三个平移、三个旋转、一个尺度）
+     */
+    SEVEN_PARAMETER("七参数"),
+    /**
+     * 四参数，平面坐标的相似变换（两个平移、一个旋转、一个尺度）
+     */
+    FOUR_PARAMETER("四参数");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    DatumTransformType(String desc) {
+        this.desc = desc;
+    }
+}
@@ -0,0 +1,68 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 几何规范化方式枚举
+ * <p>
+ * 定义读取图层时对要素几何执行OGC简化（{@code OperatorSimplifyOGC}）的方式。
+ * 简化是读取过程中开销最大的步骤，对已知质量可靠的数据可以仅检查或完全跳过。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.geometry.GeometryUtil#normalizeWkb(byte[], Integer, GeometryNormalizeType)
+ */
+@Getter
+public enum GeometryNormalizeType {
+    /**
+     * 不处理，保留数据源中的原始几何
+     */
+    NONE("不处理"),
+    /**
+     * 仅简化未通过OGC简单性检查的几何
+     */
+    CHECK("仅简化非简单几何"),
+    /**
+     * 简化所有几何
+     */
+    ALWAYS("始终简化");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    GeometryNormalizeType(String desc) {
+        this.desc = desc;
+    }
+
+    /**
+     * 从读取选项中获取几何规范化方式
+     * <p>
+     * 选项值可以是枚举值或枚举名称（不区分大小写），未指定时返回{@link #ALWAYS}，与原有读取行为一致。
+     * </p>
+     *
+     * @param options 读取选项（可为null）
+     * @return 几何规范化方式
+     * @throws IllegalArgumentException 选项值无法识别时抛出异常
+     */
+    public static GeometryNormalizeType fromOptions(Map<String, Object> options) {
+        Object value = options == null ? null : options.get("geometryNormalize");
+        if (value == null) {
+            return ALWAYS;
+        }
+        if (value instanceof GeometryNormalizeType type) {
+            return type;
+        }
+        for (GeometryNormalizeType type : values()) {
+            if (type.name().equalsIgnoreCase(value.toString())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported geometryNormalize option: " + value);
+    }
+}
@@ -0,0 +1,43 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+/**
+ * 图层叠加分析类型枚举
+ * <p>
+ * 定义输入图层与叠加图层之间的叠加运算方式及结果要素的属性来源。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.geometry.OverlayUtil
+ */
+@Getter
+public enum OverlayType {
+    /**
+     * 相交，保留两个图层重叠的部分，属性取两个图层
+     */
+    INTERSECT("相交"),
+    /**
+     * 擦除，保留输入图层中不与叠加图层重叠的部分，属性只取输入图层
+     */
+    ERASE("擦除"),
+    /**
+     * 标识，保留输入图层的全部范围，与叠加图层重叠的部分附加叠加图层属性
+     */
+    IDENTITY("标识"),
+    /**
+     * 联合，保留两个图层的全部范围，各部分附加所在图层的属性
+     */
+    UNION("联合");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    OverlayType(String desc) {
+        this.desc = desc;
+    }
+}
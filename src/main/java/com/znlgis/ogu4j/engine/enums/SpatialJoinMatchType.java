@@ -0,0 +1,35 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+/**
+ * 空间连接匹配方式枚举
+ * <p>
+ * 定义一个目标要素匹配到多个连接要素时的处理方式。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.geometry.SpatialJoinUtil
+ */
+@Getter
+public enum SpatialJoinMatchType {
+    /**
+     * 一对一，只取重叠面积（或长度）最大的连接要素，邻近连接取距离最近的连接要素
+     */
+    ONE_TO_ONE("一对一"),
+    /**
+     * 一对多，每个匹配的连接要素生成一个结果要素
+     */
+    ONE_TO_MANY("一对多");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    SpatialJoinMatchType(String desc) {
+        this.desc = desc;
+    }
+}
@@ -0,0 +1,35 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+/**
+ * 空间连接类型枚举
+ * <p>
+ * 定义空间连接中目标要素没有匹配的连接要素时是否保留。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.geometry.SpatialJoinUtil
+ */
+@Getter
+public enum SpatialJoinType {
+    /**
+     * 内连接，只保留有匹配的目标要素
+     */
+    INNER("内连接"),
+    /**
+     * 左连接，保留全部目标要素，没有匹配时连接字段为空
+     */
+    LEFT("左连接");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    SpatialJoinType(String desc) {
+        this.desc = desc;
+    }
+}
@@ -0,0 +1,66 @@
+package com.znlgis.ogu4j.engine.enums;
+
+import lombok.Getter;
+
+/**
+ * 空间关系类型枚举
+ * <p>
+ * 定义两个几何之间可判断的OGC空间关系，用于一对多的批量空间关系判断和空间过滤。
+ * 关系均以"基准几何 关系 候选几何"的方向判断，例如CONTAINS表示基准几何包含候选几何。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.geometry.EsriGeometryPredicate
+ * @see com.znlgis.ogu4j.engine.model.layer.SpatialFeatureFilter
+ * @see com.znlgis.ogu4j.geometry.SpatialJoinUtil
+ */
+@Getter
+public enum SpatialRelationType {
+    /**
+     * 相交
+     */
+    INTERSECTS("相交"),
+    /**
+     * 包含
+     */
+    CONTAINS("包含"),
+    /**
+     * 被包含
+     */
+    WITHIN("被包含"),
+    /**
+     * 接触
+     */
+    TOUCHES("接触"),
+    /**
+     * 相离
+     */
+    DISJOINT("相离"),
+    /**
+     * 交叉
+     */
+    CROSSES("交叉"),
+    /**
+     * 重叠
+     */
+    OVERLAPS("重叠"),
+    /**
+     * 覆盖（与包含的区别是候选几何可以只位于基准几何边界上）
+     */
+    COVERS("覆盖"),
+    /**
+     * 邻近（两者距离不超过指定距离，仅用于空间连接）
+     */
+    NEAREST("邻近");
+
+    /**
+     * 描述
+     */
+    private final String desc;
+
+    SpatialRelationType(String desc) {
+        this.desc = desc;
+    }
+}
@@ -0,0 +1,98 @@
+package com.znlgis.ogu4j.engine.io;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 图层要素游标抽象基类
+ * <p>
+ * 实现{@link LayerCursor}的预读和关闭逻辑，子类只需提供逐个读取要素和释放资源的方法。
+ * 读取过程中发生的异常会被包装为运行时异常抛出。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class AbstractLayerCursor implements LayerCursor {
+
+    private final OguLayer schema;
+
+    private OguFeature nextFeature;
+
+    private boolean closed;
+
+    /**
+     * 构造函数
+     *
+     * @param schema 图层结构（不含要素）
+     */
+    protected AbstractLayerCursor(OguLayer schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * 读取下一个要素
+     *
+     * @return 下一个要素，没有更多要素时返回null
+     * @throws Exception 读取失败时抛出异常
+     */
+    protected abstract OguFeature readNext() throws Exception;
+
+    /**
+     * 释放底层数据源资源
+     *
+     * @throws Exception 释放失败时抛出异常
+     */
+    protected abstract void doClose() throws Exception;
+
+    @Override
+    public OguLayer getSchema() {
+        return schema;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (nextFeature == null) {
+            try {
+                nextFeature = readNext();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to read feature from layer: " + schema.getName(), e);
+            }
+        }
+        return nextFeature != null;
+    }
+
+    @Override
+    public OguFeature next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        OguFeature feature = nextFeature;
+        nextFeature = null;
+        return feature;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        nextFeature = null;
+        try {
+            doClose();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to close layer cursor: " + schema.getName(), e);
+        }
+    }
+}
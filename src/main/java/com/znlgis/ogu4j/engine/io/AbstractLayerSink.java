@@ -0,0 +1,128 @@
+package com.znlgis.ogu4j.engine.io;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.exception.DataSourceException;
+import com.znlgis.ogu4j.exception.OguException;
+
+/**
+ * 图层要素写入通道抽象基类
+ * <p>
+ * 实现{@link LayerSink}的状态检查和关闭逻辑，子类只需提供逐个写入要素和提交释放资源的方法。
+ * 写入过程中发生的非{@link OguException}异常会被包装为{@link DataSourceException}抛出。
+ * 写入失败后通道被标记为失败，关闭时调用{@link #doAbort()}而不是{@link #doClose()}。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class AbstractLayerSink implements LayerSink {
+
+    private final OguLayer schema;
+
+    private boolean closed;
+
+    private boolean failed;
+
+    /**
+     * 构造函数
+     *
+     * @param schema 目标图层结构（不含要素）
+     */
+    protected AbstractLayerSink(OguLayer schema) {
+        this.schema = schema;
+    }
+
+    /**
+     * 写入单个要素
+     *
+     * @param feature 要写入的要素
+     * @throws Exception 写入失败时抛出异常
+     */
+    protected abstract void doWrite(OguFeature feature) throws Exception;
+
+    /**
+     * 提交已写入的数据并释放底层数据源资源
+     *
+     * @throws Exception 提交或释放失败时抛出异常
+     */
+    protected abstract void doClose() throws Exception;
+
+    /**
+     * 放弃尚未提交的数据并释放底层数据源资源
+     * <p>
+     * 默认实现调用{@link #doClose()}，适用于不支持回滚的格式；支持事务的子类应覆盖此方法回滚。
+     * </p>
+     *
+     * @throws Exception 回滚或释放失败时抛出异常
+     */
+    protected void doAbort() throws Exception {
+        doClose();
+    }
+
+    @Override
+    public OguLayer getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void write(OguFeature feature) throws OguException {
+        if (closed) {
+            throw new IllegalStateException("Layer sink is closed: " + schema.getName());
+        }
+        try {
+            doWrite(feature);
+        } catch (OguException e) {
+            failed = true;
+            throw e;
+        } catch (Exception e) {
+            failed = true;
+            throw new DataSourceException("Failed to write feature to layer: " + schema.getName(), e);
+        }
+    }
+
+    @Override
+    public long writeAll(LayerCursor cursor) throws OguException {
+        try {
+            return LayerSink.super.writeAll(cursor);
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+    }
+
+    @Override
+    public void abort() throws OguException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            doAbort();
+        } catch (OguException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataSourceException("Failed to abort layer sink: " + schema.getName(), e);
+        }
+    }
+
+    @Override
+    public void close() throws OguException {
+        if (failed) {
+            abort();
+            return;
+        }
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            doClose();
+        } catch (OguException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DataSourceException("Failed to close layer sink: " + schema.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.znlgis.ogu4j.engine.io;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 图层要素游标接口
+ * <p>
+ * 以流式方式逐个读取图层要素，避免将整个图层一次性加载到内存中。
+ * 图层结构（名称、坐标系、字段、几何类型）在游标打开时即可获取，
+ * 要素在遍历过程中逐个生成，内存占用与图层大小无关。
+ * </p>
+ * <p>
+ * 游标持有底层数据源资源，使用完毕后必须关闭，推荐使用try-with-resources语句：
+ * </p>
+ * <pre>{@code
+ * try (LayerCursor cursor = engine.openLayerCursor(DataFormatType.SHP, shpPath, null, null, null)) {
+ *     OguLayer schema = cursor.getSchema();
+ *     while (cursor.hasNext()) {
+ *         OguFeature feature = cursor.next();
+ *         // ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.engine.io.LayerReader#openCursor(String, String, String, String)
+ */
+public interface LayerCursor extends Iterator<OguFeature>, AutoCloseable {
+
+    /**
+     * 获取图层结构
+     * <p>
+     * 返回的图层包含名称、坐标系、几何类型、容差和字段定义，要素集合始终为空。
+     * </p>
+     *
+     * @return 不含要素的图层结构
+     */
+    OguLayer getSchema();
+
+    /**
+     * 是否还有下一个要素
+     *
+     * @return true表示还有要素，false表示已读取完毕或游标已关闭
+     */
+    @Override
+    boolean hasNext();
+
+    /**
+     * 读取下一个要素
+     *
+     * @return 下一个要素
+     * @throws java.util.NoSuchElementException 没有更多要素时抛出异常
+     */
+    @Override
+    OguFeature next();
+
+    /**
+     * 关闭游标并释放底层数据源资源
+     * <p>
+     * 重复调用不会产生副作用。
+     * </p>
+     */
+    @Override
+    void close();
+
+    /**
+     * 将游标转换为顺序流
+     * <p>
+     * 关闭返回的流时会同时关闭游标。
+     * </p>
+     *
+     * @return 要素流
+     */
+    default Stream<OguFeature> stream() {
+        Spliterator<OguFeature> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * 基于内存图层创建游标
+     * <p>
+     * 用于不支持流式读取的数据格式，要素来自已完整加载的图层。
+     * </p>
+     *
+     * @param layer 已加载的图层
+     * @return 图层要素游标
+     */
+    static LayerCursor of(OguLayer layer) {
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        Iterator<OguFeature> iterator = features.iterator();
+        return new AbstractLayerCursor(layer.copySchema()) {
+            @Override
+            protected OguFeature readNext() {
+                return iterator.hasNext() ? iterator.next() : null;
+            }
+
+            @Override
+            protected void doClose() {
+                // 内存图层无需释放资源
+            }
+        };
+    }
+}
@@ -3,6 +3,8 @@ package com.znlgis.ogu4j.engine.io;
 import com.znlgis.ogu4j.exception.OguException;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 
+import java.util.Map;
+
 /**
  * 图层读取器接口
  * <p>
@@ -15,6 +17,7 @@ import com.znlgis.ogu4j.engine.model.layer.OguLayer;
  * @version 1.0.0
  * @since 1.0.0
  * @see com.znlgis.ogu4j.engine.io.LayerWriter
+ * @see com.znlgis.ogu4j.engine.io.LayerCursor
  * @see com.znlgis.ogu4j.engine.enums.DataFormatType
  */
 public interface LayerReader {
@@ -31,6 +34,70 @@ public interface LayerReader {
      */
     OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt) throws OguException;
 
+    /**
+     * 读取图层数据（带读取选项）
+     * <p>
+     * 支持的选项：
+     * <ul>
+     *     <li>geometryNormalize：几何规范化方式（{@link com.znlgis.ogu4j.engine.enums.GeometryNormalizeType}或其名称），
+     *     默认为ALWAYS</li>
+     * </ul>
+     * 默认实现忽略读取选项，支持读取选项的实现应覆盖此方法。
+     * </p>
+     *
+     * @param path             数据源路径
+     * @param layerName        图层名称（某些格式可能为null）
+     * @param attributeFilter  属性过滤条件（CQL/SQL表达式），为null时不过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null时不过滤
+     * @param options          读取选项（可为null）
+     * @return OguLayer图层对象
+     * @throws OguException 读取失败时抛出异常
+     */
+    default OguLayer read(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                          Map<String, Object> options) throws OguException {
+        return read(path, layerName, attributeFilter, spatialFilterWkt);
+    }
+
+    /**
+     * 打开图层要素游标
+     * <p>
+     * 以流式方式读取图层，图层结构在打开时即可获取，要素在遍历时逐个生成。
+     * 默认实现先完整读取图层再基于内存创建游标，支持流式读取的实现应覆盖此方法。
+     * 返回的游标使用完毕后必须关闭。
+     * </p>
+     *
+     * @param path             数据源路径
+     * @param layerName        图层名称（某些格式可能为null）
+     * @param attributeFilter  属性过滤条件（CQL/SQL表达式），为null时不过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null时不过滤
+     * @return 图层要素游标
+     * @throws OguException 打开失败时抛出异常
+     */
+    default LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt)
+            throws OguException {
+        return LayerCursor.of(read(path, layerName, attributeFilter, spatialFilterWkt));
+    }
+
+    /**
+     * 打开图层要素游标（带读取选项）
+     * <p>
+     * 读取选项与{@link #read(String, String, String, String, Map)}相同。
+     * 默认实现忽略读取选项，支持读取选项的实现应覆盖此方法。
+     * </p>
+     *
+     * @param path             数据源路径
+     * @param layerName        图层名称（某些格式可能为null）
+     * @param attributeFilter  属性过滤条件（CQL/SQL表达式），为null时不过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null时不过滤
+     * @param options          读取选项（可为null）
+     * @return 图层要素游标
+     * @throws OguException 打开失败时抛出异常
+     */
+    default LayerCursor openCursor(String path, String layerName, String attributeFilter, String spatialFilterWkt,
+                                   Map<String, Object> options) throws OguException {
+        return openCursor(path, layerName, attributeFilter, spatialFilterWkt);
+    }
+
     /**
      * 检查当前读取器是否支持指定的数据源
      *
@@ -0,0 +1,100 @@
+package com.znlgis.ogu4j.engine.io;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.exception.OguException;
+
+import java.util.List;
+
+/**
+ * 图层要素写入通道接口
+ * <p>
+ * 以流式方式逐个写入图层要素，避免在写入前将整个图层加载到内存中。
+ * 通道在打开时即根据图层结构创建目标图层，要素写入后不再被引用，内存占用与图层大小无关。
+ * </p>
+ * <p>
+ * 通道持有底层数据源资源，写入完毕后必须关闭，关闭时才会提交尚未提交的数据。
+ * 写入失败后关闭通道等同于调用{@link #abort()}，不再提交数据。
+ * 配合{@link LayerCursor}可以在不占用堆内存的情况下完成大数据量的格式转换：
+ * </p>
+ * <pre>{@code
+ * try (LayerCursor cursor = engine.openLayerCursor(DataFormatType.SHP, shpPath, null, null, null);
+ *      LayerSink sink = engine.openLayerSink(DataFormatType.GEOJSON, cursor.getSchema(), geojsonPath, null, null)) {
+ *     sink.writeAll(cursor);
+ * }
+ * }</pre>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.engine.io.LayerWriter#openSink(OguLayer, String, String, java.util.Map)
+ */
+public interface LayerSink extends AutoCloseable {
+
+    /**
+     * 获取目标图层结构
+     *
+     * @return 不含要素的图层结构
+     */
+    OguLayer getSchema();
+
+    /**
+     * 写入单个要素
+     *
+     * @param feature 要写入的要素
+     * @throws OguException 写入失败时抛出异常
+     */
+    void write(OguFeature feature) throws OguException;
+
+    /**
+     * 批量写入要素
+     *
+     * @param features 要写入的要素列表
+     * @throws OguException 写入失败时抛出异常
+     */
+    default void write(List<OguFeature> features) throws OguException {
+        for (OguFeature feature : features) {
+            write(feature);
+        }
+    }
+
+    /**
+     * 写入游标中剩余的全部要素
+     * <p>
+     * 游标不会被关闭，由调用方负责关闭。
+     * </p>
+     *
+     * @param cursor 图层要素游标
+     * @return 写入的要素数量
+     * @throws OguException 写入失败时抛出异常
+     */
+    default long writeAll(LayerCursor cursor) throws OguException {
+        long count = 0;
+        while (cursor.hasNext()) {
+            write(cursor.next());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 放弃尚未提交的数据并释放底层数据源资源
+     * <p>
+     * 支持事务的通道回滚尚未提交的数据，已按批量提交的数据不受影响。重复调用或关闭后调用不会产生副作用。
+     * </p>
+     *
+     * @throws OguException 回滚或释放失败时抛出异常
+     */
+    void abort() throws OguException;
+
+    /**
+     * 提交已写入的数据并释放底层数据源资源
+     * <p>
+     * 此前有要素写入失败时改为放弃尚未提交的数据，见{@link #abort()}。重复调用不会产生副作用。
+     * </p>
+     *
+     * @throws OguException 提交或释放失败时抛出异常
+     */
+    @Override
+    void close() throws OguException;
+}
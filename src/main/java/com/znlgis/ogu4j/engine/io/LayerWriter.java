@@ -1,6 +1,7 @@
 package com.znlgis.ogu4j.engine.io;
 
 import com.znlgis.ogu4j.exception.OguException;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 
 import java.util.Map;
@@ -16,6 +17,7 @@ import java.util.Map;
  * @version 1.0.0
  * @since 1.0.0
  * @see com.znlgis.ogu4j.engine.io.LayerReader
+ * @see com.znlgis.ogu4j.engine.io.LayerSink
  * @see com.znlgis.ogu4j.engine.enums.DataFormatType
  */
 public interface LayerWriter {
@@ -31,6 +33,43 @@ public interface LayerWriter {
      */
     void write(OguLayer layer, String path, String layerName, Map<String, Object> options) throws OguException;
 
+    /**
+     * 打开图层要素写入通道
+     * <p>
+     * 根据图层结构创建目标图层，之后可逐个写入要素，关闭通道时提交数据。
+     * 默认实现将要素缓存在内存中，关闭时调用{@link #write(OguLayer, String, String, Map)}一次性写入，
+     * 写入失败或放弃时不写入，
+     * 支持流式写入的实现应覆盖此方法。
+     * </p>
+     *
+     * @param schema    目标图层结构（要素集合会被忽略）
+     * @param path      目标数据源路径
+     * @param layerName 图层名称（某些格式可能被忽略）
+     * @param options   写入选项（可为null）
+     * @return 图层要素写入通道
+     * @throws OguException 打开失败时抛出异常
+     */
+    default LayerSink openSink(OguLayer schema, String path, String layerName, Map<String, Object> options)
+            throws OguException {
+        OguLayer layer = schema.copySchema();
+        return new AbstractLayerSink(layer) {
+            @Override
+            protected void doWrite(OguFeature feature) {
+                layer.getFeatures().add(feature);
+            }
+
+            @Override
+            protected void doClose() throws OguException {
+                LayerWriter.this.write(layer, path, layerName, options);
+            }
+
+            @Override
+            protected void doAbort() {
+                layer.getFeatures().clear();
+            }
+        };
+    }
+
     /**
      * 检查当前写入器是否支持指定的目标路径
      *
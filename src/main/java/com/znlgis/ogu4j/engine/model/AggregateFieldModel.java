@@ -0,0 +1,55 @@
+package com.znlgis.ogu4j.engine.model;
+
+import com.znlgis.ogu4j.engine.enums.AggregateType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 汇总字段模型
+ * <p>
+ * 描述分组运算结果图层中的一个汇总字段：对源字段按指定方式汇总，写入输出字段。
+ * 主要用于DissolveUtil.dissolve()方法的参数。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.geometry.DissolveUtil
+ */
+@Data
+@AllArgsConstructor
+public class AggregateFieldModel {
+    /**
+     * 源字段名称，计数时可为null
+     */
+    private String fieldName;
+    /**
+     * 汇总方式
+     */
+    private AggregateType aggregateType;
+    /**
+     * 输出字段名称，为空时使用"汇总方式前缀_源字段名称"（计数且无源字段时为"COUNT"）
+     */
+    private String outputName;
+
+    /**
+     * 默认构造函数。
+     * <p>
+     * 供序列化框架和反射创建空的汇总字段模型实例使用。
+     * </p>
+     */
+    public AggregateFieldModel() {
+        // no-op default constructor
+    }
+
+    /**
+     * 使用默认输出字段名称的构造函数
+     *
+     * @param fieldName     源字段名称
+     * @param aggregateType 汇总方式
+     */
+    public AggregateFieldModel(String fieldName, AggregateType aggregateType) {
+        this.fieldName = fieldName;
+        this.aggregateType = aggregateType;
+    }
+}
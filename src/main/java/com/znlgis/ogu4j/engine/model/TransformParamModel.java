@@ -0,0 +1,105 @@
+package com.znlgis.ogu4j.engine.model;
+
+import com.znlgis.ogu4j.engine.enums.DatumTransformType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 坐标转换参数模型
+ * <p>
+ * 平移单位为米，旋转单位为角秒，尺度单位为ppm（百万分之一）。
+ * 四参数只使用X平移、Y平移、Z旋转（平面旋转角）和尺度，其余参数为0，
+ * 其中X、Y按测量坐标系约定分别为北坐标和东坐标。
+ * 七参数的源坐标所在椭球由源椭球长半轴和扁率指定，未指定时为CGCS2000椭球；
+ * 如北京54坐标系为克拉索夫斯基椭球（6378245，1/298.3），西安80坐标系为IAG-75椭球（6378140，1/298.257）。
+ * 主要用于DatumTransformUtil.transform()方法的参数。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.engine.util.DatumTransformUtil
+ */
+@Data
+@AllArgsConstructor
+public class TransformParamModel {
+    /**
+     * 参数类型
+     */
+    private DatumTransformType transformType;
+    /**
+     * X平移（米），四参数时为北坐标平移
+     */
+    private double dx;
+    /**
+     * Y平移（米），四参数时为东坐标平移
+     */
+    private double dy;
+    /**
+     * Z平移（米）
+     */
+    private double dz;
+    /**
+     * X旋转（角秒）
+     */
+    private double rx;
+    /**
+     * Y旋转（角秒）
+     */
+    private double ry;
+    /**
+     * Z旋转（角秒），四参数时为平面旋转角
+     */
+    private double rz;
+    /**
+     * 尺度（ppm）
+     */
+    private double scale;
+    /**
+     * 七参数源椭球长半轴（米），为null时为CGCS2000椭球
+     */
+    private Double sourceSemiMajorAxis;
+    /**
+     * 七参数源椭球扁率，为null时为CGCS2000椭球
+     */
+    private Double sourceFlattening;
+
+    /**
+     * 默认构造函数。
+     * <p>
+     * 供序列化框架和反射创建空的坐标转换参数模型实例使用。
+     * </p>
+     */
+    public TransformParamModel() {
+        // no-op default constructor
+    }
+
+    /**
+     * 源椭球为CGCS2000椭球的构造函数
+     *
+     * @param transformType 参数类型
+     * @param dx            X平移（米）
+     * @param dy            Y平移（米）
+     * @param dz            Z平移（米）
+     * @param rx            X旋转（角秒）
+     * @param ry            Y旋转（角秒）
+     * @param rz            Z旋转（角秒）
+     * @param scale         尺度（ppm）
+     */
+    public TransformParamModel(DatumTransformType transformType, double dx, double dy, double dz,
+                               double rx, double ry, double rz, double scale) {
+        this(transformType, dx, dy, dz, rx, ry, rz, scale, null, null);
+    }
+
+    /**
+     * 四参数构造函数
+     *
+     * @param dx       X（北坐标）平移（米）
+     * @param dy       Y（东坐标）平移（米）
+     * @param rotation 旋转角（角秒），由X轴向Y轴旋转为正
+     * @param scale    尺度（ppm）
+     */
+    public TransformParamModel(double dx, double dy, double rotation, double scale) {
+        this(DatumTransformType.FOUR_PARAMETER, dx, dy, 0, 0, 0, rotation, scale);
+    }
+}
@@ -1,10 +1,16 @@
 package com.znlgis.ogu4j.engine.model.layer;
 
 import cn.hutool.core.collection.CollectionUtil;
-import lombok.AllArgsConstructor;
+import com.alibaba.fastjson2.annotation.JSONField;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.locationtech.jts.geom.Geometry;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -13,13 +19,23 @@ import java.util.List;
  * 表示GIS图层中的一个地理要素，包含要素ID、几何信息（WKT格式）和属性值集合。
  * 提供属性值的获取和设置方法。
  * </p>
+ * <p>
+ * 要素绑定图层的字段结构（{@link OguFieldSchema}）后，按字段名称或序号存取属性值均为常数时间，
+ * 不再逐个比较属性集合中的字段名称；未绑定时按名称查找会退化为顺序扫描。
+ * 属性值集合仍是要素属性的完整视图，按序号或名称修改属性值会同步反映在其中的属性值对象上；
+ * 若直接增删属性值集合中的元素，需要重新调用{@link #setAttributes(List)}或{@link #bind(OguFieldSchema)}。
+ * </p>
+ * <p>
+ * 几何由{@link OguGeometry}以WKT文本、WKB二进制或JTS Geometry形式保存，设置其中一种形式会替换原有几何；
+ * 其余形式在首次读取时转换并缓存，多次运算不会重复解析同一几何。
+ * 读取器通常以WKB形式传递几何，只有调用{@link #getGeometry()}时才会生成WKT文本。
+ * </p>
  *
  * @author znlgis
  * @version 1.0.0
  * @since 1.0.0
  */
 @Data
-@AllArgsConstructor
 public class OguFeature implements Serializable {
     /**
      * 要素ID
@@ -30,9 +46,11 @@ public class OguFeature implements Serializable {
     private String id;
 
     /**
-     * 要素图形WKT (Well-Known Text)
+     * 要素图形，以WKT、WKB或JTS Geometry形式保存并缓存转换结果
      */
-    private String geometry;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private OguGeometry geometry = new OguGeometry();
 
     /**
      * 要素属性值集合
@@ -49,13 +67,276 @@ public class OguFeature implements Serializable {
      */
     private List<String> rawValues;
 
+    /**
+     * 绑定的字段结构
+     */
+    @JSONField(serialize = false, deserialize = false)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient OguFieldSchema fieldSchema;
+
+    /**
+     * 按字段序号排列的属性值对象，与属性值集合共享同一批对象
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient OguFieldValue[] slots;
+
+    /**
+     * 属性值集合中的属性是否均已按序号索引
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient boolean slotsComplete;
+
+    /**
+     * 无参构造函数
+     * <p>
+     * 供JSON反序列化和框架创建空要素对象使用。
+     * </p>
+     */
+    public OguFeature() {
+
+    }
+
+    /**
+     * 全参构造函数
+     *
+     * @param id          要素ID
+     * @param geometry    要素图形WKT
+     * @param attributes  要素属性值集合
+     * @param coordinates 坐标点集合
+     * @param rawValues   原始属性值列表
+     */
+    public OguFeature(String id, String geometry, List<OguFieldValue> attributes,
+                      List<OguCoordinate> coordinates, List<String> rawValues) {
+        this.id = id;
+        this.geometry.setWkt(geometry);
+        this.attributes = attributes;
+        this.coordinates = coordinates;
+        this.rawValues = rawValues;
+    }
+
+    /**
+     * 获取要素图形WKT
+     * <p>
+     * 几何以WKB或JTS Geometry形式保存时，首次调用转换生成WKT文本并缓存。
+     * </p>
+     *
+     * @return WKT格式的字符串，null表示要素没有几何
+     */
+    public String getGeometry() {
+        return geometry.getWkt();
+    }
+
+    /**
+     * 以WKT形式设置要素图形
+     *
+     * @param geometry WKT格式的字符串
+     */
+    public void setGeometry(String geometry) {
+        this.geometry.setWkt(geometry);
+    }
+
+    /**
+     * 获取要素图形WKB
+     * <p>
+     * 几何以WKT或JTS Geometry形式保存时，首次调用转换生成WKB并缓存。
+     * </p>
+     *
+     * @return WKB格式的字节数组，null表示要素没有几何
+     */
+    @JSONField(serialize = false)
+    public byte[] getGeometryWkb() {
+        return geometry.getWkb();
+    }
+
+    /**
+     * 以WKB形式设置要素图形
+     *
+     * @param geometryWkb WKB格式的字节数组
+     */
+    @JSONField(deserialize = false)
+    public void setGeometryWkb(byte[] geometryWkb) {
+        this.geometry.setWkb(geometryWkb);
+    }
+
+    /**
+     * 获取要素图形JTS Geometry
+     * <p>
+     * 几何以WKT或WKB形式保存时，首次调用解析生成JTS Geometry并缓存，之后的调用返回同一对象。
+     * 原地修改返回的对象后，须调用{@link #setJtsGeometry(Geometry)}使WKT和WKB缓存失效。
+     * </p>
+     *
+     * @return JTS Geometry对象，null表示要素没有几何
+     */
+    @JSONField(serialize = false)
+    public Geometry getJtsGeometry() {
+        return geometry.getGeometry();
+    }
+
+    /**
+     * 以JTS Geometry形式设置要素图形
+     *
+     * @param jtsGeometry JTS Geometry对象
+     */
+    @JSONField(deserialize = false)
+    public void setJtsGeometry(Geometry jtsGeometry) {
+        this.geometry.setGeometry(jtsGeometry);
+    }
+
+    /**
+     * 要素是否有几何
+     *
+     * @return 有几何返回true
+     */
+    @JSONField(serialize = false)
+    public boolean hasGeometry() {
+        return !geometry.isEmpty();
+    }
+
+    /**
+     * 设置要素属性值集合
+     * <p>
+     * 已绑定字段结构时会按新的属性值集合重建序号索引。
+     * </p>
+     *
+     * @param attributes 要素属性值集合
+     */
+    public void setAttributes(List<OguFieldValue> attributes) {
+        this.attributes = attributes;
+        if (fieldSchema != null) {
+            bind(fieldSchema);
+        }
+    }
+
+    /**
+     * 绑定字段结构
+     * <p>
+     * 按字段结构为属性值集合建立序号索引，通常由读取器在生成要素时以图层的字段结构调用。
+     * 属性值集合中不属于该字段结构的属性仍可按名称访问。
+     * </p>
+     *
+     * @param fieldSchema 字段结构，为null时解除绑定
+     */
+    public void bind(OguFieldSchema fieldSchema) {
+        this.fieldSchema = fieldSchema;
+        if (fieldSchema == null) {
+            this.slots = null;
+            this.slotsComplete = false;
+            return;
+        }
+
+        OguFieldValue[] newSlots = new OguFieldValue[fieldSchema.size()];
+        boolean complete = true;
+        if (attributes != null) {
+            for (OguFieldValue attr : attributes) {
+                int index = attr == null ? -1 : fieldSchema.indexOf(attr.getFieldName());
+                if (index >= 0 && newSlots[index] == null) {
+                    newSlots[index] = attr;
+                } else {
+                    complete = false;
+                }
+            }
+        }
+        this.slots = newSlots;
+        this.slotsComplete = complete;
+    }
+
+    /**
+     * 按字段结构设置要素属性值
+     * <p>
+     * 属性值对象按字段序号排列，直接作为序号索引使用，省去按名称建立索引的开销，
+     * 适用于读取器按已编译的字段映射批量生成要素。数组中为null的位置表示要素没有该字段的属性。
+     * </p>
+     *
+     * @param fieldSchema 字段结构
+     * @param attributes  按字段序号排列的属性值对象，长度须与字段结构的字段数量一致
+     * @throws IllegalArgumentException 属性值对象数量与字段数量不一致时抛出异常
+     */
+    public void setAttributes(OguFieldSchema fieldSchema, OguFieldValue[] attributes) {
+        if (attributes.length != fieldSchema.size()) {
+            throw new IllegalArgumentException("属性值数量与字段数量不一致");
+        }
+        List<OguFieldValue> list = new ArrayList<>(attributes.length);
+        for (OguFieldValue attr : attributes) {
+            if (attr != null) {
+                list.add(attr);
+            }
+        }
+        this.attributes = list;
+        this.fieldSchema = fieldSchema;
+        this.slots = attributes;
+        this.slotsComplete = true;
+    }
+
+    /**
+     * 获取指定序号的属性值对象
+     *
+     * @param index 字段在绑定的字段结构中的序号
+     * @return 属性值对象，null表示要素没有该字段的属性
+     * @throws IllegalStateException     要素未绑定字段结构时抛出异常
+     * @throws IndexOutOfBoundsException 序号超出范围时抛出异常
+     */
+    public OguFieldValue getAttribute(int index) {
+        if (slots == null) {
+            throw new IllegalStateException("要素未绑定字段结构");
+        }
+        return slots[index];
+    }
+
+    /**
+     * 获取指定序号字段的值
+     *
+     * @param index 字段在绑定的字段结构中的序号
+     * @return 字段的值，null表示要素没有该字段的属性或值为空
+     * @throws IllegalStateException     要素未绑定字段结构时抛出异常
+     * @throws IndexOutOfBoundsException 序号超出范围时抛出异常
+     */
+    public Object getValue(int index) {
+        OguFieldValue attr = getAttribute(index);
+        return attr == null ? null : attr.getValue();
+    }
+
+    /**
+     * 设置指定序号字段的值
+     *
+     * @param index 字段在绑定的字段结构中的序号
+     * @param value 字段值
+     * @return 是否设置成功，要素没有该字段的属性时返回false
+     * @throws IllegalStateException     要素未绑定字段结构时抛出异常
+     * @throws IndexOutOfBoundsException 序号超出范围时抛出异常
+     */
+    public boolean setValue(int index, Object value) {
+        OguFieldValue attr = getAttribute(index);
+        if (attr != null) {
+            attr.setValue(value);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * 获取指定名称的属性值对象
+     * <p>
+     * 绑定的字段结构中有字段被原地重命名时，改为按名称逐个比较属性值集合查找。
+     * </p>
      *
      * @param fieldName 要获取的字段名称
      * @return 属性值对象，null表示该字段不存在
      */
     public OguFieldValue getAttribute(String fieldName) {
+        if (slots != null && fieldSchema.isCurrent()) {
+            int index = fieldSchema.indexOf(fieldName);
+            if (index >= 0 && slots[index] != null) {
+                return slots[index];
+            }
+            if (slotsComplete) {
+                return null;
+            }
+        }
         if (CollectionUtil.isEmpty(attributes)) {
             return null;
         }
@@ -92,14 +373,4 @@ public class OguFeature implements Serializable {
         }
         return false;
     }
-
-    /**
-     * 无参构造函数
-     * <p>
-     * 供JSON反序列化和框架创建空要素对象使用。
-     * </p>
-     */
-    public OguFeature(){
-
-    }
 }
@@ -0,0 +1,141 @@
+package com.znlgis.ogu4j.engine.model.layer;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * OGU字段结构类
+ * <p>
+ * 图层字段定义的不可变索引，将字段名称（不区分大小写）映射为字段序号，
+ * 由同一图层的所有要素共享，使要素可以按序号存取属性值而无需逐个比较字段名称。
+ * 字段名称重复时以第一个字段为准。
+ * 字段结构记录构建时的字段名称，字段被原地重命名后{@link #isCurrent()}返回false，
+ * 此时按名称的索引不再可靠，需以当前字段定义重新构建。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see OguLayer#getFieldSchema()
+ * @see OguFeature#bind(OguFieldSchema)
+ */
+public final class OguFieldSchema implements Serializable {
+
+    private final OguField[] fields;
+
+    private final String[] names;
+
+    private final Map<String, Integer> exactIndex;
+
+    private final Map<String, Integer> ignoreCaseIndex;
+
+    /**
+     * 构造函数
+     *
+     * @param fields 字段定义集合，为null时视为空集合
+     */
+    public OguFieldSchema(List<OguField> fields) {
+        this.fields = fields == null ? new OguField[0] : fields.toArray(new OguField[0]);
+        this.names = new String[this.fields.length];
+        this.exactIndex = new HashMap<>(this.fields.length * 2);
+        this.ignoreCaseIndex = new HashMap<>(this.fields.length * 2);
+        for (int i = 0; i < this.fields.length; i++) {
+            String name = this.fields[i] == null ? null : this.fields[i].getName();
+            names[i] = name;
+            if (name != null) {
+                exactIndex.putIfAbsent(name, i);
+                ignoreCaseIndex.putIfAbsent(name.toLowerCase(Locale.ROOT), i);
+            }
+        }
+    }
+
+    /**
+     * 获取字段序号
+     *
+     * @param fieldName 字段名称（不区分大小写）
+     * @return 字段序号，-1表示该字段不存在
+     */
+    public int indexOf(String fieldName) {
+        if (fieldName == null) {
+            return -1;
+        }
+        Integer index = exactIndex.get(fieldName);
+        if (index == null) {
+            index = ignoreCaseIndex.get(fieldName.toLowerCase(Locale.ROOT));
+        }
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * 获取指定序号的字段定义
+     *
+     * @param index 字段序号
+     * @return 字段定义
+     * @throws IndexOutOfBoundsException 序号超出范围时抛出异常
+     */
+    public OguField getField(int index) {
+        return fields[index];
+    }
+
+    /**
+     * 获取字段数量
+     *
+     * @return 字段数量
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * 获取字段定义集合
+     *
+     * @return 不可修改的字段定义集合
+     */
+    public List<OguField> getFields() {
+        return Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    /**
+     * 判断字段结构是否与给定的字段定义集合一致
+     * <p>
+     * 字段数量相同、各位置上为同一字段对象且字段名称未被修改时视为一致。
+     * </p>
+     *
+     * @param fields 字段定义集合
+     * @return true表示一致
+     */
+    public boolean matches(List<OguField> fields) {
+        if (fields == null) {
+            return this.fields.length == 0;
+        }
+        if (fields.size() != this.fields.length) {
+            return false;
+        }
+        for (int i = 0; i < this.fields.length; i++) {
+            if (fields.get(i) != this.fields[i]) {
+                return false;
+            }
+        }
+        return isCurrent();
+    }
+
+    /**
+     * 判断字段名称是否与构建时一致
+     *
+     * @return true表示各字段均未被重命名
+     */
+    public boolean isCurrent() {
+        for (int i = 0; i < fields.length; i++) {
+            String name = fields[i] == null ? null : fields[i].getName();
+            if (name != names[i] && (name == null || !name.equals(names[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
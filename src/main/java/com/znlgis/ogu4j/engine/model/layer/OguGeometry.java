@@ -0,0 +1,150 @@
+package com.znlgis.ogu4j.engine.model.layer;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * OGU几何容器类
+ * <p>
+ * 保存要素几何的WKT文本、WKB二进制和JTS Geometry三种表示形式。
+ * 设置任一形式时只保存该形式并清除其余形式；其余形式在首次读取时由已有形式转换生成并缓存，
+ * 同一几何在多次运算中只解析一次。
+ * </p>
+ * <p>
+ * 读取到的WKB数组和JTS Geometry对象与缓存共享，调用方原地修改后须重新调用对应的设置方法，
+ * 否则其余形式的缓存不会更新。本类不是线程安全的。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class OguGeometry implements Serializable {
+
+    private String wkt;
+
+    private byte[] wkb;
+
+    private Geometry geometry;
+
+    /**
+     * 是否没有几何
+     *
+     * @return 三种形式均为空（或WKT为空白）时返回true
+     */
+    public boolean isEmpty() {
+        return geometry == null && wkb == null && CharSequenceUtil.isBlank(wkt);
+    }
+
+    /**
+     * 获取WKT形式的几何
+     *
+     * @return WKT格式的字符串，null表示没有几何
+     */
+    public String getWkt() {
+        if (wkt == null) {
+            if (geometry != null) {
+                wkt = GeometryUtil.geometry2Wkt(geometry);
+            } else if (wkb != null) {
+                geometry = GeometryUtil.wkb2Geometry(wkb);
+                wkt = GeometryUtil.geometry2Wkt(geometry);
+            }
+        }
+        return wkt;
+    }
+
+    /**
+     * 以WKT形式设置几何
+     *
+     * @param wkt WKT格式的字符串
+     */
+    public void setWkt(String wkt) {
+        this.wkt = wkt;
+        this.wkb = null;
+        this.geometry = null;
+    }
+
+    /**
+     * 获取WKB形式的几何
+     *
+     * @return WKB格式的字节数组，null表示没有几何
+     */
+    public byte[] getWkb() {
+        if (wkb == null) {
+            Geometry parsed = getGeometry();
+            if (parsed != null) {
+                wkb = GeometryUtil.geometry2Wkb(parsed);
+            }
+        }
+        return wkb;
+    }
+
+    /**
+     * 以WKB形式设置几何
+     *
+     * @param wkb WKB格式的字节数组
+     */
+    public void setWkb(byte[] wkb) {
+        this.wkt = null;
+        this.wkb = wkb;
+        this.geometry = null;
+    }
+
+    /**
+     * 获取JTS Geometry形式的几何
+     *
+     * @return JTS Geometry对象，null表示没有几何
+     */
+    public Geometry getGeometry() {
+        if (geometry == null) {
+            if (wkb != null) {
+                geometry = GeometryUtil.wkb2Geometry(wkb);
+            } else if (CharSequenceUtil.isNotBlank(wkt)) {
+                geometry = GeometryUtil.wkt2Geometry(wkt);
+            }
+        }
+        return geometry;
+    }
+
+    /**
+     * 以JTS Geometry形式设置几何
+     *
+     * @param geometry JTS Geometry对象
+     */
+    public void setGeometry(Geometry geometry) {
+        this.wkt = null;
+        this.wkb = null;
+        this.geometry = geometry;
+    }
+
+    /**
+     * 按WKT文本比较几何
+     *
+     * @param o 比较对象
+     * @return 是否相等
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OguGeometry other)) {
+            return false;
+        }
+        return Objects.equals(getWkt(), other.getWkt());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getWkt());
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(getWkt());
+    }
+}
@@ -4,14 +4,24 @@ import cn.hutool.core.text.CharSequenceUtil;
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONReader;
 import com.alibaba.fastjson2.JSONWriter;
+import com.alibaba.fastjson2.annotation.JSONField;
 import com.znlgis.ogu4j.engine.util.CrsUtil;
 import com.znlgis.ogu4j.engine.enums.GeometryType;
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
 import com.znlgis.ogu4j.exception.LayerValidationException;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.locationtech.jts.geom.Geometry;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * OGU图层类
@@ -66,6 +76,22 @@ public class OguLayer implements Serializable {
      */
     private OguLayerMetadata metadata;
 
+    /**
+     * 字段结构缓存
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient OguFieldSchema fieldSchema;
+
+    /**
+     * 空间索引缓存
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient OguSpatialIndex spatialIndex;
+
     /**
      * 默认构造函数。供反射/序列化框架创建空图层对象使用。
      */
@@ -136,6 +162,125 @@ public class OguLayer implements Serializable {
         return features.stream().filter(filter::apply).collect(Collectors.toList());
     }
 
+    /**
+     * 按空间关系过滤要素
+     * <p>
+     * 查询几何只预处理一次，先按包络矩形排除再做精确判断，各要素的判断并行执行。
+     * 判断时会在要素上缓存解析后的JTS几何。
+     * </p>
+     *
+     * @param relation 空间关系类型（相交、包含、被包含或覆盖），以"查询几何 关系 要素几何"的方向判断
+     * @param geometry 查询几何
+     * @return 满足空间关系的要素列表，顺序与图层一致
+     * @see SpatialFeatureFilter
+     */
+    public List<OguFeature> filter(SpatialRelationType relation, Geometry geometry) {
+        SpatialFeatureFilter filter = new SpatialFeatureFilter(relation, geometry);
+        if (features == null) {
+            return List.of();
+        }
+        boolean[] matched = new boolean[features.size()];
+        ParallelUtil.forEachIndex(matched.length, i -> matched[i] = filter.apply(features.get(i)));
+        List<OguFeature> result = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i]) {
+                result.add(features.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 按空间关系过滤要素（延迟求值）
+     * <p>
+     * 返回的流在终结操作时才逐个判断要素，适合只取前若干个结果或与其他条件组合的场景。
+     * </p>
+     *
+     * @param relation 空间关系类型（相交、包含、被包含或覆盖），以"查询几何 关系 要素几何"的方向判断
+     * @param geometry 查询几何
+     * @return 满足空间关系的要素流，顺序与图层一致
+     * @see SpatialFeatureFilter
+     */
+    public Stream<OguFeature> filterLazily(SpatialRelationType relation, Geometry geometry) {
+        SpatialFeatureFilter filter = new SpatialFeatureFilter(relation, geometry);
+        if (features == null) {
+            return Stream.empty();
+        }
+        return features.stream().filter(filter::apply);
+    }
+
+    /**
+     * 复制图层结构
+     * <p>
+     * 返回一个名称、别名、坐标系、几何类型、容差、字段定义和元数据均与当前图层相同的新图层，
+     * 其要素集合为空。字段定义列表为新列表，但其中的字段对象及字段结构与当前图层共享。
+     * </p>
+     *
+     * @return 不含要素的图层结构
+     */
+    public OguLayer copySchema() {
+        OguLayer schema = new OguLayer();
+        schema.setName(name);
+        schema.setAlias(alias);
+        schema.setWkid(wkid);
+        schema.setGeometryType(geometryType);
+        schema.setTolerance(tolerance);
+        schema.setFields(fields == null ? new ArrayList<>() : new ArrayList<>(fields));
+        schema.setFeatures(new ArrayList<>());
+        schema.setMetadata(metadata);
+        schema.fieldSchema = fieldSchema;
+        return schema;
+    }
+
+    /**
+     * 获取字段结构
+     * <p>
+     * 字段结构由当前字段定义集合生成并缓存，供本图层的所有要素共享；
+     * 字段定义集合被替换或增删后，下次调用时会重新生成。
+     * </p>
+     *
+     * @return 字段结构
+     */
+    @JSONField(serialize = false)
+    public OguFieldSchema getFieldSchema() {
+        OguFieldSchema current = fieldSchema;
+        if (current == null || !current.matches(fields)) {
+            current = new OguFieldSchema(fields);
+            fieldSchema = current;
+        }
+        return current;
+    }
+
+    /**
+     * 设置要素集合，同时丢弃已缓存的空间索引
+     *
+     * @param features 要素集合
+     */
+    public void setFeatures(List<OguFeature> features) {
+        this.features = features;
+        this.spatialIndex = null;
+    }
+
+    /**
+     * 获取空间索引
+     * <p>
+     * 空间索引在首次调用时按当前要素集合构建并缓存，重复调用只做常数时间的检查，调用方无需自行保存索引。
+     * 要素集合被重新设置或增删要素后，下次调用时会重新构建；原地替换要素或重新设置要素几何后，
+     * 须重新调用{@link #setFeatures(List)}使缓存的索引失效。
+     * </p>
+     *
+     * @return 空间索引
+     */
+    @JSONField(serialize = false)
+    public OguSpatialIndex getSpatialIndex() {
+        OguSpatialIndex current = spatialIndex;
+        if (current == null || !current.matches(features)) {
+            current = new OguSpatialIndex(features);
+            spatialIndex = current;
+        }
+        return current;
+    }
+
     /**
      * 获取要素数量
      *
@@ -0,0 +1,225 @@
+package com.znlgis.ogu4j.engine.model.layer;
+
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.operation.distance.DistanceOp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * OGU要素空间索引
+ * <p>
+ * 以要素几何的包络矩形批量构建JTS {@link STRtree}，支持按包络矩形查询、按空间关系查询和K近邻查询，
+ * 避免每次空间查询都全表扫描并解析几何。构建时各要素几何的解析和包络计算并行执行；
+ * 没有几何的要素不进入索引。
+ * </p>
+ * <p>
+ * 索引记录构建时的要素列表对象和要素数量，{@link #matches(List)}只比较这两项，判断开销与要素数量无关。
+ * 要素列表被替换或增删要素后，{@link OguLayer#getSpatialIndex()}会在下次调用时重新构建；
+ * 原地替换列表中的要素或重新设置要素几何不会被检测到，此时须重新调用{@link OguLayer#setFeatures(List)}。
+ * 索引构建完成后不再修改，查询可由多个线程并发执行。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see OguLayer#getSpatialIndex()
+ */
+public final class OguSpatialIndex {
+    /**
+     * STRtree节点容量
+     */
+    private static final int NODE_CAPACITY = 10;
+
+    private final List<OguFeature> source;
+
+    private final OguFeature[] features;
+
+    private final Geometry[] geometries;
+
+    private final STRtree tree;
+
+    private final int size;
+
+    /**
+     * 构造函数，按要素列表构建空间索引
+     *
+     * @param features 要素列表，为null时构建空索引
+     */
+    public OguSpatialIndex(List<OguFeature> features) {
+        this.source = features;
+        this.features = features == null ? new OguFeature[0] : features.toArray(new OguFeature[0]);
+        this.geometries = new Geometry[this.features.length];
+        ParallelUtil.forEachIndex(this.features.length, i -> {
+            Geometry geometry = this.features[i].getJtsGeometry();
+            if (geometry != null && !geometry.isEmpty()) {
+                geometry.getEnvelopeInternal();
+                geometries[i] = geometry;
+            }
+        });
+        this.tree = new STRtree(NODE_CAPACITY);
+        int count = 0;
+        for (int i = 0; i < geometries.length; i++) {
+            if (geometries[i] != null) {
+                tree.insert(geometries[i].getEnvelopeInternal(), i);
+                count++;
+            }
+        }
+        this.size = count;
+        tree.build();
+    }
+
+    /**
+     * 获取索引中的要素数量（不含没有几何的要素）
+     *
+     * @return 要素数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断索引是否与要素列表一致
+     *
+     * @param features 要素列表
+     * @return 要素列表与构建时为同一对象且要素数量未变化时返回true
+     */
+    public boolean matches(List<OguFeature> features) {
+        return features == source && (features == null || features.size() == this.features.length);
+    }
+
+    /**
+     * 查询包络矩形与指定范围相交的要素
+     * <p>
+     * 只按包络矩形判断，结果可能包含几何本身与范围不相交的要素。
+     * </p>
+     *
+     * @param envelope 查询范围
+     * @return 候选要素列表，顺序与图层一致
+     */
+    public List<OguFeature> query(Envelope envelope) {
+        return toFeatures(queryIndexes(envelope));
+    }
+
+    /**
+     * 查询与查询几何满足空间关系的要素
+     * <p>
+     * 先按包络矩形从索引中取出候选要素，再用预处理的查询几何精确判断。
+     * </p>
+     *
+     * @param relation 空间关系类型（相交、包含、被包含或覆盖），以"查询几何 关系 要素几何"的方向判断
+     * @param geometry 查询几何
+     * @return 满足空间关系的要素列表，顺序与图层一致
+     * @see SpatialFeatureFilter
+     */
+    public List<OguFeature> query(SpatialRelationType relation, Geometry geometry) {
+        SpatialFeatureFilter filter = new SpatialFeatureFilter(relation, geometry);
+        if (geometry.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // 四种空间关系成立时两者的包络矩形必然相交，以此取候选要素
+        int[] candidates = queryIndexes(geometry.getEnvelopeInternal());
+        boolean[] matched = new boolean[candidates.length];
+        ParallelUtil.forEachIndex(candidates.length, i -> matched[i] = filter.apply(features[candidates[i]]));
+        List<OguFeature> result = new ArrayList<>();
+        for (int i = 0; i < candidates.length; i++) {
+            if (matched[i]) {
+                result.add(features[candidates[i]]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 查询与查询几何的距离不超过指定距离的要素
+     *
+     * @param geometry 查询几何
+     * @param distance 距离（与图层坐标系单位一致）
+     * @return 满足距离条件的要素列表，顺序与图层一致
+     */
+    public List<OguFeature> queryWithinDistance(Geometry geometry, double distance) {
+        if (geometry == null || geometry.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Envelope envelope = new Envelope(geometry.getEnvelopeInternal());
+        envelope.expandBy(distance);
+        List<OguFeature> result = new ArrayList<>();
+        for (int index : queryIndexes(envelope)) {
+            if (DistanceOp.isWithinDistance(geometry, geometries[index], distance)) {
+                result.add(features[index]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 查询与查询几何最近的K个要素
+     *
+     * @param geometry 查询几何
+     * @param k        要素数量
+     * @return 最近的要素列表，按距离从近到远排列，索引中要素不足K个时返回全部要素
+     */
+    public List<OguFeature> nearest(Geometry geometry, int k) {
+        if (k <= 0 || size == 0 || geometry == null || geometry.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int count = Math.min(k, size);
+        Object[] items = tree.nearestNeighbour(geometry.getEnvelopeInternal(), geometry,
+                new FeatureDistance(), count);
+        List<Neighbour> neighbours = new ArrayList<>(items.length);
+        for (Object item : items) {
+            int index = (Integer) item;
+            neighbours.add(new Neighbour(index, geometries[index].distance(geometry)));
+        }
+        neighbours.sort(Comparator.comparingDouble(Neighbour::distance).thenComparingInt(Neighbour::index));
+        List<OguFeature> result = new ArrayList<>(neighbours.size());
+        for (Neighbour neighbour : neighbours) {
+            result.add(features[neighbour.index()]);
+        }
+        return result;
+    }
+
+    private int[] queryIndexes(Envelope envelope) {
+        List<Object> items = new ArrayList<>();
+        tree.query(envelope, items::add);
+        int[] indexes = new int[items.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = (Integer) items.get(i);
+        }
+        Arrays.sort(indexes);
+        return indexes;
+    }
+
+    private List<OguFeature> toFeatures(int[] indexes) {
+        List<OguFeature> result = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            result.add(features[index]);
+        }
+        return result;
+    }
+
+    private record Neighbour(int index, double distance) {
+    }
+
+    /**
+     * 索引项与查询几何之间的几何距离
+     */
+    private final class FeatureDistance implements ItemDistance {
+        @Override
+        public double distance(ItemBoundable item1, ItemBoundable item2) {
+            return geometryOf(item1.getItem()).distance(geometryOf(item2.getItem()));
+        }
+
+        private Geometry geometryOf(Object item) {
+            return item instanceof Integer index ? geometries[index] : (Geometry) item;
+        }
+    }
+}
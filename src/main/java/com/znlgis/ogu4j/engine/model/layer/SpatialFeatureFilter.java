@@ -0,0 +1,104 @@
+package com.znlgis.ogu4j.engine.model.layer;
+
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+/**
+ * 空间要素过滤器
+ * <p>
+ * 将查询几何通过JTS {@link PreparedGeometryFactory}预处理一次（建立线段索引和点定位索引），
+ * 之后对每个候选要素分两步判断：先用包络矩形快速排除不可能满足关系的要素，
+ * 再用预处理几何做精确判断。候选要素几何取自{@link OguFeature#getJtsGeometry()}的缓存，
+ * 不重复解析WKT。
+ * </p>
+ * <p>
+ * 支持相交、包含、被包含和覆盖四种空间关系；没有几何的要素不满足任何关系。
+ * 实例构造完成后不再修改，可在并行过滤中由多个线程共享。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see OguLayer#filter(SpatialRelationType, Geometry)
+ */
+public final class SpatialFeatureFilter implements OguFeatureFilter {
+
+    private final SpatialRelationType relation;
+
+    private final PreparedGeometry prepared;
+
+    private final Envelope envelope;
+
+    /**
+     * 构造函数
+     *
+     * @param relation 空间关系类型，以"查询几何 关系 要素几何"的方向判断
+     * @param geometry 查询几何
+     * @throws IllegalArgumentException 空间关系类型不受支持或查询几何为空时抛出异常
+     */
+    public SpatialFeatureFilter(SpatialRelationType relation, Geometry geometry) {
+        if (geometry == null) {
+            throw new IllegalArgumentException("查询几何不能为空");
+        }
+        switch (relation) {
+            case INTERSECTS:
+            case CONTAINS:
+            case WITHIN:
+            case COVERS:
+                break;
+            default:
+                throw new IllegalArgumentException("不支持的空间关系类型: " + relation);
+        }
+        this.relation = relation;
+        this.prepared = PreparedGeometryFactory.prepare(geometry);
+        this.envelope = geometry.getEnvelopeInternal();
+    }
+
+    /**
+     * 获取空间关系类型
+     *
+     * @return 空间关系类型
+     */
+    public SpatialRelationType getRelation() {
+        return relation;
+    }
+
+    /**
+     * 获取查询几何
+     *
+     * @return 查询几何
+     */
+    public Geometry getGeometry() {
+        return prepared.getGeometry();
+    }
+
+    /**
+     * 判断要素几何是否与查询几何满足空间关系
+     *
+     * @param feature 要判断的要素
+     * @return 是否满足空间关系
+     */
+    @Override
+    public boolean apply(OguFeature feature) {
+        Geometry candidate = feature.getJtsGeometry();
+        if (candidate == null || candidate.isEmpty()) {
+            return false;
+        }
+        Envelope candidateEnvelope = candidate.getEnvelopeInternal();
+        switch (relation) {
+            case INTERSECTS:
+                return envelope.intersects(candidateEnvelope) && prepared.intersects(candidate);
+            case CONTAINS:
+                return envelope.covers(candidateEnvelope) && prepared.contains(candidate);
+            case WITHIN:
+                return candidateEnvelope.covers(envelope) && prepared.within(candidate);
+            case COVERS:
+                return envelope.covers(candidateEnvelope) && prepared.covers(candidate);
+            default:
+                return false;
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.znlgis.ogu4j.engine.util;
 
-import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
 import com.znlgis.ogu4j.geometry.GeometryUtil;
 import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.utils.ParallelUtil;
 import lombok.SneakyThrows;
 import org.geotools.data.crs.ForceCoordinateSystemFeatureResults;
 import org.geotools.data.store.ReprojectingFeatureCollection;
 import org.geotools.feature.FeatureCollection;
 import org.geotools.geometry.jts.JTS;
 import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.transform.IdentityTransform;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Point;
-import org.locationtech.jts.io.WKTReader;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.parameter.GeneralParameterValue;
@@ -20,18 +23,33 @@ import org.geotools.api.parameter.ParameterValueGroup;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.api.referencing.crs.GeographicCRS;
 import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.datum.Ellipsoid;
 import org.geotools.api.referencing.operation.MathTransform;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 坐标参考系（CRS）工具类
  * <p>
  * 提供坐标参考系的获取、转换、判断和几何对象的坐标转换功能。
  * 默认支持EPSG:4490-4554范围内的坐标系（中国2000国家大地坐标系及其投影）。
+ * 坐标系在首次使用时才解码并缓存，优先使用jar中的WKT快照（{@value #CRS_SNAPSHOT_RESOURCE}），
+ * 冷启动时无需初始化EPSG数据库。
  * 所有方法均为静态方法，无需实例化即可使用。
  * </p>
  *
@@ -40,7 +58,77 @@ import java.util.Map;
  * @since 1.0.0
  */
 public class CrsUtil {
-    private static Map<Integer, CoordinateReferenceSystem> supportedCRSList;
+    /**
+     * 使用坐标系定义快照的系统属性名，设置为false时始终从EPSG数据库解码坐标系
+     */
+    public static final String CRS_SNAPSHOT_PROPERTY = "ogu4j.crs.snapshot";
+
+    /**
+     * 坐标系定义快照资源路径
+     */
+    private static final String CRS_SNAPSHOT_RESOURCE = "ogu4j/crs/cgcs2000.properties";
+
+    /**
+     * 默认支持的最小WKID
+     */
+    private static final int MIN_DEFAULT_WKID = 4490;
+
+    /**
+     * 默认支持的最大WKID
+     */
+    private static final int MAX_DEFAULT_WKID = 4554;
+
+    /**
+     * CGCS2000 3度分带的最小带号
+     */
+    private static final int MIN_ZONE_NUMBER = 25;
+
+    /**
+     * CGCS2000 3度分带的最大带号
+     */
+    private static final int MAX_ZONE_NUMBER = 45;
+
+    /**
+     * 已解码的坐标系，KEY为WKID
+     */
+    private static final Map<Integer, CoordinateReferenceSystem> SUPPORTED_CRS = new ConcurrentHashMap<>();
+
+    /**
+     * 默认支持的坐标系是否已全部解码
+     */
+    private static volatile boolean defaultCRSLoaded;
+
+    /**
+     * 坐标转换缓存，KEY为源坐标系WKID（高32位）和目标坐标系WKID（低32位）
+     */
+    private static final Map<Long, MathTransform> MATH_TRANSFORMS = new ConcurrentHashMap<>();
+
+    /**
+     * 坐标系标准化结果缓存容量
+     */
+    private static final int STANDARDIZE_CACHE_CAPACITY = 256;
+
+    /**
+     * 坐标系标准化结果缓存，按坐标系对象的引用查找
+     */
+    private static final LRUCache<CrsKey, Map.Entry<Integer, CoordinateReferenceSystem>> STANDARDIZED_BY_CRS =
+            CacheUtil.newLRUCache(STANDARDIZE_CACHE_CAPACITY);
+
+    /**
+     * 坐标系标准化结果缓存，按坐标系WKT查找
+     */
+    private static final LRUCache<String, Map.Entry<Integer, CoordinateReferenceSystem>> STANDARDIZED_BY_WKT =
+            CacheUtil.newLRUCache(STANDARDIZE_CACHE_CAPACITY);
+
+    /**
+     * 各坐标系的容差缓存，KEY为WKID
+     */
+    private static final Map<Integer, Double> TOLERANCES = new ConcurrentHashMap<>();
+
+    /**
+     * 各坐标系是否为投影坐标系的缓存，KEY为WKID
+     */
+    private static final Map<Integer, Boolean> PROJECTED = new ConcurrentHashMap<>();
 
     private CrsUtil() {
         throw new IllegalStateException("Utility class");
@@ -48,20 +136,20 @@ public class CrsUtil {
 
     /**
      * 获取支持的投影坐标系列表
+     * <p>
+     * 首次调用时解码默认支持的全部坐标系（EPSG:4490-4554），之后直接返回。
+     * </p>
      *
      * @return 支持的投影坐标系列表，KEY为WKID，VALUE为坐标系
      */
-    @SneakyThrows
     private static Map<Integer, CoordinateReferenceSystem> supportedCRSList() {
-        if (supportedCRSList != null && !supportedCRSList.isEmpty()) {
-            return supportedCRSList;
-        }
-
-        supportedCRSList = new HashMap<>();
-        for (int i = 4490; i < 4555; i++) {
-            supportedCRSList.put(i, CRS.decode("EPSG:" + i, true));
+        if (!defaultCRSLoaded) {
+            for (int i = MIN_DEFAULT_WKID; i <= MAX_DEFAULT_WKID; i++) {
+                SUPPORTED_CRS.computeIfAbsent(i, CrsUtil::decodeCRS);
+            }
+            defaultCRSLoaded = true;
         }
-        return supportedCRSList;
+        return SUPPORTED_CRS;
     }
 
     /**
@@ -75,47 +163,106 @@ public class CrsUtil {
 
     /**
      * 获取被支持的标准的EPSG Code和对应坐标系信息，如果不存在则增加
+     * <p>
+     * 坐标系在首次获取时才解码，可由多个线程并发调用。
+     * </p>
      *
      * @param wkid 坐标系WKID
      * @return Key为EPSG Code，Value为对应坐标系信息
      */
-    @SneakyThrows
     public static Map.Entry<Integer, CoordinateReferenceSystem> getSupportedCRS(Integer wkid) {
-        if (!supportedCRSList().containsKey(wkid)) {
-            CoordinateReferenceSystem crs = CRS.decode("EPSG:" + wkid, true);
-            supportedCRSList().put(wkid, crs);
-            return new HashMap.SimpleEntry<>(wkid, crs);
-        }
+        return new HashMap.SimpleEntry<>(wkid, SUPPORTED_CRS.computeIfAbsent(wkid, CrsUtil::decodeCRS));
+    }
 
-        return new HashMap.SimpleEntry<>(wkid, supportedCRSList().get(wkid));
+    /**
+     * 解码坐标系
+     * <p>
+     * 优先解析jar中坐标系定义快照的WKT，无需启动EPSG数据库；快照中没有或解析失败时从EPSG数据库解码。
+     * </p>
+     *
+     * @param wkid 坐标系WKID
+     * @return 坐标系（经度在前）
+     */
+    @SneakyThrows
+    private static CoordinateReferenceSystem decodeCRS(Integer wkid) {
+        String wkt = CrsSnapshot.WKTS.get(wkid);
+        if (wkt != null) {
+            try {
+                return CRS.parseWKT(wkt);
+            } catch (FactoryException e) {
+                // 快照不可用时从EPSG数据库解码
+            }
+        }
+        return CRS.decode("EPSG:" + wkid, true);
     }
 
     /**
      * 在被支持的坐标系范围内获取符合GeoTools标准的EPSG Code和对应坐标系信息
+     * <p>
+     * 匹配结果按坐标系对象的引用和WKT文本缓存（容量有界）：同一坐标系对象重复调用时直接命中，
+     * 重新解析得到的等价坐标系对象按WKT命中，均不再逐个比较投影参数。
+     * </p>
      *
      * @param crs 坐标系
      * @return Key为EPSG Code，Value为对应坐标系信息
      */
     public static Map.Entry<Integer, CoordinateReferenceSystem> standardizeCRS(CoordinateReferenceSystem crs) {
+        CrsKey key = new CrsKey(crs);
+        Map.Entry<Integer, CoordinateReferenceSystem> result = STANDARDIZED_BY_CRS.get(key);
+        if (result != null) {
+            return result;
+        }
+
+        String wkt = toWKT(crs);
+        result = wkt == null ? null : STANDARDIZED_BY_WKT.get(wkt);
+        if (result != null) {
+            STANDARDIZED_BY_CRS.put(key, result);
+            return result;
+        }
+
         for (Map.Entry<Integer, CoordinateReferenceSystem> entry : supportedCRSList().entrySet()) {
             if (isSameCRS(crs, entry.getValue())) {
-                return entry;
+                result = new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                STANDARDIZED_BY_CRS.put(key, result);
+                if (wkt != null) {
+                    STANDARDIZED_BY_WKT.put(wkt, result);
+                }
+                return result;
             }
         }
 
         throw new RuntimeException("不支持的坐标系");
     }
 
+    /**
+     * 获取坐标系的WKT文本，无法格式化为WKT时返回null
+     */
+    private static String toWKT(CoordinateReferenceSystem crs) {
+        try {
+            return crs.toWKT();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
     /**
      * 在被支持的坐标系范围内获取符合GeoTools标准的EPSG Code和对应坐标系信息
+     * <p>
+     * 匹配结果按WKT文本缓存（容量有界），同一WKT重复调用时不再解析和匹配。
+     * </p>
      *
      * @param wkt 坐标系WKT
      * @return Key为EPSG Code，Value为对应坐标系信息
      */
     @SneakyThrows
     public static Map.Entry<Integer, CoordinateReferenceSystem> standardizeCRS(String wkt) {
-        CoordinateReferenceSystem crs = CRS.parseWKT(wkt);
-        return standardizeCRS(crs);
+        Map.Entry<Integer, CoordinateReferenceSystem> result = STANDARDIZED_BY_WKT.get(wkt);
+        if (result == null) {
+            CoordinateReferenceSystem crs = CRS.parseWKT(wkt);
+            result = standardizeCRS(crs);
+            STANDARDIZED_BY_WKT.put(wkt, result);
+        }
+        return result;
     }
 
     /**
@@ -126,18 +273,40 @@ public class CrsUtil {
      */
     public static boolean isProjectedCRS(CoordinateReferenceSystem crs) {
         Map.Entry<Integer, CoordinateReferenceSystem> entry = standardizeCRS(crs);
-        return entry.getValue() instanceof ProjectedCRS;
+        return PROJECTED.computeIfAbsent(entry.getKey(), wkid -> entry.getValue() instanceof ProjectedCRS);
+    }
+
+    /**
+     * 判断坐标系是否为投影坐标系
+     *
+     * @param wkid WKID
+     * @return 是否为投影坐标系
+     */
+    public static boolean isProjectedCRS(Integer wkid) {
+        Boolean projected = PROJECTED.get(wkid);
+        if (projected == null) {
+            projected = getSupportedCRS(wkid).getValue() instanceof ProjectedCRS;
+            PROJECTED.putIfAbsent(wkid, projected);
+        }
+        return projected;
     }
 
     /**
      * 获取坐标系容差
+     * <p>
+     * 结果按WKID缓存。
+     * </p>
      *
      * @param wkid WKID
      * @return 容差
      */
     public static double getTolerance(Integer wkid) {
-        Map.Entry<Integer, CoordinateReferenceSystem> entry = getSupportedCRS(wkid);
-        return getTolerance(entry.getValue());
+        Double tolerance = TOLERANCES.get(wkid);
+        if (tolerance == null) {
+            tolerance = getTolerance(getSupportedCRS(wkid).getValue());
+            TOLERANCES.putIfAbsent(wkid, tolerance);
+        }
+        return tolerance;
     }
 
     /**
@@ -249,15 +418,64 @@ public class CrsUtil {
      * @param sourceWkid 源坐标系WKID
      * @param targetWkid 目标坐标系WKID
      * @return 坐标转换后的几何对象
+     * @see GaussKrugerUtil
      */
     public static Geometry transform(Geometry geometry, Integer sourceWkid, Integer targetWkid) {
         if (sourceWkid.equals(targetWkid)) {
             return geometry;
         }
+        // CGCS2000与其高斯-克吕格投影之间的转换使用闭合公式，不经过GeoTools
+        if (GaussKrugerUtil.isSupported(sourceWkid, targetWkid)) {
+            return GaussKrugerUtil.transform(geometry, sourceWkid, targetWkid);
+        }
 
+        return transform(geometry, getMathTransform(sourceWkid, targetWkid));
+    }
+
+    /**
+     * 获取两个坐标系之间的坐标转换
+     * <p>
+     * 坐标转换按（源坐标系WKID，目标坐标系WKID）缓存，同一对坐标系只查找一次；
+     * 两个坐标系相同时返回恒等转换。坐标转换对象不可变，可由多个线程共享。
+     * </p>
+     *
+     * @param sourceWkid 源坐标系WKID
+     * @param targetWkid 目标坐标系WKID
+     * @return 坐标转换
+     */
+    public static MathTransform getMathTransform(Integer sourceWkid, Integer targetWkid) {
+        long key = ((long) sourceWkid << 32) | (targetWkid & 0xFFFFFFFFL);
+        MathTransform transform = MATH_TRANSFORMS.get(key);
+        if (transform == null) {
+            transform = findMathTransform(sourceWkid, targetWkid);
+            MATH_TRANSFORMS.putIfAbsent(key, transform);
+        }
+        return transform;
+    }
+
+    @SneakyThrows
+    private static MathTransform findMathTransform(Integer sourceWkid, Integer targetWkid) {
         CoordinateReferenceSystem sourceCRS = getSupportedCRS(sourceWkid).getValue();
         CoordinateReferenceSystem targetCRS = getSupportedCRS(targetWkid).getValue();
-        return transform(geometry, sourceCRS, targetCRS);
+        if (isSameCRS(sourceCRS, targetCRS)) {
+            return IdentityTransform.create(2);
+        }
+        return CRS.findMathTransform(sourceCRS, targetCRS);
+    }
+
+    /**
+     * 几何对象按坐标转换变换坐标
+     *
+     * @param geometry  几何对象
+     * @param transform 坐标转换
+     * @return 坐标转换后的几何对象，恒等转换时返回原几何对象
+     */
+    @SneakyThrows
+    public static Geometry transform(Geometry geometry, MathTransform transform) {
+        if (transform.isIdentity()) {
+            return geometry;
+        }
+        return JTS.transform(geometry, transform);
     }
 
     /**
@@ -280,29 +498,165 @@ public class CrsUtil {
 
     /**
      * 转换坐标系
+     * <p>
+     * 返回新图层，原图层不变。新图层的要素为新对象，几何为转换后的新几何，
+     * 属性值对象为新对象但与原要素共享属性值本身，字段定义和元数据与原图层共享。
+     * 各要素的坐标转换并行执行。
+     * </p>
      *
      * @param oguLayer   OGU图层
      * @param targetWkid 目标坐标系WKID
      * @return 转换后的OGU图层
+     * @see #reprojectInPlace(OguLayer, Integer)
      */
-    @SneakyThrows
     public static OguLayer reproject(OguLayer oguLayer, Integer targetWkid) {
         oguLayer.validate();
 
-        OguLayer clone = ObjectUtil.cloneByStream(oguLayer);
-        if (clone.getWkid().equals(targetWkid)) {
-            return clone;
+        List<OguFeature> features = oguLayer.getFeatures() == null ? List.of() : oguLayer.getFeatures();
+        Geometry[] geometries = transformGeometries(features, oguLayer.getWkid(), targetWkid);
+        OguFeature[] copyFeatures = new OguFeature[features.size()];
+        ParallelUtil.forEachIndex(copyFeatures.length, i -> {
+            OguFeature feature = features.get(i);
+            Geometry geometry = geometries[i];
+            // 恒等转换返回原几何对象，复制后再放入新图层
+            if (geometry != null && geometry == feature.getJtsGeometry()) {
+                geometry = geometry.copy();
+            }
+            copyFeatures[i] = copyFeature(feature, geometry);
+        });
+        OguLayer copy = oguLayer.copySchema();
+        copy.setFeatures(new ArrayList<>(Arrays.asList(copyFeatures)));
+        copy.setWkid(targetWkid);
+        copy.setTolerance(getTolerance(targetWkid));
+        return copy;
+    }
+
+    /**
+     * 原地转换坐标系
+     * <p>
+     * 直接替换图层中各要素的几何并修改图层坐标系和容差，不复制图层，适用于大图层。
+     * 各要素的坐标转换并行执行，全部转换成功后才替换几何，任一要素转换失败时图层保持不变。
+     * </p>
+     *
+     * @param oguLayer   OGU图层
+     * @param targetWkid 目标坐标系WKID
+     * @return 转换后的OGU图层（即传入的图层）
+     */
+    public static OguLayer reprojectInPlace(OguLayer oguLayer, Integer targetWkid) {
+        oguLayer.validate();
+        if (oguLayer.getWkid().equals(targetWkid)) {
+            return oguLayer;
         }
 
-        for (OguFeature feature : clone.getFeatures()) {
-            Geometry geometry = new WKTReader().read(feature.getGeometry());
-            Geometry targetGeometry = transform(geometry, oguLayer.getWkid(), targetWkid);
-            feature.setGeometry(targetGeometry.toText());
+        List<OguFeature> features = oguLayer.getFeatures() == null ? List.of() : oguLayer.getFeatures();
+        Geometry[] geometries = transformGeometries(features, oguLayer.getWkid(), targetWkid);
+        for (int i = 0; i < geometries.length; i++) {
+            if (geometries[i] != null) {
+                features.get(i).setJtsGeometry(geometries[i]);
+            }
         }
+        oguLayer.setWkid(targetWkid);
+        oguLayer.setTolerance(getTolerance(targetWkid));
+        return oguLayer;
+    }
+
+    /**
+     * 按3度分带转换坐标系
+     * <p>
+     * 按要素几何中心点所在的3度带（见{@link #getDh(Geometry)}）将要素分组，每组转换到所在带的投影坐标系
+     * （EPSG:4513-4533），适用于跨越多个投影带的图层。返回新图层，原图层不变，
+     * 各图层的要素按原图层顺序排列，要素副本与{@link #reproject(OguLayer, Integer)}相同；没有几何的要素不输出。
+     * 各要素的分带和坐标转换在同一轮中并行执行。
+     * </p>
+     *
+     * @param oguLayer OGU图层
+     * @return 各投影带的图层，KEY为投影坐标系WKID，按WKID从小到大排列
+     * @throws IllegalArgumentException 要素几何中心点不在第25-45带（东经73.5°-136.5°）范围内时抛出异常
+     */
+    public static Map<Integer, OguLayer> reprojectByZone(OguLayer oguLayer) {
+        oguLayer.validate();
 
-        clone.setWkid(targetWkid);
-        clone.setTolerance(getTolerance(targetWkid));
-        return clone;
+        Integer sourceWkid = oguLayer.getWkid();
+        List<OguFeature> features = oguLayer.getFeatures() == null ? List.of() : oguLayer.getFeatures();
+        int[] zoneWkids = new int[features.size()];
+        OguFeature[] copyFeatures = new OguFeature[features.size()];
+        ParallelUtil.forEachIndex(copyFeatures.length, i -> {
+            OguFeature feature = features.get(i);
+            Geometry geometry = feature.getJtsGeometry();
+            if (geometry == null || geometry.isEmpty()) {
+                return;
+            }
+            int dh = getDh(toGeographic(geometry.getCentroid(), sourceWkid));
+            if (dh < MIN_ZONE_NUMBER || dh > MAX_ZONE_NUMBER) {
+                throw new IllegalArgumentException("要素" + feature.getId() + "的几何中心点不在3度分带第"
+                        + MIN_ZONE_NUMBER + "-" + MAX_ZONE_NUMBER + "带范围内: " + dh);
+            }
+            int zoneWkid = getProjectedWkid(dh);
+            Geometry transformed = transform(geometry, sourceWkid, zoneWkid);
+            if (transformed == geometry) {
+                transformed = geometry.copy();
+            }
+            zoneWkids[i] = zoneWkid;
+            copyFeatures[i] = copyFeature(feature, transformed);
+        });
+
+        Map<Integer, OguLayer> layers = new TreeMap<>();
+        for (int i = 0; i < copyFeatures.length; i++) {
+            if (copyFeatures[i] == null) {
+                continue;
+            }
+            OguLayer zoneLayer = layers.computeIfAbsent(zoneWkids[i], wkid -> {
+                OguLayer copy = oguLayer.copySchema();
+                copy.setWkid(wkid);
+                copy.setTolerance(getTolerance(wkid));
+                return copy;
+            });
+            zoneLayer.getFeatures().add(copyFeatures[i]);
+        }
+        return layers;
+    }
+
+    /**
+     * 将点转换到CGCS2000地理坐标系，用于按经度判断投影带
+     */
+    private static Geometry toGeographic(Point point, Integer sourceWkid) {
+        return sourceWkid == 4490 ? point : transform(point, sourceWkid, 4490);
+    }
+
+    /**
+     * 并行转换要素几何
+     *
+     * @return 与要素顺序一致的转换后几何，要素没有几何时为null，恒等转换时为原几何对象
+     */
+    private static Geometry[] transformGeometries(List<OguFeature> features, Integer sourceWkid, Integer targetWkid) {
+        boolean gaussKruger = GaussKrugerUtil.isSupported(sourceWkid, targetWkid);
+        MathTransform transform = gaussKruger ? null : getMathTransform(sourceWkid, targetWkid);
+        Geometry[] geometries = new Geometry[features.size()];
+        ParallelUtil.forEachIndex(geometries.length, i -> {
+            Geometry geometry = features.get(i).getJtsGeometry();
+            if (geometry != null) {
+                geometries[i] = gaussKruger ? GaussKrugerUtil.transform(geometry, sourceWkid, targetWkid)
+                        : transform(geometry, transform);
+            }
+        });
+        return geometries;
+    }
+
+    private static OguFeature copyFeature(OguFeature feature, Geometry geometry) {
+        OguFeature copy = new OguFeature();
+        copy.setId(feature.getId());
+        copy.setJtsGeometry(geometry);
+        if (feature.getAttributes() != null) {
+            List<OguFieldValue> attributes = new ArrayList<>(feature.getAttributes().size());
+            for (OguFieldValue attribute : feature.getAttributes()) {
+                attributes.add(attribute == null ? null
+                        : new OguFieldValue(attribute.getField(), attribute.getValue()));
+            }
+            copy.setAttributes(attributes);
+        }
+        copy.setCoordinates(feature.getCoordinates() == null ? null : new ArrayList<>(feature.getCoordinates()));
+        copy.setRawValues(feature.getRawValues() == null ? null : new ArrayList<>(feature.getRawValues()));
+        return copy;
     }
 
     /**
@@ -363,4 +717,50 @@ public class CrsUtil {
 
         return false;
     }
+
+    /**
+     * 按引用比较坐标系对象的缓存键
+     */
+    private record CrsKey(CoordinateReferenceSystem crs) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CrsKey other && other.crs == crs;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(crs);
+        }
+    }
+
+    /**
+     * 坐标系定义快照，首次使用时从jar中加载
+     */
+    private static final class CrsSnapshot {
+        private static final Map<Integer, String> WKTS = load();
+
+        private CrsSnapshot() {
+        }
+
+        private static Map<Integer, String> load() {
+            Map<Integer, String> wkts = new HashMap<>();
+            if (!Boolean.parseBoolean(System.getProperty(CRS_SNAPSHOT_PROPERTY, "true"))) {
+                return wkts;
+            }
+            InputStream in = CrsUtil.class.getClassLoader().getResourceAsStream(CRS_SNAPSHOT_RESOURCE);
+            if (in == null) {
+                return wkts;
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                return wkts;
+            }
+            for (String name : properties.stringPropertyNames()) {
+                wkts.put(Integer.valueOf(name), properties.getProperty(name));
+            }
+            return wkts;
+        }
+    }
 }
@@ -0,0 +1,296 @@
+package com.znlgis.ogu4j.engine.util;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.znlgis.ogu4j.engine.enums.DatumTransformType;
+import com.znlgis.ogu4j.engine.model.TransformParamModel;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.List;
+
+/**
+ * 参数法坐标转换工具类
+ * <p>
+ * 按七参数（布尔莎模型）或四参数（平面相似变换）原地转换图层、几何和坐标序列的坐标，
+ * 用于将地方坐标系的数据批量转换到CGCS2000等场景，参数可直接取自国土TXT格式的"转换参数"元数据。
+ * 图层转换时各要素在{@link ParallelUtil}的线程池中并行处理，直接修改要素几何的坐标序列，不复制几何。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ * <p>
+ * 七参数采用坐标框架旋转约定：
+ * X' = ΔX + (1+m)X + εz·Y - εy·Z，Y' = ΔY + (1+m)Y - εz·X + εx·Z，Z' = ΔZ + (1+m)Z + εy·X - εx·Y。
+ * 坐标先按源椭球（{@link TransformParamModel#getSourceSemiMajorAxis()}，未指定时为CGCS2000椭球）
+ * 由图层坐标系（CGCS2000地理坐标系或其高斯-克吕格投影坐标系，投影带取该坐标系的中央子午线和东偏移）
+ * 换算为空间直角坐标，转换后按CGCS2000椭球换算回原坐标系，高程取坐标的Z值（没有时为0）且转换后不变。
+ * 四参数直接作用于平面坐标，按测量坐标系约定以X为北坐标、Y为东坐标（与国土TXT格式的坐标顺序一致）：
+ * X' = ΔX + (1+m)(X·cosθ - Y·sinθ)，Y' = ΔY + (1+m)(X·sinθ + Y·cosθ)，
+ * 即几何坐标的y（北）对应X、x（东）对应Y。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see TransformParamModel
+ */
+public class DatumTransformUtil {
+    /**
+     * 角秒转弧度
+     */
+    private static final double SECOND_TO_RADIAN = Math.PI / 648000;
+
+    /**
+     * 空间直角坐标反算大地纬度的收敛阈值（弧度）
+     */
+    private static final double LATITUDE_TOLERANCE = 1e-12;
+
+    /**
+     * 空间直角坐标反算大地纬度的最大迭代次数
+     */
+    private static final int MAX_ITERATIONS = 10;
+
+    private DatumTransformUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 解析转换参数字符串
+     * <p>
+     * 参数以逗号分隔：七个值依次为X平移、Y平移、Z平移、X旋转、Y旋转、Z旋转、尺度；
+     * 四个值依次为X（北）平移、Y（东）平移、旋转角、尺度。单位见{@link TransformParamModel}。
+     * </p>
+     *
+     * @param params 转换参数字符串，如"0,0,0,0,0,0,0"
+     * @return 坐标转换参数
+     * @throws IllegalArgumentException 参数为空、数量不是7或4、或不是数值时抛出异常
+     */
+    public static TransformParamModel parseParams(String params) {
+        if (CharSequenceUtil.isBlank(params)) {
+            throw new IllegalArgumentException("转换参数为空");
+        }
+        String[] values = params.trim().split("\\s*[,，]\\s*");
+        double[] numbers = new double[values.length];
+        try {
+            for (int i = 0; i < values.length; i++) {
+                numbers[i] = Double.parseDouble(values[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("转换参数格式不正确: " + params, e);
+        }
+        if (numbers.length == 7) {
+            return new TransformParamModel(DatumTransformType.SEVEN_PARAMETER, numbers[0], numbers[1], numbers[2],
+                    numbers[3], numbers[4], numbers[5], numbers[6]);
+        } else if (numbers.length == 4) {
+            return new TransformParamModel(numbers[0], numbers[1], numbers[2], numbers[3]);
+        }
+        throw new IllegalArgumentException("转换参数数量应为7或4: " + params);
+    }
+
+    /**
+     * 按图层元数据中的转换参数原地转换图层坐标
+     *
+     * @param layer 图层
+     * @return 转换后的图层（即传入的图层）
+     * @throws IllegalArgumentException 图层没有转换参数或参数格式不正确时抛出异常
+     * @see #transform(OguLayer, TransformParamModel)
+     */
+    public static OguLayer transform(OguLayer layer) {
+        String params = layer.getMetadata() == null ? null : layer.getMetadata().getTransformParams();
+        if (CharSequenceUtil.isBlank(params)) {
+            throw new IllegalArgumentException("图层没有转换参数");
+        }
+        return transform(layer, parseParams(params));
+    }
+
+    /**
+     * 原地转换图层坐标
+     * <p>
+     * 直接修改各要素几何的坐标并使要素的WKT、WKB缓存和空间索引失效，图层坐标系和容差不变。
+     * 七参数转换北京54、西安80等非CGCS2000椭球上的坐标时须在参数中指定源椭球，
+     * 图层坐标系为与源坐标同一投影带的CGCS2000坐标系，转换结果即为该CGCS2000坐标系下的坐标。
+     * 要素的TXT坐标点集合（{@link OguFeature#getCoordinates()}）不修改。各要素的转换并行执行。
+     * </p>
+     *
+     * @param layer  图层
+     * @param params 坐标转换参数
+     * @return 转换后的图层（即传入的图层）
+     * @throws IllegalArgumentException 七参数转换时图层坐标系不是CGCS2000地理坐标系或其高斯-克吕格投影坐标系时抛出异常
+     */
+    public static OguLayer transform(OguLayer layer, TransformParamModel params) {
+        int wkid = checkWkid(layer.getWkid(), params);
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        ParallelUtil.forEach(features, feature -> {
+            Geometry geometry = feature.getJtsGeometry();
+            if (geometry != null && !geometry.isEmpty()) {
+                geometry.apply(new TransformFilter(params, wkid));
+                feature.setJtsGeometry(geometry);
+            }
+        });
+        return layer;
+    }
+
+    /**
+     * 原地转换几何坐标
+     *
+     * @param geometry 几何对象
+     * @param params   坐标转换参数
+     * @param wkid     几何坐标系WKID，四参数转换时不使用
+     * @return 转换后的几何对象（即传入的几何对象）
+     * @throws IllegalArgumentException 七参数转换时坐标系不是CGCS2000地理坐标系或其高斯-克吕格投影坐标系时抛出异常
+     */
+    public static Geometry transform(Geometry geometry, TransformParamModel params, Integer wkid) {
+        geometry.apply(new TransformFilter(params, checkWkid(wkid, params)));
+        return geometry;
+    }
+
+    /**
+     * 原地转换坐标序列，只修改x、y
+     *
+     * @param sequence 坐标序列
+     * @param params   坐标转换参数
+     * @param wkid     坐标序列坐标系WKID，四参数转换时不使用
+     * @throws IllegalArgumentException 七参数转换时坐标系不是CGCS2000地理坐标系或其高斯-克吕格投影坐标系时抛出异常
+     */
+    public static void transform(CoordinateSequence sequence, TransformParamModel params, Integer wkid) {
+        TransformFilter filter = new TransformFilter(params, checkWkid(wkid, params));
+        for (int i = 0; i < sequence.size(); i++) {
+            filter.filter(sequence, i);
+        }
+    }
+
+    private static int checkWkid(Integer wkid, TransformParamModel params) {
+        if (params.getTransformType() == DatumTransformType.FOUR_PARAMETER) {
+            return 0;
+        }
+        if (!GaussKrugerUtil.isSupported(wkid, GaussKrugerUtil.GEOGRAPHIC_WKID)) {
+            throw new IllegalArgumentException("七参数转换不支持的坐标系: " + wkid);
+        }
+        return wkid;
+    }
+
+    /**
+     * 逐坐标原地转换的过滤器，每个过滤器只由一个线程使用
+     */
+    private static final class TransformFilter implements CoordinateSequenceFilter {
+        private final boolean sevenParameter;
+
+        private final GaussKrugerUtil.Ellipsoid source;
+
+        private final int wkid;
+
+        private final double dx;
+
+        private final double dy;
+
+        private final double dz;
+
+        private final double rx;
+
+        private final double ry;
+
+        private final double rz;
+
+        private final double scale;
+
+        private final double cos;
+
+        private final double sin;
+
+        private final double[] point = new double[3];
+
+        private TransformFilter(TransformParamModel params, int wkid) {
+            this.sevenParameter = params.getTransformType() == DatumTransformType.SEVEN_PARAMETER;
+            this.source = params.getSourceSemiMajorAxis() == null || params.getSourceFlattening() == null
+                    ? GaussKrugerUtil.CGCS2000
+                    : new GaussKrugerUtil.Ellipsoid(params.getSourceSemiMajorAxis(), params.getSourceFlattening());
+            this.wkid = wkid;
+            this.dx = params.getDx();
+            this.dy = params.getDy();
+            this.dz = params.getDz();
+            this.rx = params.getRx() * SECOND_TO_RADIAN;
+            this.ry = params.getRy() * SECOND_TO_RADIAN;
+            this.rz = params.getRz() * SECOND_TO_RADIAN;
+            this.scale = 1 + params.getScale() * 1e-6;
+            this.cos = Math.cos(rz);
+            this.sin = Math.sin(rz);
+        }
+
+        @Override
+        public void filter(CoordinateSequence sequence, int i) {
+            double x = sequence.getX(i);
+            double y = sequence.getY(i);
+            if (sevenParameter) {
+                double z = sequence.hasZ() ? sequence.getZ(i) : Double.NaN;
+                point[0] = x;
+                point[1] = y;
+                point[2] = Double.isNaN(z) ? 0 : z;
+                sevenParameter(point);
+                x = point[0];
+                y = point[1];
+            } else {
+                // 测量坐标系X为北坐标（几何的y）、Y为东坐标（几何的x）
+                double north = dx + scale * (y * cos - x * sin);
+                x = dy + scale * (y * sin + x * cos);
+                y = north;
+            }
+            sequence.setOrdinate(i, CoordinateSequence.X, x);
+            sequence.setOrdinate(i, CoordinateSequence.Y, y);
+        }
+
+        /**
+         * 七参数转换[x, y, 高程]，原地替换x、y
+         */
+        private void sevenParameter(double[] point) {
+            if (wkid != GaussKrugerUtil.GEOGRAPHIC_WKID) {
+                source.inverse(point, wkid);
+            }
+            double lambda = Math.toRadians(point[0]);
+            double phi = Math.toRadians(point[1]);
+            double h = point[2];
+
+            double sinPhi = Math.sin(phi);
+            double cosPhi = Math.cos(phi);
+            double n = source.semiMajorAxis / Math.sqrt(1 - source.e2 * sinPhi * sinPhi);
+            double x = (n + h) * cosPhi * Math.cos(lambda);
+            double y = (n + h) * cosPhi * Math.sin(lambda);
+            double z = (n * (1 - source.e2) + h) * sinPhi;
+
+            double tx = dx + scale * x + rz * y - ry * z;
+            double ty = dy + scale * y - rz * x + rx * z;
+            double tz = dz + scale * z + ry * x - rx * y;
+
+            double e2 = GaussKrugerUtil.CGCS2000.e2;
+            double p = Math.hypot(tx, ty);
+            phi = Math.atan2(tz, p * (1 - e2));
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                sinPhi = Math.sin(phi);
+                n = GaussKrugerUtil.SEMI_MAJOR_AXIS / Math.sqrt(1 - e2 * sinPhi * sinPhi);
+                h = p / Math.cos(phi) - n;
+                double next = Math.atan2(tz, p * (1 - e2 * n / (n + h)));
+                boolean converged = Math.abs(next - phi) < LATITUDE_TOLERANCE;
+                phi = next;
+                if (converged) {
+                    break;
+                }
+            }
+            point[0] = Math.toDegrees(Math.atan2(ty, tx));
+            point[1] = Math.toDegrees(phi);
+            if (wkid != GaussKrugerUtil.GEOGRAPHIC_WKID) {
+                GaussKrugerUtil.forward(point, wkid);
+            }
+        }
+
+        @Override
+        public boolean isDone() {
+            return false;
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.znlgis.ogu4j.engine.util;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * CGCS2000高斯-克吕格投影工具类
+ * <p>
+ * 以闭合公式实现中国2000国家大地坐标系（EPSG:4490）与其高斯-克吕格投影坐标系（EPSG:4491-4554）之间的正反算，
+ * 直接在packed坐标数组或JTS {@link CoordinateSequence}上原地计算，不经过GeoTools的坐标转换和几何复制。
+ * 正反算使用Krüger n级数（展开到n<sup>6</sup>，Karney 2011），投影带内精度优于0.1毫米；
+ * 反算的等角纬度到大地纬度采用牛顿迭代。地理坐标按经度在前、纬度在后排列，单位为度；
+ * 投影坐标按东坐标在前、北坐标在后排列，单位为米。
+ * 所有方法均为静态方法，无需实例化即可使用，可由多个线程并发调用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see CrsUtil#transform(Geometry, Integer, Integer)
+ */
+public class GaussKrugerUtil {
+    /**
+     * CGCS2000地理坐标系WKID
+     */
+    public static final int GEOGRAPHIC_WKID = 4490;
+
+    /**
+     * 支持的最小投影坐标系WKID
+     */
+    public static final int MIN_PROJECTED_WKID = 4491;
+
+    /**
+     * 支持的最大投影坐标系WKID
+     */
+    public static final int MAX_PROJECTED_WKID = 4554;
+
+    /**
+     * CGCS2000椭球长半轴
+     */
+    static final double SEMI_MAJOR_AXIS = 6378137.0;
+
+    /**
+     * CGCS2000椭球扁率
+     */
+    static final double FLATTENING = 1 / 298.257222101;
+
+    /**
+     * 中央子午线比例因子
+     */
+    private static final double SCALE_FACTOR = 1.0;
+
+    /**
+     * 牛顿迭代收敛阈值
+     */
+    private static final double TAU_TOLERANCE = 1e-14;
+
+    /**
+     * 牛顿迭代最大次数
+     */
+    private static final int MAX_ITERATIONS = 10;
+
+    /**
+     * CGCS2000椭球
+     */
+    static final Ellipsoid CGCS2000 = new Ellipsoid(SEMI_MAJOR_AXIS, FLATTENING);
+
+    private GaussKrugerUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 判断两个坐标系之间的转换能否由本工具类计算
+     *
+     * @param sourceWkid 源坐标系WKID
+     * @param targetWkid 目标坐标系WKID
+     * @return 两个坐标系都是CGCS2000地理坐标系或其高斯-克吕格投影坐标系时返回true
+     */
+    public static boolean isSupported(Integer sourceWkid, Integer targetWkid) {
+        return sourceWkid != null && targetWkid != null && isSupported(sourceWkid.intValue())
+                && isSupported(targetWkid.intValue());
+    }
+
+    private static boolean isSupported(int wkid) {
+        return wkid == GEOGRAPHIC_WKID || isProjected(wkid);
+    }
+
+    private static boolean isProjected(int wkid) {
+        return wkid >= MIN_PROJECTED_WKID && wkid <= MAX_PROJECTED_WKID;
+    }
+
+    /**
+     * 获取投影坐标系的中央子午线
+     * <p>
+     * EPSG:4491-4501为6度带第13-23带（东坐标加带号），EPSG:4502-4512为中央子午线75°E-135°E的6度带，
+     * EPSG:4513-4533为3度带第25-45带（东坐标加带号），EPSG:4534-4554为中央子午线75°E-135°E的3度带。
+     * </p>
+     *
+     * @param projectedWkid 投影坐标系WKID
+     * @return 中央子午线经度（度）
+     * @throws IllegalArgumentException WKID不在EPSG:4491-4554范围内时抛出异常
+     */
+    public static double getCentralMeridian(int projectedWkid) {
+        checkProjected(projectedWkid);
+        if (projectedWkid <= 4501) {
+            return 6.0 * (projectedWkid - 4478) - 3;
+        } else if (projectedWkid <= 4512) {
+            return 75.0 + 6 * (projectedWkid - 4502);
+        } else if (projectedWkid <= 4533) {
+            return 3.0 * (projectedWkid - 4488);
+        }
+        return 75.0 + 3 * (projectedWkid - 4534);
+    }
+
+    /**
+     * 获取投影坐标系的东偏移
+     *
+     * @param projectedWkid 投影坐标系WKID
+     * @return 东偏移（米），东坐标加带号的投影坐标系包含带号
+     * @throws IllegalArgumentException WKID不在EPSG:4491-4554范围内时抛出异常
+     */
+    public static double getFalseEasting(int projectedWkid) {
+        checkProjected(projectedWkid);
+        if (projectedWkid <= 4501) {
+            return (projectedWkid - 4478) * 1000000.0 + 500000;
+        } else if (projectedWkid >= 4513 && projectedWkid <= 4533) {
+            return (projectedWkid - 4488) * 1000000.0 + 500000;
+        }
+        return 500000;
+    }
+
+    /**
+     * 原地转换packed坐标数组的坐标系
+     *
+     * @param coordinates 按x0,y0,x1,y1...排列的坐标数组
+     * @param sourceWkid  源坐标系WKID
+     * @param targetWkid  目标坐标系WKID
+     * @throws IllegalArgumentException 坐标系不受支持时抛出异常
+     */
+    public static void transform(double[] coordinates, int sourceWkid, int targetWkid) {
+        checkSupported(sourceWkid, targetWkid);
+        if (sourceWkid == targetWkid) {
+            return;
+        }
+        double[] point = new double[2];
+        for (int i = 0; i + 1 < coordinates.length; i += 2) {
+            point[0] = coordinates[i];
+            point[1] = coordinates[i + 1];
+            transformPoint(point, sourceWkid, targetWkid);
+            coordinates[i] = point[0];
+            coordinates[i + 1] = point[1];
+        }
+    }
+
+    /**
+     * 原地转换坐标序列的坐标系，只修改x、y，不修改z和m
+     *
+     * @param sequence   坐标序列
+     * @param sourceWkid 源坐标系WKID
+     * @param targetWkid 目标坐标系WKID
+     * @throws IllegalArgumentException 坐标系不受支持时抛出异常
+     */
+    public static void transform(CoordinateSequence sequence, int sourceWkid, int targetWkid) {
+        checkSupported(sourceWkid, targetWkid);
+        if (sourceWkid == targetWkid) {
+            return;
+        }
+        double[] point = new double[2];
+        for (int i = 0; i < sequence.size(); i++) {
+            transformOrdinates(sequence, i, point, sourceWkid, targetWkid);
+        }
+    }
+
+    /**
+     * 几何对象转换坐标系
+     * <p>
+     * 复制一次几何后原地转换副本的坐标，原几何不变。
+     * </p>
+     *
+     * @param geometry   几何对象
+     * @param sourceWkid 源坐标系WKID
+     * @param targetWkid 目标坐标系WKID
+     * @return 坐标转换后的几何对象，坐标系相同时返回原几何对象
+     * @throws IllegalArgumentException 坐标系不受支持时抛出异常
+     */
+    public static Geometry transform(Geometry geometry, int sourceWkid, int targetWkid) {
+        checkSupported(sourceWkid, targetWkid);
+        if (sourceWkid == targetWkid) {
+            return geometry;
+        }
+        Geometry copy = geometry.copy();
+        copy.apply(new TransformFilter(sourceWkid, targetWkid));
+        return copy;
+    }
+
+    /**
+     * 高斯-克吕格投影正算
+     *
+     * @param point         [经度, 纬度]（度），原地替换为[东坐标, 北坐标]（米）
+     * @param projectedWkid 投影坐标系WKID
+     */
+    public static void forward(double[] point, int projectedWkid) {
+        CGCS2000.forward(point, projectedWkid);
+    }
+
+    /**
+     * 高斯-克吕格投影反算
+     *
+     * @param point         [东坐标, 北坐标]（米），原地替换为[经度, 纬度]（度）
+     * @param projectedWkid 投影坐标系WKID
+     */
+    public static void inverse(double[] point, int projectedWkid) {
+        CGCS2000.inverse(point, projectedWkid);
+    }
+
+    private static void checkProjected(int projectedWkid) {
+        if (!isProjected(projectedWkid)) {
+            throw new IllegalArgumentException("不支持的高斯-克吕格投影坐标系: " + projectedWkid);
+        }
+    }
+
+    private static void checkSupported(int sourceWkid, int targetWkid) {
+        if (!isSupported(sourceWkid) || !isSupported(targetWkid)) {
+            throw new IllegalArgumentException("不支持的坐标转换: " + sourceWkid + " -> " + targetWkid);
+        }
+    }
+
+    private static void transformPoint(double[] point, int sourceWkid, int targetWkid) {
+        if (isProjected(sourceWkid)) {
+            inverse(point, sourceWkid);
+        }
+        if (isProjected(targetWkid)) {
+            forward(point, targetWkid);
+        }
+    }
+
+    private static void transformOrdinates(CoordinateSequence sequence, int i, double[] point,
+                                           int sourceWkid, int targetWkid) {
+        point[0] = sequence.getX(i);
+        point[1] = sequence.getY(i);
+        transformPoint(point, sourceWkid, targetWkid);
+        sequence.setOrdinate(i, CoordinateSequence.X, point[0]);
+        sequence.setOrdinate(i, CoordinateSequence.Y, point[1]);
+    }
+
+    /**
+     * 计算Krüger级数 ξ ± Σc<sub>j</sub>·sin(2jξ)·cosh(2jη)，η ± Σc<sub>j</sub>·cos(2jξ)·sinh(2jη)
+     * <p>
+     * 2jξ和2jη的三角函数和双曲函数由倍角递推得到，每个点只调用4次超越函数。
+     * </p>
+     *
+     * @param sign 正算为1，反算为-1
+     * @return [ξ, η]
+     */
+    private static double[] series(double xi, double eta, double[] coefficients, int sign) {
+        double sin2 = Math.sin(2 * xi);
+        double cos2 = Math.cos(2 * xi);
+        double sinh2 = Math.sinh(2 * eta);
+        double cosh2 = Math.cosh(2 * eta);
+
+        double sin = sin2;
+        double cos = cos2;
+        double sinh = sinh2;
+        double cosh = cosh2;
+        double sumXi = 0;
+        double sumEta = 0;
+        for (int j = 0; j < coefficients.length; j++) {
+            sumXi += coefficients[j] * sin * cosh;
+            sumEta += coefficients[j] * cos * sinh;
+            double nextSin = sin * cos2 + cos * sin2;
+            double nextCos = cos * cos2 - sin * sin2;
+            double nextSinh = sinh * cosh2 + cosh * sinh2;
+            double nextCosh = cosh * cosh2 + sinh * sinh2;
+            sin = nextSin;
+            cos = nextCos;
+            sinh = nextSinh;
+            cosh = nextCosh;
+        }
+        return new double[]{xi + sign * sumXi, eta + sign * sumEta};
+    }
+
+    private static double atanh(double x) {
+        return 0.5 * Math.log((1 + x) / (1 - x));
+    }
+
+    private static double asinh(double x) {
+        return Math.copySign(Math.log(Math.abs(x) + Math.hypot(1, x)), x);
+    }
+
+    /**
+     * 参考椭球及其高斯-克吕格投影的级数系数
+     * <p>
+     * 公开方法均使用{@link #CGCS2000}，其他椭球供参数法坐标转换换算源坐标系的坐标使用，
+     * 投影带的中央子午线和东偏移仍按CGCS2000投影坐标系WKID确定。
+     * </p>
+     */
+    static final class Ellipsoid {
+        /**
+         * 长半轴（米）
+         */
+        final double semiMajorAxis;
+
+        /**
+         * 第一偏心率平方
+         */
+        final double e2;
+
+        /**
+         * 第一偏心率
+         */
+        private final double e;
+
+        /**
+         * 第一偏心率平方的补（1-e<sup>2</sup>）
+         */
+        private final double e2m;
+
+        /**
+         * 比例因子乘以子午线弧长单位（k<sub>0</sub>·A）
+         */
+        private final double k0a;
+
+        /**
+         * 正算级数系数
+         */
+        private final double[] alpha;
+
+        /**
+         * 反算级数系数
+         */
+        private final double[] beta;
+
+        /**
+         * 构造函数
+         *
+         * @param semiMajorAxis 长半轴（米）
+         * @param flattening    扁率
+         */
+        Ellipsoid(double semiMajorAxis, double flattening) {
+            this.semiMajorAxis = semiMajorAxis;
+            this.e2 = flattening * (2 - flattening);
+            this.e = Math.sqrt(e2);
+            this.e2m = (1 - flattening) * (1 - flattening);
+            double n = flattening / (2 - flattening);
+            double n2 = n * n;
+            double n3 = n2 * n;
+            double n4 = n3 * n;
+            double n5 = n4 * n;
+            double n6 = n5 * n;
+            this.k0a = SCALE_FACTOR * semiMajorAxis / (1 + n) * (1 + n2 / 4 + n4 / 64 + n6 / 256);
+            this.alpha = new double[]{
+                    n / 2 - 2 * n2 / 3 + 5 * n3 / 16 + 41 * n4 / 180 - 127 * n5 / 288 + 7891 * n6 / 37800,
+                    13 * n2 / 48 - 3 * n3 / 5 + 557 * n4 / 1440 + 281 * n5 / 630 - 1983433 * n6 / 1935360,
+                    61 * n3 / 240 - 103 * n4 / 140 + 15061 * n5 / 26880 + 167603 * n6 / 181440,
+                    49561 * n4 / 161280 - 179 * n5 / 168 + 6601661 * n6 / 7257600,
+                    34729 * n5 / 80640 - 3418889 * n6 / 1995840,
+                    212378941 * n6 / 319334400
+            };
+            this.beta = new double[]{
+                    n / 2 - 2 * n2 / 3 + 37 * n3 / 96 - n4 / 360 - 81 * n5 / 512 + 96199 * n6 / 604800,
+                    n2 / 48 + n3 / 15 - 437 * n4 / 1440 + 46 * n5 / 105 - 1118711 * n6 / 3870720,
+                    17 * n3 / 480 - 37 * n4 / 840 - 209 * n5 / 4480 + 5569 * n6 / 90720,
+                    4397 * n4 / 161280 - 11 * n5 / 504 - 830251 * n6 / 7257600,
+                    4583 * n5 / 161280 - 108847 * n6 / 3991680,
+                    20648693 * n6 / 638668800
+            };
+        }
+
+        /**
+         * 高斯-克吕格投影正算
+         *
+         * @param point         [经度, 纬度]（度），原地替换为[东坐标, 北坐标]（米）
+         * @param projectedWkid 投影坐标系WKID
+         */
+        void forward(double[] point, int projectedWkid) {
+            double lambda = Math.toRadians(point[0] - getCentralMeridian(projectedWkid));
+            double phi = Math.toRadians(point[1]);
+
+            // 大地纬度的正切转换为等角纬度的正切
+            double tau = Math.tan(phi);
+            double sigma = Math.sinh(e * atanh(e * tau / Math.hypot(1, tau)));
+            double tauPrime = tau * Math.hypot(1, sigma) - sigma * Math.hypot(1, tau);
+
+            double cosLambda = Math.cos(lambda);
+            double xiPrime = Math.atan2(tauPrime, cosLambda);
+            double etaPrime = asinh(Math.sin(lambda) / Math.hypot(tauPrime, cosLambda));
+
+            double[] xiEta = series(xiPrime, etaPrime, alpha, 1);
+            point[0] = k0a * xiEta[1] + getFalseEasting(projectedWkid);
+            point[1] = k0a * xiEta[0];
+        }
+
+        /**
+         * 高斯-克吕格投影反算
+         *
+         * @param point         [东坐标, 北坐标]（米），原地替换为[经度, 纬度]（度）
+         * @param projectedWkid 投影坐标系WKID
+         */
+        void inverse(double[] point, int projectedWkid) {
+            double eta = (point[0] - getFalseEasting(projectedWkid)) / k0a;
+            double xi = point[1] / k0a;
+
+            double[] xiEta = series(xi, eta, beta, -1);
+            double xiPrime = xiEta[0];
+            double etaPrime = xiEta[1];
+
+            double sinhEta = Math.sinh(etaPrime);
+            double cosXi = Math.cos(xiPrime);
+            double tauPrime = Math.sin(xiPrime) / Math.hypot(sinhEta, cosXi);
+            double lambda = Math.atan2(sinhEta, cosXi);
+
+            point[0] = Math.toDegrees(lambda) + getCentralMeridian(projectedWkid);
+            point[1] = Math.toDegrees(Math.atan(tauFromTauPrime(tauPrime)));
+        }
+
+        /**
+         * 由等角纬度的正切牛顿迭代求大地纬度的正切
+         */
+        private double tauFromTauPrime(double tauPrime) {
+            double tau = tauPrime;
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                double tau1 = Math.hypot(1, tau);
+                double sigma = Math.sinh(e * atanh(e * tau / tau1));
+                double tauPrimeI = tau * Math.hypot(1, sigma) - sigma * tau1;
+                double delta = (tauPrime - tauPrimeI) / Math.hypot(1, tauPrimeI)
+                        * (1 + e2m * tau * tau) / (e2m * tau1);
+                tau += delta;
+                if (Math.abs(delta) <= TAU_TOLERANCE * Math.max(1, Math.abs(tau))) {
+                    break;
+                }
+            }
+            return tau;
+        }
+    }
+
+    /**
+     * 逐坐标原地转换几何坐标的过滤器
+     */
+    private static final class TransformFilter implements CoordinateSequenceFilter {
+        private final int sourceWkid;
+
+        private final int targetWkid;
+
+        private final double[] point = new double[2];
+
+        private TransformFilter(int sourceWkid, int targetWkid) {
+            this.sourceWkid = sourceWkid;
+            this.targetWkid = targetWkid;
+        }
+
+        @Override
+        public void filter(CoordinateSequence sequence, int i) {
+            transformOrdinates(sequence, i, point, sourceWkid, targetWkid);
+        }
+
+        @Override
+        public boolean isDone() {
+            return false;
+        }
+
+        @Override
+        public boolean isGeometryChanged() {
+            return true;
+        }
+    }
+}
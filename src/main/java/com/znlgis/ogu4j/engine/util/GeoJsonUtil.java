@@ -0,0 +1,490 @@
+package com.znlgis.ogu4j.engine.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * GeoJSON流式编解码工具类
+ * <p>
+ * 基于Jackson流式API（JsonParser/JsonGenerator）实现GeoJSON几何、属性值和坐标系的读写，
+ * 直接在JSON令牌和JTS几何之间转换，不构建中间对象树。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see com.znlgis.ogu4j.engine.GeoJsonLayerReader
+ * @see com.znlgis.ogu4j.engine.GeoJsonLayerWriter
+ */
+public class GeoJsonUtil {
+    /**
+     * 共享的Jackson JSON工厂（线程安全）
+     */
+    public static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * 未声明坐标系时使用的默认WKID（CGCS2000地理坐标系）
+     */
+    public static final int DEFAULT_WKID = 4490;
+
+    private static final Pattern EPSG_CODE = Pattern.compile("EPSG:+(?:[^:]*:)?(\\d+)$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * 坐标保留完整精度
+     */
+    public static final int FULL_PRECISION = -1;
+
+    /**
+     * 坐标可指定的最大小数位数
+     */
+    public static final int MAX_PRECISION = 15;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+
+    private static final double MAX_EXACT_SCALED = 9.0E15;
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    static {
+        long power = 1;
+        for (int i = 0; i <= MAX_PRECISION; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private GeoJsonUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 从命名坐标系名称中解析WKID
+     * <p>
+     * 支持"EPSG:4490"、"urn:ogc:def:crs:EPSG::4490"等形式，无法识别时返回null。
+     * </p>
+     *
+     * @param crsName 坐标系名称
+     * @return WKID，无法识别时返回null
+     */
+    public static Integer parseWkid(String crsName) {
+        if (crsName == null) {
+            return null;
+        }
+        Matcher matcher = EPSG_CODE.matcher(crsName.trim());
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    /**
+     * 读取GeoJSON的crs成员
+     * <p>
+     * 解析器需位于crs对象的START_OBJECT令牌，读取完成后位于对应的END_OBJECT令牌。
+     * </p>
+     *
+     * @param parser JSON解析器
+     * @return WKID，无法识别时返回null
+     * @throws IOException 解析失败时抛出异常
+     */
+    public static Integer readCrs(JsonParser parser) throws IOException {
+        Integer wkid = null;
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("properties".equals(name) && parser.currentToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String propertyName = parser.currentName();
+                    parser.nextToken();
+                    if ("name".equals(propertyName) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                        wkid = parseWkid(parser.getText());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return wkid;
+    }
+
+    /**
+     * 写入GeoJSON的crs成员
+     * <p>
+     * WKID为null时不写入crs成员，读取时按默认坐标系处理。
+     * </p>
+     *
+     * @param generator JSON生成器
+     * @param wkid      WKID，可为null
+     * @throws IOException 写入失败时抛出异常
+     */
+    public static void writeCrs(JsonGenerator generator, Integer wkid) throws IOException {
+        if (wkid == null) {
+            return;
+        }
+        generator.writeObjectFieldStart("crs");
+        generator.writeStringField("type", "name");
+        generator.writeObjectFieldStart("properties");
+        generator.writeStringField("name", "EPSG:" + wkid);
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    /**
+     * 读取GeoJSON几何对象为JTS Geometry
+     * <p>
+     * 解析器需位于几何对象的START_OBJECT令牌，读取完成后位于对应的END_OBJECT令牌。
+     * 支持type成员出现在coordinates成员之后的情况。
+     * </p>
+     *
+     * @param parser JSON解析器
+     * @return JTS Geometry对象
+     * @throws IOException 解析失败或几何类型不受支持时抛出异常
+     */
+    public static Geometry readGeometry(JsonParser parser) throws IOException {
+        String type = null;
+        Object coordinates = null;
+        List<Geometry> geometries = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "type":
+                    type = parser.getText();
+                    break;
+                case "coordinates":
+                    coordinates = token == JsonToken.START_ARRAY ? readCoordinates(parser) : null;
+                    break;
+                case "geometries":
+                    geometries = new ArrayList<>();
+                    if (token == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            geometries.add(readGeometry(parser));
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return buildGeometry(parser, type, coordinates, geometries);
+    }
+
+    /**
+     * 写入JTS Geometry为GeoJSON几何对象（保留完整精度）
+     *
+     * @param generator JSON生成器
+     * @param geometry  JTS Geometry对象
+     * @throws IOException 写入失败时抛出异常
+     */
+    public static void writeGeometry(JsonGenerator generator, Geometry geometry) throws IOException {
+        writeGeometry(generator, geometry, FULL_PRECISION);
+    }
+
+    /**
+     * 写入JTS Geometry为GeoJSON几何对象
+     * <p>
+     * 指定坐标精度时，坐标按小数位数四舍五入并以定点小数形式输出（省略末尾的0），
+     * 可显著减小输出体积并避免科学计数法。
+     * </p>
+     *
+     * @param generator JSON生成器
+     * @param geometry  JTS Geometry对象
+     * @param precision 坐标保留的小数位数（0~15），小于0表示保留完整精度
+     * @throws IOException 写入失败时抛出异常
+     */
+    public static void writeGeometry(JsonGenerator generator, Geometry geometry, int precision) throws IOException {
+        if (precision > MAX_PRECISION) {
+            precision = FULL_PRECISION;
+        }
+        generator.writeStartObject();
+        if (Geometry.TYPENAME_GEOMETRYCOLLECTION.equals(geometry.getGeometryType())) {
+            generator.writeStringField("type", Geometry.TYPENAME_GEOMETRYCOLLECTION);
+            generator.writeArrayFieldStart("geometries");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeGeometry(generator, geometry.getGeometryN(i), precision);
+            }
+            generator.writeEndArray();
+        } else {
+            String type = geometry instanceof LinearRing ? Geometry.TYPENAME_LINESTRING : geometry.getGeometryType();
+            generator.writeStringField("type", type);
+            generator.writeFieldName("coordinates");
+            writeCoordinates(generator, geometry, precision);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 读取当前令牌对应的属性值
+     * <p>
+     * 字符串、整数、浮点数和null按原类型返回，布尔值转换为字符串，
+     * 嵌套对象和数组以JSON文本形式返回。
+     * </p>
+     *
+     * @param parser JSON解析器（位于值令牌）
+     * @return 属性值
+     * @throws IOException 解析失败时抛出异常
+     */
+    public static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return parser.getIntValue();
+                    case LONG:
+                        return parser.getLongValue();
+                    default:
+                        return parser.getText();
+                }
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return parser.getText();
+            case START_OBJECT:
+            case START_ARRAY:
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                    generator.copyCurrentStructure(parser);
+                }
+                return writer.toString();
+            case VALUE_NULL:
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 写入属性值
+     *
+     * @param generator JSON生成器
+     * @param value     属性值
+     * @throws IOException 写入失败时抛出异常
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String s) {
+            generator.writeString(s);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = ((Number) value).doubleValue();
+            if (Double.isFinite(d)) {
+                generator.writeNumber(d);
+            } else {
+                generator.writeNull();
+            }
+        } else if (value instanceof BigDecimal b) {
+            generator.writeNumber(b);
+        } else if (value instanceof BigInteger b) {
+            generator.writeNumber(b);
+        } else if (value instanceof Number n) {
+            generator.writeNumber(n.doubleValue());
+        } else if (value instanceof Boolean b) {
+            generator.writeBoolean(b);
+        } else if (value instanceof byte[] bytes) {
+            generator.writeBinary(bytes);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static Object readCoordinates(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != null && token.isNumeric()) {
+            double x = parser.getDoubleValue();
+            parser.nextToken();
+            double y = parser.getDoubleValue();
+            double z = Coordinate.NULL_ORDINATE;
+            token = parser.nextToken();
+            if (token != null && token.isNumeric()) {
+                z = parser.getDoubleValue();
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                token = parser.nextToken();
+            }
+            return new Coordinate(x, y, z);
+        }
+
+        List<Object> list = new ArrayList<>();
+        while (token == JsonToken.START_ARRAY) {
+            list.add(readCoordinates(parser));
+            token = parser.nextToken();
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Geometry buildGeometry(JsonParser parser, String type, Object coordinates, List<Geometry> geometries)
+            throws IOException {
+        if (type == null) {
+            throw new JsonParseException(parser, "GeoJSON geometry has no type");
+        }
+        switch (type) {
+            case Geometry.TYPENAME_POINT:
+                return coordinates instanceof Coordinate c ? GEOMETRY_FACTORY.createPoint(c) : GEOMETRY_FACTORY.createPoint();
+            case Geometry.TYPENAME_LINESTRING:
+                return GEOMETRY_FACTORY.createLineString(toCoordinates(coordinates));
+            case Geometry.TYPENAME_POLYGON:
+                return toPolygon(coordinates);
+            case Geometry.TYPENAME_MULTIPOINT:
+                return GEOMETRY_FACTORY.createMultiPointFromCoords(toCoordinates(coordinates));
+            case Geometry.TYPENAME_MULTILINESTRING: {
+                List<Object> lines = coordinates == null ? List.of() : (List<Object>) coordinates;
+                LineString[] lineStrings = new LineString[lines.size()];
+                for (int i = 0; i < lineStrings.length; i++) {
+                    lineStrings[i] = GEOMETRY_FACTORY.createLineString(toCoordinates(lines.get(i)));
+                }
+                return GEOMETRY_FACTORY.createMultiLineString(lineStrings);
+            }
+            case Geometry.TYPENAME_MULTIPOLYGON: {
+                List<Object> polygons = coordinates == null ? List.of() : (List<Object>) coordinates;
+                Polygon[] polygonArray = new Polygon[polygons.size()];
+                for (int i = 0; i < polygonArray.length; i++) {
+                    polygonArray[i] = toPolygon(polygons.get(i));
+                }
+                return GEOMETRY_FACTORY.createMultiPolygon(polygonArray);
+            }
+            case Geometry.TYPENAME_GEOMETRYCOLLECTION:
+                return GEOMETRY_FACTORY.createGeometryCollection(
+                        geometries == null ? new Geometry[0] : geometries.toArray(new Geometry[0]));
+            default:
+                throw new JsonParseException(parser, "Unsupported GeoJSON geometry type: " + type);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Polygon toPolygon(Object coordinates) {
+        List<Object> rings = coordinates == null ? List.of() : (List<Object>) coordinates;
+        if (rings.isEmpty()) {
+            return GEOMETRY_FACTORY.createPolygon();
+        }
+        LinearRing shell = GEOMETRY_FACTORY.createLinearRing(toCoordinates(rings.get(0)));
+        LinearRing[] holes = new LinearRing[rings.size() - 1];
+        for (int i = 1; i < rings.size(); i++) {
+            holes[i - 1] = GEOMETRY_FACTORY.createLinearRing(toCoordinates(rings.get(i)));
+        }
+        return GEOMETRY_FACTORY.createPolygon(shell, holes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Coordinate[] toCoordinates(Object coordinates) {
+        if (coordinates instanceof Coordinate c) {
+            return new Coordinate[]{c};
+        }
+        List<Object> list = coordinates == null ? List.of() : (List<Object>) coordinates;
+        Coordinate[] array = new Coordinate[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (Coordinate) list.get(i);
+        }
+        return array;
+    }
+
+    private static void writeCoordinates(JsonGenerator generator, Geometry geometry, int precision) throws IOException {
+        if (geometry instanceof Point point) {
+            if (point.isEmpty()) {
+                generator.writeStartArray();
+                generator.writeEndArray();
+            } else {
+                writeCoordinate(generator, point.getCoordinate(), precision);
+            }
+        } else if (geometry instanceof LineString lineString) {
+            generator.writeStartArray();
+            for (Coordinate coordinate : lineString.getCoordinates()) {
+                writeCoordinate(generator, coordinate, precision);
+            }
+            generator.writeEndArray();
+        } else if (geometry instanceof Polygon polygon) {
+            generator.writeStartArray();
+            if (!polygon.isEmpty()) {
+                writeCoordinates(generator, polygon.getExteriorRing(), precision);
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    writeCoordinates(generator, polygon.getInteriorRingN(i), precision);
+                }
+            }
+            generator.writeEndArray();
+        } else if (geometry instanceof GeometryCollection) {
+            generator.writeStartArray();
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeCoordinates(generator, geometry.getGeometryN(i), precision);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeCoordinate(JsonGenerator generator, Coordinate coordinate, int precision) throws IOException {
+        generator.writeStartArray();
+        writeOrdinate(generator, coordinate.getX(), precision);
+        writeOrdinate(generator, coordinate.getY(), precision);
+        if (!Double.isNaN(coordinate.getZ())) {
+            writeOrdinate(generator, coordinate.getZ(), precision);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeOrdinate(JsonGenerator generator, double value, int precision) throws IOException {
+        if (precision < 0 || !Double.isFinite(value)) {
+            generator.writeNumber(value);
+            return;
+        }
+
+        long scale = POWERS_OF_TEN[precision];
+        double scaled = value * scale;
+        if (Math.abs(scaled) >= MAX_EXACT_SCALED) {
+            generator.writeNumber(value);
+            return;
+        }
+
+        long units = Math.round(scaled);
+        long abs = Math.abs(units);
+        long integerPart = abs / scale;
+        long fractionPart = abs % scale;
+
+        StringBuilder sb = new StringBuilder(24);
+        if (units < 0) {
+            sb.append('-');
+        }
+        sb.append(integerPart);
+        if (fractionPart != 0) {
+            int digits = precision;
+            while (fractionPart % 10 == 0) {
+                fractionPart /= 10;
+                digits--;
+            }
+            sb.append('.');
+            String fraction = Long.toString(fractionPart);
+            for (int i = fraction.length(); i < digits; i++) {
+                sb.append('0');
+            }
+            sb.append(fraction);
+        }
+        generator.writeNumber(sb.toString());
+    }
+}
@@ -0,0 +1,317 @@
+package com.znlgis.ogu4j.engine.util;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Polygon;
+
+import java.util.List;
+
+/**
+ * CGCS2000椭球面积和长度计算工具类
+ * <p>
+ * 直接由经纬度坐标计算几何在CGCS2000椭球面上的面积（平方米）和长度（米），无需先投影到高斯-克吕格平面再计算，
+ * 也不复制几何。坐标系为高斯-克吕格投影坐标系（EPSG:4491-4554）时逐点反算为经纬度后计算，
+ * 结果为椭球面上的实地面积和长度，不含投影变形。图层批量计算时各要素在{@link ParallelUtil}的线程池中并行执行。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ * <p>
+ * 面积将顶点换算为等面积纬度后在等面积球面上按球面角超计算，等面积球面与椭球面积处处相等，
+ * 边在等面积球面上取大圆弧，与椭球测地线的差异在地块尺度下可以忽略。
+ * 长度逐段按Vincenty反算公式计算测地线长度，精度优于1毫米。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GaussKrugerUtil
+ */
+public class GeodesicUtil {
+    /**
+     * 椭球短半轴
+     */
+    private static final double SEMI_MINOR_AXIS = GaussKrugerUtil.SEMI_MAJOR_AXIS * (1 - GaussKrugerUtil.FLATTENING);
+
+    /**
+     * 第一偏心率平方
+     */
+    private static final double E2 = GaussKrugerUtil.FLATTENING * (2 - GaussKrugerUtil.FLATTENING);
+
+    /**
+     * 第一偏心率
+     */
+    private static final double E = Math.sqrt(E2);
+
+    /**
+     * 极点处的等面积纬度函数值q<sub>p</sub>
+     */
+    private static final double QP = authalicQ(1);
+
+    /**
+     * 等面积球半径的平方
+     */
+    private static final double AUTHALIC_RADIUS2 = GaussKrugerUtil.SEMI_MAJOR_AXIS * GaussKrugerUtil.SEMI_MAJOR_AXIS
+            * QP / 2;
+
+    /**
+     * Vincenty迭代收敛阈值（弧度）
+     */
+    private static final double VINCENTY_TOLERANCE = 1e-12;
+
+    /**
+     * Vincenty最大迭代次数
+     */
+    private static final int MAX_ITERATIONS = 200;
+
+    private GeodesicUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 计算两点之间的测地线长度
+     *
+     * @param lon1 起点经度（度）
+     * @param lat1 起点纬度（度）
+     * @param lon2 终点经度（度）
+     * @param lat2 终点纬度（度）
+     * @return 测地线长度（米）
+     */
+    public static double distance(double lon1, double lat1, double lon2, double lat2) {
+        double lambdaDiff = Math.toRadians(lon2 - lon1);
+        double u1 = Math.atan((1 - GaussKrugerUtil.FLATTENING) * Math.tan(Math.toRadians(lat1)));
+        double u2 = Math.atan((1 - GaussKrugerUtil.FLATTENING) * Math.tan(Math.toRadians(lat2)));
+        double sinU1 = Math.sin(u1);
+        double cosU1 = Math.cos(u1);
+        double sinU2 = Math.sin(u2);
+        double cosU2 = Math.cos(u2);
+
+        double lambda = lambdaDiff;
+        double sinSigma = 0;
+        double cosSigma = 1;
+        double sigma = 0;
+        double cos2Alpha = 1;
+        double cos2SigmaM = 0;
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            double sinLambda = Math.sin(lambda);
+            double cosLambda = Math.cos(lambda);
+            sinSigma = Math.hypot(cosU2 * sinLambda, cosU1 * sinU2 - sinU1 * cosU2 * cosLambda);
+            if (sinSigma == 0) {
+                return 0;
+            }
+            cosSigma = sinU1 * sinU2 + cosU1 * cosU2 * cosLambda;
+            sigma = Math.atan2(sinSigma, cosSigma);
+            double sinAlpha = cosU1 * cosU2 * sinLambda / sinSigma;
+            cos2Alpha = 1 - sinAlpha * sinAlpha;
+            // 两点都在赤道上时cos2Alpha为0
+            cos2SigmaM = cos2Alpha == 0 ? 0 : cosSigma - 2 * sinU1 * sinU2 / cos2Alpha;
+            double c = GaussKrugerUtil.FLATTENING / 16 * cos2Alpha * (4 + GaussKrugerUtil.FLATTENING
+                    * (4 - 3 * cos2Alpha));
+            double previous = lambda;
+            lambda = lambdaDiff + (1 - c) * GaussKrugerUtil.FLATTENING * sinAlpha
+                    * (sigma + c * sinSigma * (cos2SigmaM + c * cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)));
+            if (Math.abs(lambda - previous) < VINCENTY_TOLERANCE) {
+                break;
+            }
+        }
+
+        double a2 = GaussKrugerUtil.SEMI_MAJOR_AXIS * GaussKrugerUtil.SEMI_MAJOR_AXIS;
+        double b2 = SEMI_MINOR_AXIS * SEMI_MINOR_AXIS;
+        double u2Squared = cos2Alpha * (a2 - b2) / b2;
+        double a = 1 + u2Squared / 16384 * (4096 + u2Squared * (-768 + u2Squared * (320 - 175 * u2Squared)));
+        double b = u2Squared / 1024 * (256 + u2Squared * (-128 + u2Squared * (74 - 47 * u2Squared)));
+        double deltaSigma = b * sinSigma * (cos2SigmaM + b / 4 * (cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)
+                - b / 6 * cos2SigmaM * (-3 + 4 * sinSigma * sinSigma) * (-3 + 4 * cos2SigmaM * cos2SigmaM)));
+        return SEMI_MINOR_AXIS * a * (sigma - deltaSigma);
+    }
+
+    /**
+     * 计算经纬度几何的椭球面积
+     *
+     * @param geometry 几何对象，坐标为经纬度（度）
+     * @return 面积（平方米），不是面时为0
+     */
+    public static double area(Geometry geometry) {
+        return area(geometry, GaussKrugerUtil.GEOGRAPHIC_WKID);
+    }
+
+    /**
+     * 计算几何的椭球面积
+     *
+     * @param geometry 几何对象
+     * @param wkid     几何坐标系WKID（CGCS2000地理坐标系或其高斯-克吕格投影坐标系）
+     * @return 面积（平方米），不是面时为0
+     * @throws IllegalArgumentException 坐标系不受支持时抛出异常
+     */
+    public static double area(Geometry geometry, Integer wkid) {
+        int checkedWkid = checkWkid(wkid);
+        if (geometry == null) {
+            return 0;
+        }
+        double[] point = new double[2];
+        double area = 0;
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+            Geometry part = geometry.getGeometryN(i);
+            if (part instanceof Polygon polygon) {
+                area += Math.abs(ringArea(polygon.getExteriorRing().getCoordinateSequence(), checkedWkid, point));
+                for (int j = 0; j < polygon.getNumInteriorRing(); j++) {
+                    area -= Math.abs(ringArea(polygon.getInteriorRingN(j).getCoordinateSequence(), checkedWkid,
+                            point));
+                }
+            } else if (part != geometry) {
+                // 几何集合中嵌套的几何集合
+                area += area(part, checkedWkid);
+            }
+        }
+        return area;
+    }
+
+    /**
+     * 计算经纬度几何的椭球长度
+     *
+     * @param geometry 几何对象，坐标为经纬度（度）
+     * @return 长度（米），面时为周长（含内环），点时为0
+     */
+    public static double length(Geometry geometry) {
+        return length(geometry, GaussKrugerUtil.GEOGRAPHIC_WKID);
+    }
+
+    /**
+     * 计算几何的椭球长度
+     *
+     * @param geometry 几何对象
+     * @param wkid     几何坐标系WKID（CGCS2000地理坐标系或其高斯-克吕格投影坐标系）
+     * @return 长度（米），面时为周长（含内环），点时为0
+     * @throws IllegalArgumentException 坐标系不受支持时抛出异常
+     */
+    public static double length(Geometry geometry, Integer wkid) {
+        int checkedWkid = checkWkid(wkid);
+        if (geometry == null) {
+            return 0;
+        }
+        double[] point = new double[2];
+        double length = 0;
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+            Geometry part = geometry.getGeometryN(i);
+            if (part instanceof LineString lineString) {
+                length += lineLength(lineString.getCoordinateSequence(), checkedWkid, point);
+            } else if (part instanceof Polygon polygon) {
+                length += lineLength(polygon.getExteriorRing().getCoordinateSequence(), checkedWkid, point);
+                for (int j = 0; j < polygon.getNumInteriorRing(); j++) {
+                    length += lineLength(polygon.getInteriorRingN(j).getCoordinateSequence(), checkedWkid, point);
+                }
+            } else if (part != geometry) {
+                length += length(part, checkedWkid);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 并行计算图层各要素的椭球面积
+     *
+     * @param layer 图层，坐标系为CGCS2000地理坐标系或其高斯-克吕格投影坐标系
+     * @return 与要素顺序一致的面积（平方米），要素没有几何或不是面时为0
+     * @throws IllegalArgumentException 图层坐标系不受支持时抛出异常
+     */
+    public static double[] area(OguLayer layer) {
+        int wkid = checkWkid(layer.getWkid());
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        double[] areas = new double[features.size()];
+        ParallelUtil.forEachIndex(areas.length, i -> areas[i] = area(features.get(i).getJtsGeometry(), wkid));
+        return areas;
+    }
+
+    /**
+     * 并行计算图层各要素的椭球长度
+     *
+     * @param layer 图层，坐标系为CGCS2000地理坐标系或其高斯-克吕格投影坐标系
+     * @return 与要素顺序一致的长度（米），面时为周长，要素没有几何时为0
+     * @throws IllegalArgumentException 图层坐标系不受支持时抛出异常
+     */
+    public static double[] length(OguLayer layer) {
+        int wkid = checkWkid(layer.getWkid());
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        double[] lengths = new double[features.size()];
+        ParallelUtil.forEachIndex(lengths.length, i -> lengths[i] = length(features.get(i).getJtsGeometry(), wkid));
+        return lengths;
+    }
+
+    private static int checkWkid(Integer wkid) {
+        if (!GaussKrugerUtil.isSupported(wkid, GaussKrugerUtil.GEOGRAPHIC_WKID)) {
+            throw new IllegalArgumentException("不支持的坐标系: " + wkid);
+        }
+        return wkid;
+    }
+
+    /**
+     * 读取第i个坐标的经纬度（度）到point
+     */
+    private static void lonLat(CoordinateSequence sequence, int i, int wkid, double[] point) {
+        point[0] = sequence.getX(i);
+        point[1] = sequence.getY(i);
+        if (wkid != GaussKrugerUtil.GEOGRAPHIC_WKID) {
+            GaussKrugerUtil.inverse(point, wkid);
+        }
+    }
+
+    /**
+     * 计算环在等面积球面上的有向面积
+     */
+    private static double ringArea(CoordinateSequence ring, int wkid, double[] point) {
+        int size = ring.size();
+        if (size < 3) {
+            return 0;
+        }
+        lonLat(ring, 0, wkid, point);
+        double lambda1 = Math.toRadians(point[0]);
+        double t1 = Math.tan(authalicLatitude(Math.toRadians(point[1])) / 2);
+        double excess = 0;
+        for (int i = 1; i < size; i++) {
+            lonLat(ring, i, wkid, point);
+            double lambda2 = Math.toRadians(point[0]);
+            double t2 = Math.tan(authalicLatitude(Math.toRadians(point[1])) / 2);
+            double deltaLambda = Math.IEEEremainder(lambda2 - lambda1, 2 * Math.PI);
+            excess += 2 * Math.atan2(Math.tan(deltaLambda / 2) * (t1 + t2), 1 + t1 * t2);
+            lambda1 = lambda2;
+            t1 = t2;
+        }
+        return excess * AUTHALIC_RADIUS2;
+    }
+
+    private static double lineLength(CoordinateSequence line, int wkid, double[] point) {
+        int size = line.size();
+        if (size < 2) {
+            return 0;
+        }
+        lonLat(line, 0, wkid, point);
+        double lon1 = point[0];
+        double lat1 = point[1];
+        double length = 0;
+        for (int i = 1; i < size; i++) {
+            lonLat(line, i, wkid, point);
+            length += distance(lon1, lat1, point[0], point[1]);
+            lon1 = point[0];
+            lat1 = point[1];
+        }
+        return length;
+    }
+
+    /**
+     * 大地纬度换算为等面积纬度（弧度）
+     */
+    private static double authalicLatitude(double phi) {
+        double ratio = authalicQ(Math.sin(phi)) / QP;
+        return Math.asin(Math.max(-1, Math.min(1, ratio)));
+    }
+
+    /**
+     * 等面积纬度函数q(φ)
+     */
+    private static double authalicQ(double sinPhi) {
+        double eSin = E * sinPhi;
+        return (1 - E2) * (sinPhi / (1 - eSin * eSin) - Math.log((1 - eSin) / (1 + eSin)) / (2 * E));
+    }
+}
@@ -36,6 +36,7 @@ public class GeotoolsUtil {
      * <p>
      * 对GeoTools要素源应用属性过滤和/或空间过滤条件。
      * 属性过滤使用CQL表达式语法，空间过滤使用WKT格式几何进行相交查询。
+     * 返回的要素集合已完整加载到内存中，不再依赖数据源连接。
      * </p>
      *
      * @param featureSource    GeoTools要素源
@@ -45,9 +46,26 @@ public class GeotoolsUtil {
      */
     @SneakyThrows
     public static SimpleFeatureCollection filter(SimpleFeatureSource featureSource, String attributeFilter, String spatialFilterWkt) {
-        if (CharSequenceUtil.isBlank(attributeFilter) && CharSequenceUtil.isBlank(spatialFilterWkt)) {
-            return DataUtilities.collection(featureSource.getFeatures());
+        return DataUtilities.collection(query(featureSource, attributeFilter, spatialFilterWkt));
+    }
 
+    /**
+     * 查询要素集合（延迟加载）
+     * <p>
+     * 与{@link #filter(SimpleFeatureSource, String, String)}的过滤规则相同，
+     * 但返回的要素集合不会加载到内存中，遍历时才从数据源逐个读取要素，
+     * 因此在遍历结束前不能释放数据源。
+     * </p>
+     *
+     * @param featureSource    GeoTools要素源
+     * @param attributeFilter  属性过滤条件（CQL表达式），为null或空时不进行属性过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null或空时不进行空间过滤
+     * @return 延迟加载的要素集合
+     */
+    @SneakyThrows
+    public static SimpleFeatureCollection query(SimpleFeatureSource featureSource, String attributeFilter, String spatialFilterWkt) {
+        if (CharSequenceUtil.isBlank(attributeFilter) && CharSequenceUtil.isBlank(spatialFilterWkt)) {
+            return featureSource.getFeatures();
         }
 
         Filter afilter = null;
@@ -65,14 +83,14 @@ public class GeotoolsUtil {
         }
 
         if (afilter == null) {
-            return DataUtilities.collection(featureSource.getFeatures(sfilter));
+            return featureSource.getFeatures(sfilter);
         }
 
         if (sfilter == null) {
-            return DataUtilities.collection(featureSource.getFeatures(afilter));
+            return featureSource.getFeatures(afilter);
         }
 
         Filter filter = ff.and(afilter, sfilter);
-        return DataUtilities.collection(featureSource.getFeatures(filter));
+        return featureSource.getFeatures(filter);
     }
 }
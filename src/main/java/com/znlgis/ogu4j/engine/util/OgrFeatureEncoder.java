@@ -0,0 +1,137 @@
+package com.znlgis.ogu4j.engine.util;
+
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.core.util.NumberUtil;
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.gdal.ogr.Feature;
+import org.gdal.ogr.FeatureDefn;
+import org.gdal.ogr.FieldDefn;
+import org.gdal.ogr.Layer;
+import org.gdal.ogr.ogr;
+
+import java.util.Arrays;
+
+/**
+ * OGR要素写入计划
+ * <p>
+ * 针对目标OGR图层和源图层预先编译"OGR字段序号 → 源字段序号"的映射，
+ * 缓存要素定义并在编译时确定每一列的写入方式，写入每个要素时按序号调用SetField(int, ...)，
+ * 不再在每个要素中重复获取字段定义或逐个比较属性名称。几何以WKB形式传入OGR，不经过WKT文本。
+ * 源要素绑定了源图层的字段结构时按序号取值，否则按字段名称取值。
+ * </p>
+ * <p>
+ * 写入计划编译完成后不再修改，可在同一OGR图层的多次写入之间复用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class OgrFeatureEncoder {
+
+    private final FeatureDefn featureDefn;
+
+    private final OguFieldSchema sourceSchema;
+
+    private final int[] ogrIndexes;
+
+    private final int[] sourceOrdinals;
+
+    private final String[] sourceNames;
+
+    private final FieldDataType[] dataTypes;
+
+    /**
+     * 构造函数
+     * <p>
+     * OGR字段与源字段按名称匹配（不区分大小写），源图层中不存在的OGR字段不会被赋值。
+     * </p>
+     *
+     * @param featureDefn 目标OGR图层的要素定义（需已创建全部字段）
+     * @param source      源图层结构
+     */
+    public OgrFeatureEncoder(FeatureDefn featureDefn, OguLayer source) {
+        this.featureDefn = featureDefn;
+        this.sourceSchema = source.getFieldSchema();
+
+        int count = featureDefn.GetFieldCount();
+        int[] indexes = new int[count];
+        int[] ordinals = new int[count];
+        String[] names = new String[count];
+        FieldDataType[] types = new FieldDataType[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            FieldDefn fieldDefn = featureDefn.GetFieldDefn(i);
+            int ordinal = sourceSchema.indexOf(fieldDefn.GetName());
+            if (ordinal >= 0) {
+                indexes[size] = i;
+                ordinals[size] = ordinal;
+                names[size] = sourceSchema.getField(ordinal).getName();
+                types[size] = FieldDataType.fieldDataTypeByGdalCode(fieldDefn.GetFieldType());
+                size++;
+            }
+        }
+        this.ogrIndexes = Arrays.copyOf(indexes, size);
+        this.sourceOrdinals = Arrays.copyOf(ordinals, size);
+        this.sourceNames = Arrays.copyOf(names, size);
+        this.dataTypes = Arrays.copyOf(types, size);
+    }
+
+    /**
+     * 将单个OguFeature写入OGR图层
+     * <p>
+     * 写入后立即释放OGR要素。
+     * </p>
+     *
+     * @param layer      编译写入计划时使用的OGR图层
+     * @param oguFeature 要写入的要素
+     */
+    public void write(Layer layer, OguFeature oguFeature) {
+        Feature feature = new Feature(featureDefn);
+        try {
+            byte[] wkb = oguFeature.getGeometryWkb();
+            if (wkb != null) {
+                feature.SetGeometryDirectly(ogr.CreateGeometryFromWkb(wkb));
+            }
+            boolean bound = oguFeature.getFieldSchema() == sourceSchema;
+            for (int i = 0; i < ogrIndexes.length; i++) {
+                Object value = bound ? oguFeature.getValue(sourceOrdinals[i]) : oguFeature.getValue(sourceNames[i]);
+                if (value != null) {
+                    writeValue(feature, ogrIndexes[i], dataTypes[i], value);
+                }
+            }
+            layer.CreateFeature(feature);
+        } finally {
+            feature.delete();
+        }
+    }
+
+    private static void writeValue(Feature feature, int index, FieldDataType dataType, Object value) {
+        switch (dataType) {
+            case INTEGER:
+                feature.SetField(index, value instanceof Number number
+                        ? number.intValue() : NumberUtil.parseInt(value.toString()));
+                break;
+            case DOUBLE:
+                feature.SetField(index, value instanceof Number number
+                        ? number.doubleValue() : NumberUtil.parseDouble(value.toString()));
+                break;
+            case BINARY:
+                feature.SetFieldBinaryFromHexString(index, HexUtil.encodeHexStr((byte[]) value));
+                break;
+            case LONG:
+                feature.SetFieldInteger64(index, value instanceof Number number
+                        ? number.longValue() : NumberUtil.parseLong(value.toString()));
+                break;
+            case DATE:
+            case TIME:
+            case DATETIME:
+            case STRING:
+            default:
+                feature.SetField(index, value.toString());
+        }
+    }
+}
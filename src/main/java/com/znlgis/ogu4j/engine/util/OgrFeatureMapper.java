@@ -0,0 +1,134 @@
+package com.znlgis.ogu4j.engine.util;
+
+import cn.hutool.core.util.IdUtil;
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.geometry.GeometryUtil;
+import org.gdal.ogr.Feature;
+import org.gdal.ogr.FeatureDefn;
+import org.gdal.ogr.Geometry;
+
+/**
+ * OGR要素读取映射
+ * <p>
+ * 针对一个OGR图层预先编译"图层字段序号 → OGR字段序号"的映射，并在编译时确定每一列的取值方式，
+ * 转换每个要素时按序号调用GetFieldAsXxx(int)，避免每个属性值都经过一次JNI字段名称查找。
+ * 几何以ISO WKB形式导出并按指定方式规范化，不经过WKT文本。
+ * 同一图层的所有要素应共享同一个映射实例。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class OgrFeatureMapper {
+
+    private final OguLayer layer;
+
+    private final OguFieldSchema fieldSchema;
+
+    private final OguField[] fields;
+
+    private final int[] ogrIndexes;
+
+    private final FieldDataType[] dataTypes;
+
+    private final GeometryNormalizeType normalizeType;
+
+    /**
+     * 构造函数（简化所有几何）
+     * <p>
+     * 在OGR要素定义中找不到对应字段的图层字段，其属性值始终为null。
+     * </p>
+     *
+     * @param featureDefn OGR图层的要素定义
+     * @param layer       要素所属的图层结构
+     */
+    public OgrFeatureMapper(FeatureDefn featureDefn, OguLayer layer) {
+        this(featureDefn, layer, GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param featureDefn   OGR图层的要素定义
+     * @param layer         要素所属的图层结构
+     * @param normalizeType 转换要素时的几何规范化方式
+     */
+    public OgrFeatureMapper(FeatureDefn featureDefn, OguLayer layer, GeometryNormalizeType normalizeType) {
+        this.layer = layer;
+        this.normalizeType = normalizeType;
+        this.fieldSchema = layer.getFieldSchema();
+        this.fields = new OguField[fieldSchema.size()];
+        this.ogrIndexes = new int[fieldSchema.size()];
+        this.dataTypes = new FieldDataType[fieldSchema.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fieldSchema.getField(i);
+            ogrIndexes[i] = featureDefn.GetFieldIndex(fields[i].getName());
+            dataTypes[i] = fields[i].getDataType() == null ? FieldDataType.STRING : fields[i].getDataType();
+        }
+    }
+
+    /**
+     * 将OGR要素转换为OguFeature
+     * <p>
+     * 转换后的要素已绑定图层的字段结构。
+     * 如果图层尚未确定几何类型，将根据当前要素的几何补齐。
+     * 转换完成后OGR要素不再被引用，可由调用方释放。
+     * </p>
+     *
+     * @param feature OGR要素
+     * @return OguFeature要素对象
+     */
+    public OguFeature toOguFeature(Feature feature) {
+        OguFeature oguFeature = new OguFeature();
+        Geometry geometry = feature.GetGeometryRef();
+        if (geometry != null) {
+            byte[] wkb = geometry.ExportToIsoWkb();
+            oguFeature.setGeometryWkb(GeometryUtil.normalizeWkb(wkb, layer.getWkid(), normalizeType));
+            if (layer.getGeometryType() == null) {
+                layer.setGeometryType(GeometryUtil.geometryType(oguFeature.getJtsGeometry()));
+            }
+        }
+
+        long id = feature.GetFID();
+        if (id >= 0) {
+            oguFeature.setId(String.valueOf(id));
+        } else {
+            oguFeature.setId(IdUtil.simpleUUID());
+        }
+
+        OguFieldValue[] values = new OguFieldValue[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            int index = ogrIndexes[i];
+            values[i] = new OguFieldValue(fields[i], index < 0 ? null : readValue(feature, index, dataTypes[i]));
+        }
+        oguFeature.setAttributes(fieldSchema, values);
+        return oguFeature;
+    }
+
+    private static Object readValue(Feature feature, int index, FieldDataType dataType) {
+        switch (dataType) {
+            case INTEGER:
+                return feature.GetFieldAsInteger(index);
+            case DOUBLE:
+                return feature.GetFieldAsDouble(index);
+            case BINARY:
+                return feature.GetFieldAsBinary(index);
+            case LONG:
+                return feature.GetFieldAsInteger64(index);
+            case DATE:
+            case TIME:
+            case DATETIME:
+                return feature.GetFieldAsISO8601DateTime(index);
+            case STRING:
+            default:
+                return feature.GetFieldAsString(index);
+        }
+    }
+}
@@ -2,17 +2,14 @@ package com.znlgis.ogu4j.engine.util;
 
 import cn.hutool.core.text.CharSequenceUtil;
 import cn.hutool.core.thread.ThreadUtil;
-import cn.hutool.core.util.HexUtil;
-import cn.hutool.core.util.IdUtil;
-import cn.hutool.core.util.NumberUtil;
 import com.znlgis.ogu4j.engine.enums.DataFormatType;
 import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
 import com.znlgis.ogu4j.engine.enums.GeometryType;
 import com.znlgis.ogu4j.exception.EngineNotSupportedException;
 import com.znlgis.ogu4j.geometry.GeometryUtil;
 import com.znlgis.ogu4j.engine.model.layer.OguFeature;
 import com.znlgis.ogu4j.engine.model.layer.OguField;
-import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
 import com.znlgis.ogu4j.engine.model.layer.OguLayer;
 import com.znlgis.ogu4j.engine.model.DbConnBaseModel;
 import lombok.Getter;
@@ -180,6 +177,47 @@ public class OgrUtil {
      * @return OguLayer图层对象
      */
     public static OguLayer layer2OguLayer(Layer layer, String attributeFilter, String spatialFilterWkt) {
+        return layer2OguLayer(layer, attributeFilter, spatialFilterWkt, GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 将OGR图层转换为OguLayer
+     * <p>
+     * 先在读取线程中按顺序读取全部要素，再按指定方式并行规范化要素几何，要素顺序与图层一致。
+     * </p>
+     *
+     * @param layer            OGR图层对象
+     * @param attributeFilter  属性过滤条件（SQL WHERE子句），为null时不过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null时不过滤
+     * @param normalizeType    几何规范化方式
+     * @return OguLayer图层对象
+     */
+    public static OguLayer layer2OguLayer(Layer layer, String attributeFilter, String spatialFilterWkt,
+                                          GeometryNormalizeType normalizeType) {
+        OguLayer oguLayer = layer2OguLayerSchema(layer);
+        applyLayerFilter(layer, oguLayer, attributeFilter, spatialFilterWkt);
+
+        List<OguFeature> features = oguLayer.getFeatures();
+        OgrFeatureMapper mapper = new OgrFeatureMapper(layer.GetLayerDefn(), oguLayer, GeometryNormalizeType.NONE);
+        Feature feature = layer.GetNextFeature();
+        while (feature != null) {
+            features.add(mapper.toOguFeature(feature));
+            feature.delete();
+            feature = layer.GetNextFeature();
+        }
+        GeometryUtil.normalizeGeometries(features, oguLayer.getWkid(), normalizeType);
+
+        oguLayer.validate();
+        return oguLayer;
+    }
+
+    /**
+     * 将OGR图层结构转换为不含要素的OguLayer
+     *
+     * @param layer OGR图层对象
+     * @return 不含要素的OguLayer图层结构
+     */
+    public static OguLayer layer2OguLayerSchema(Layer layer) {
         OguLayer oguLayer = new OguLayer();
         oguLayer.setName(layer.GetName());
         oguLayer.setAlias(layer.GetName());
@@ -191,18 +229,31 @@ public class OgrUtil {
         int geotype = layer.GetGeomType();
         oguLayer.setGeometryType(GeometryType.valueOfByWkbGeometryType(geotype));
 
+        FeatureDefn featureDefn = layer.GetLayerDefn();
         List<OguField> fields = new ArrayList<>();
-        for (int i = 0; i < layer.GetLayerDefn().GetFieldCount(); i++) {
+        for (int i = 0; i < featureDefn.GetFieldCount(); i++) {
+            FieldDefn fieldDefn = featureDefn.GetFieldDefn(i);
             OguField field = new OguField();
-            field.setName(layer.GetLayerDefn().GetFieldDefn(i).GetName());
-            field.setAlias(layer.GetLayerDefn().GetFieldDefn(i).GetNameRef());
-            field.setDataType(FieldDataType.fieldDataTypeByGdalCode(layer.GetLayerDefn().GetFieldDefn(i).GetFieldType()));
+            field.setName(fieldDefn.GetName());
+            field.setAlias(fieldDefn.GetNameRef());
+            field.setDataType(FieldDataType.fieldDataTypeByGdalCode(fieldDefn.GetFieldType()));
             fields.add(field);
         }
 
         oguLayer.setFields(fields);
+        oguLayer.setFeatures(new ArrayList<>());
+        return oguLayer;
+    }
 
-        List<OguFeature> features = new ArrayList<>();
+    /**
+     * 为OGR图层设置属性过滤和空间过滤条件
+     *
+     * @param layer            OGR图层对象
+     * @param oguLayer         图层结构（提供坐标系信息）
+     * @param attributeFilter  属性过滤条件（SQL WHERE子句），为null时不过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null时不过滤
+     */
+    public static void applyLayerFilter(Layer layer, OguLayer oguLayer, String attributeFilter, String spatialFilterWkt) {
         if (CharSequenceUtil.isNotBlank(attributeFilter)) {
             layer.SetAttributeFilter(attributeFilter);
         }
@@ -212,63 +263,6 @@ public class OgrUtil {
             Geometry spatialFilter = ogr.CreateGeometryFromWkt(spatialFilterWkt);
             layer.SetSpatialFilter(spatialFilter);
         }
-
-        Feature feature = layer.GetNextFeature();
-        while (feature != null) {
-            OguFeature oguFeature = new OguFeature();
-            String wkt = feature.GetGeometryRef().ExportToWkt();
-            oguFeature.setGeometry(GeometryUtil.simplifyWkt(wkt, oguLayer.getWkid()));
-
-            if (oguLayer.getGeometryType() == null) {
-                oguLayer.setGeometryType(GeometryUtil.geometryType(GeometryUtil.wkt2Geometry(wkt)));
-            }
-
-            long id = feature.GetFID();
-            if (id >= 0) {
-                oguFeature.setId(String.valueOf(id));
-            } else {
-                oguFeature.setId(IdUtil.simpleUUID());
-            }
-
-            List<OguFieldValue> fieldValues = new ArrayList<>();
-            for (OguField field : fields) {
-                String fieldName = field.getName();
-                OguFieldValue fieldValue = new OguFieldValue();
-                fieldValue.setField(field);
-                switch (field.getDataType()) {
-                    case INTEGER:
-                        fieldValue.setValue(feature.GetFieldAsInteger(fieldName));
-                        break;
-                    case DOUBLE:
-                        fieldValue.setValue(feature.GetFieldAsDouble(fieldName));
-                        break;
-                    case BINARY:
-                        fieldValue.setValue(feature.GetFieldAsBinary(fieldName));
-                        break;
-                    case LONG:
-                        fieldValue.setValue(feature.GetFieldAsInteger64(fieldName));
-                        break;
-                    case DATE:
-                    case TIME:
-                    case DATETIME:
-                        fieldValue.setValue(feature.GetFieldAsISO8601DateTime(fieldName));
-                        break;
-                    case STRING:
-                    default:
-                        fieldValue.setValue(feature.GetFieldAsString(fieldName));
-                }
-
-                fieldValues.add(fieldValue);
-            }
-
-            oguFeature.setAttributes(fieldValues);
-            features.add(oguFeature);
-            feature = layer.GetNextFeature();
-        }
-
-        oguLayer.setFeatures(features);
-        oguLayer.validate();
-        return oguLayer;
     }
 
     /**
@@ -305,24 +299,52 @@ public class OgrUtil {
      */
     private static void initLayer(DataFormatType driverType, String path, OguLayer oguLayer, String layerName,
                                   Vector options) throws EngineNotSupportedException {
+        DataSource dataSource = openOrCreateDataSource(driverType, path);
+        prepareLayer(dataSource, oguLayer, layerName, options);
+        closeDataSource(dataSource);
+    }
+
+    /**
+     * 打开数据源，不存在时创建
+     *
+     * @param driverType 数据格式类型
+     * @param path       数据源路径
+     * @return OGR数据源对象
+     */
+    public static DataSource openOrCreateDataSource(DataFormatType driverType, String path) throws EngineNotSupportedException {
         DataSource dataSource = OgrUtil.openDataSource(driverType, path);
         if (dataSource == null) {
             dataSource = OgrUtil.createDataSource(driverType, path);
         }
+        return dataSource;
+    }
 
+    /**
+     * 准备写入图层
+     * <p>
+     * 如果图层不存在则创建，并添加OguLayer中定义但图层中缺失的字段。
+     * </p>
+     *
+     * @param dataSource OGR数据源
+     * @param oguLayer   OguLayer图层对象（提供字段定义和坐标系信息）
+     * @param layerName  图层名称
+     * @param options    创建选项
+     * @return OGR图层对象
+     */
+    public static Layer prepareLayer(DataSource dataSource, OguLayer oguLayer, String layerName, Vector options) {
         Layer layer = OgrUtil.getLayer(dataSource, layerName);
         if (layer == null) {
             layer = OgrUtil.createLayer(dataSource, layerName, oguLayer.getWkid(), oguLayer.getGeometryType(), options);
         }
 
+        FeatureDefn featureDefn = layer.GetLayerDefn();
         for (OguField field : oguLayer.getFields()) {
-            if (layer.GetLayerDefn().GetFieldIndex(field.getName()) < 0) {
+            if (featureDefn.GetFieldIndex(field.getName()) < 0) {
                 FieldDefn fieldDefn = new FieldDefn(field.getName(), field.getDataType().getDefaultGdalCode());
                 layer.CreateField(fieldDefn);
             }
         }
-
-        closeDataSource(dataSource);
+        return layer;
     }
 
     /**
@@ -334,11 +356,11 @@ public class OgrUtil {
      *
      * @param driverType 数据格式类型
      * @param path       数据源路径
-     * @param fields     字段定义列表
+     * @param oguLayer   源图层（提供字段定义）
      * @param features   要素列表
      * @param layerName  图层名称，为空时使用第一个图层
      */
-    private static void oguFeatures2Layer(DataFormatType driverType, String path, List<OguField> fields, List<OguFeature> features, String layerName) throws EngineNotSupportedException {
+    private static void oguFeatures2Layer(DataFormatType driverType, String path, OguLayer oguLayer, List<OguFeature> features, String layerName) throws EngineNotSupportedException {
         DataSource dataSource = OgrUtil.openDataSource(driverType, path);
         Layer layer;
         if (CharSequenceUtil.isNotBlank(layerName)) {
@@ -347,51 +369,17 @@ public class OgrUtil {
             layer = OgrUtil.getLayer(dataSource, 0);
         }
 
-        for (OguField field : fields) {
-            if (layer.GetLayerDefn().GetFieldIndex(field.getName()) < 0) {
+        FeatureDefn featureDefn = layer.GetLayerDefn();
+        for (OguField field : oguLayer.getFields()) {
+            if (featureDefn.GetFieldIndex(field.getName()) < 0) {
                 FieldDefn fieldDefn = new FieldDefn(field.getName(), field.getDataType().getDefaultGdalCode());
                 layer.CreateField(fieldDefn);
             }
         }
 
+        OgrFeatureEncoder encoder = new OgrFeatureEncoder(layer.GetLayerDefn(), oguLayer);
         for (OguFeature oguFeature : features) {
-            Feature feature = new Feature(layer.GetLayerDefn());
-            feature.SetGeometry(ogr.CreateGeometryFromWkt(oguFeature.getGeometry()));
-            for (int i = 0; i < layer.GetLayerDefn().GetFieldCount(); i++) {
-                FieldDefn fieldDefn = layer.GetLayerDefn().GetFieldDefn(i);
-                String fieldName = fieldDefn.GetName();
-                Optional<OguFieldValue> kv = oguFeature.getAttributes().stream().filter(kvModel ->
-                        kvModel.getField().getName().equalsIgnoreCase(fieldName)).findFirst();
-                if (!kv.isPresent() || kv.get().getValue() == null) {
-                    continue;
-                }
-                switch (FieldDataType.fieldDataTypeByGdalCode(fieldDefn.GetFieldType())) {
-                    case INTEGER:
-                        feature.SetField(fieldName,
-                                NumberUtil.parseInt(kv.get().getValue().toString()));
-                        break;
-                    case DOUBLE:
-                        feature.SetField(fieldName,
-                                NumberUtil.parseDouble(kv.get().getValue().toString()));
-                        break;
-                    case BINARY:
-                        feature.SetFieldBinaryFromHexString(fieldName,
-                                HexUtil.encodeHexStr((byte[]) kv.get().getValue()));
-                        break;
-                    case LONG:
-                        feature.SetFieldInteger64(i,
-                                NumberUtil.parseLong(kv.get().getValue().toString()));
-                        break;
-                    case DATE:
-                    case TIME:
-                    case DATETIME:
-                    case STRING:
-                    default:
-                        feature.SetField(fieldName, kv.get().getValue().toString());
-                }
-            }
-
-            layer.CreateFeature(feature);
+            encoder.write(layer, oguFeature);
         }
 
         closeDataSource(dataSource);
@@ -424,7 +412,7 @@ public class OgrUtil {
 
             executorService.execute(() -> {
                 try {
-                    oguFeatures2Layer(driverType, path, oguLayer.getFields(), subList, layerName);
+                    oguFeatures2Layer(driverType, path, oguLayer, subList, layerName);
                 } catch (Exception e) {
                     throw new RuntimeException(e);
                 }
@@ -450,7 +438,7 @@ public class OgrUtil {
      */
     public static void oguLayer2Layer(DataFormatType driverType, String path, OguLayer oguLayer, String layerName, Vector options) throws EngineNotSupportedException {
         initLayer(driverType, path, oguLayer, layerName, options);
-        oguFeatures2Layer(driverType, path, oguLayer.getFields(), oguLayer.getFeatures(), layerName);
+        oguFeatures2Layer(driverType, path, oguLayer, oguLayer.getFeatures(), layerName);
     }
 
     /**
@@ -468,15 +456,29 @@ public class OgrUtil {
      * @param options         创建选项（可为null）
      */
     public static void oguLayer2Layer4Postgis(DataFormatType driverType, DbConnBaseModel dbConnBaseModel, OguLayer oguLayer, String layerName, Vector options) throws EngineNotSupportedException {
+        options = postgisLayerOptions(options);
+        String path = PostgisUtil.toGdalPostgisConnStr(dbConnBaseModel);
+        initLayer(driverType, path, oguLayer, layerName, options);
+        oguLayer2Layer4Postgis(driverType, path, oguLayer, layerName);
+    }
+
+    /**
+     * 补充PostGIS图层创建选项
+     * <p>
+     * 配置几何字段名称为SHAPE，FID字段为FID，支持64位FID。
+     * </p>
+     *
+     * @param options 创建选项（可为null）
+     * @return 补充后的创建选项
+     */
+    public static Vector<String> postgisLayerOptions(Vector<String> options) {
         if (options == null) {
-            options = new Vector();
+            options = new Vector<>();
         }
         options.add("GEOMETRY_NAME=SHAPE");
         options.add("FID=FID");
         options.add("FID64=TRUE");
-        String path = PostgisUtil.toGdalPostgisConnStr(dbConnBaseModel);
-        initLayer(driverType, path, oguLayer, layerName, options);
-        oguLayer2Layer4Postgis(driverType, path, oguLayer, layerName);
+        return options;
     }
 
     /**
@@ -494,10 +496,31 @@ public class OgrUtil {
      * @return OguLayer图层对象
      */
     public static OguLayer layer2OguLayer(DataFormatType driverType, String path, String layerName, String attributeFilter, String spatialFilterWkt) throws EngineNotSupportedException {
+        return layer2OguLayer(driverType, path, layerName, attributeFilter, spatialFilterWkt,
+                GeometryNormalizeType.ALWAYS);
+    }
+
+    /**
+     * 从数据源读取图层并转换为OguLayer
+     *
+     * @param driverType       数据格式类型
+     * @param path             数据源路径
+     * @param layerName        图层名称
+     * @param attributeFilter  属性过滤条件（SQL WHERE子句），为null时不过滤
+     * @param spatialFilterWkt 空间过滤条件（WKT格式），为null时不过滤
+     * @param normalizeType    几何规范化方式
+     * @return OguLayer图层对象
+     * @see #layer2OguLayer(Layer, String, String, GeometryNormalizeType)
+     */
+    public static OguLayer layer2OguLayer(DataFormatType driverType, String path, String layerName,
+                                          String attributeFilter, String spatialFilterWkt,
+                                          GeometryNormalizeType normalizeType) throws EngineNotSupportedException {
         DataSource dataSource = OgrUtil.openDataSource(driverType, path);
-        Layer layer = OgrUtil.getLayer(dataSource, layerName);
-        OguLayer oguLayer = OgrUtil.layer2OguLayer(layer, attributeFilter, spatialFilterWkt);
-        OgrUtil.closeDataSource(dataSource);
-        return oguLayer;
+        try {
+            Layer layer = OgrUtil.getLayer(dataSource, layerName);
+            return OgrUtil.layer2OguLayer(layer, attributeFilter, spatialFilterWkt, normalizeType);
+        } finally {
+            OgrUtil.closeDataSource(dataSource);
+        }
     }
 }
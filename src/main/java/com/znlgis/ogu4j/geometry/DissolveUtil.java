@@ -0,0 +1,248 @@
+package com.znlgis.ogu4j.geometry;
+
+import cn.hutool.core.text.CharSequenceUtil;
+import com.znlgis.ogu4j.engine.enums.AggregateType;
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.model.AggregateFieldModel;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.operation.overlayng.UnaryUnionNG;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 图层融合工具类
+ * <p>
+ * 按一个或多个字段的值对要素分组，将每组要素的几何合并为一个几何，并按需汇总属性。
+ * 几何合并使用JTS级联合并（{@link UnaryUnionOp}，图层设置了容差时使用以容差为网格的{@link UnaryUnionNG}）。
+ * 要素较多的分组先切分为若干块，各分组的各块在{@link ParallelUtil}的线程池中统一并行合并，
+ * 再逐轮合并各块的结果，分组数量少或各分组大小悬殊时也能利用全部线程。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DissolveUtil {
+    /**
+     * 每次合并的最多几何数量
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    private DissolveUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 按字段融合图层
+     *
+     * @param layer      图层
+     * @param fieldNames 分组字段名称，为空时所有要素融合为一个要素
+     * @return 融合结果图层
+     * @throws IllegalArgumentException 分组字段不存在时抛出异常
+     * @see #dissolve(OguLayer, List, List)
+     */
+    public static OguLayer dissolve(OguLayer layer, List<String> fieldNames) {
+        return dissolve(layer, fieldNames, List.of());
+    }
+
+    /**
+     * 按字段融合图层并汇总属性
+     * <p>
+     * 结果图层的名称、坐标系、几何类型、容差和元数据与原图层相同，字段为分组字段加汇总字段。
+     * 每个分组生成一个要素，按分组首次出现的顺序排列，分组字段值相同（空值视为相同的值）的要素属于同一分组。
+     * 没有几何的要素参与属性汇总但不参与几何合并，整组都没有几何时结果要素也没有几何。
+     * </p>
+     *
+     * @param layer      图层
+     * @param fieldNames 分组字段名称，为空时所有要素融合为一个要素
+     * @param aggregates 汇总字段
+     * @return 融合结果图层
+     * @throws IllegalArgumentException 分组字段或汇总源字段不存在时抛出异常
+     */
+    public static OguLayer dissolve(OguLayer layer, List<String> fieldNames, List<AggregateFieldModel> aggregates) {
+        List<String> groupFields = fieldNames == null ? List.of() : fieldNames;
+        List<AggregateFieldModel> aggregateFields = aggregates == null ? List.of() : aggregates;
+        OguFieldSchema sourceSchema = layer.getFieldSchema();
+
+        OguLayer result = layer.copySchema();
+        List<OguField> fields = new ArrayList<>();
+        for (String fieldName : groupFields) {
+            // 复制字段定义，结果图层的字段被修改时不影响原图层
+            OguField field = sourceSchema.getField(indexOf(sourceSchema, fieldName));
+            fields.add(new OguField(field.getName(), field.getAlias(), field.getDescription(), field.getDataType(),
+                    field.getLength(), field.getNullable(), field.getDefaultValue()));
+        }
+        for (AggregateFieldModel aggregate : aggregateFields) {
+            fields.add(aggregateField(sourceSchema, aggregate));
+        }
+        result.setFields(fields);
+        OguFieldSchema schema = result.getFieldSchema();
+
+        Map<List<Object>, List<OguFeature>> groups = new LinkedHashMap<>();
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        // 先并行解析全部要素几何，分组合并时直接使用缓存的几何
+        ParallelUtil.forEach(features, OguFeature::getJtsGeometry);
+        for (OguFeature feature : features) {
+            Object[] key = new Object[groupFields.size()];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = feature.getValue(groupFields.get(i));
+            }
+            groups.computeIfAbsent(Arrays.asList(key), k -> new ArrayList<>()).add(feature);
+        }
+
+        List<List<OguFeature>> groupFeatures = new ArrayList<>(groups.values());
+        List<Geometry> geometries = unionGroups(groupFeatures, OverlayUtil.precisionModel(layer));
+        for (int i = 0; i < groupFeatures.size(); i++) {
+            List<OguFeature> group = groupFeatures.get(i);
+            OguFieldValue[] values = new OguFieldValue[schema.size()];
+            int index = 0;
+            for (String fieldName : groupFields) {
+                values[index] = new OguFieldValue(schema.getField(index), group.get(0).getValue(fieldName));
+                index++;
+            }
+            for (AggregateFieldModel aggregate : aggregateFields) {
+                values[index] = new OguFieldValue(schema.getField(index), aggregate(group, aggregate));
+                index++;
+            }
+
+            OguFeature feature = new OguFeature();
+            feature.setId(String.valueOf(i + 1));
+            feature.setJtsGeometry(geometries.get(i));
+            feature.setAttributes(schema, values);
+            result.getFeatures().add(feature);
+        }
+        return result;
+    }
+
+    /**
+     * 合并各分组的几何
+     * <p>
+     * 每轮把各分组待合并的几何切分为不超过{@link #CHUNK_SIZE}个的块并行合并，
+     * 直到每个分组只剩一个几何。
+     * </p>
+     *
+     * @return 与分组顺序一致的合并结果，分组没有几何时为null
+     */
+    private static List<Geometry> unionGroups(List<List<OguFeature>> groups, PrecisionModel precisionModel) {
+        List<List<Geometry>> pending = new ArrayList<>(groups.size());
+        for (List<OguFeature> group : groups) {
+            List<Geometry> geometries = new ArrayList<>(group.size());
+            for (OguFeature feature : group) {
+                Geometry geometry = feature.getJtsGeometry();
+                if (geometry != null && !geometry.isEmpty()) {
+                    geometries.add(geometry);
+                }
+            }
+            pending.add(geometries);
+        }
+
+        Geometry[] results = new Geometry[groups.size()];
+        boolean first = true;
+        while (true) {
+            List<Integer> chunkGroups = new ArrayList<>();
+            List<List<Geometry>> chunks = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                List<Geometry> geometries = pending.get(i);
+                if (geometries.size() == 1 && !first) {
+                    results[i] = geometries.get(0);
+                    continue;
+                }
+                for (int from = 0; from < geometries.size(); from += CHUNK_SIZE) {
+                    chunkGroups.add(i);
+                    chunks.add(geometries.subList(from, Math.min(from + CHUNK_SIZE, geometries.size())));
+                }
+            }
+            if (chunks.isEmpty()) {
+                return Arrays.asList(results);
+            }
+
+            List<Geometry> merged = ParallelUtil.map(chunks, 2, chunk -> union(chunk, precisionModel));
+            List<List<Geometry>> next = new ArrayList<>(pending.size());
+            for (int i = 0; i < pending.size(); i++) {
+                next.add(new ArrayList<>());
+            }
+            for (int i = 0; i < chunks.size(); i++) {
+                next.get(chunkGroups.get(i)).add(merged.get(i));
+            }
+            pending = next;
+            first = false;
+        }
+    }
+
+    private static Geometry union(List<Geometry> geometries, PrecisionModel precisionModel) {
+        if (precisionModel == null) {
+            return UnaryUnionOp.union(geometries);
+        }
+        Geometry collection = geometries.get(0).getFactory().buildGeometry(geometries);
+        return UnaryUnionNG.union(collection, precisionModel);
+    }
+
+    private static Object aggregate(List<OguFeature> group, AggregateFieldModel aggregate) {
+        switch (aggregate.getAggregateType()) {
+            case COUNT:
+                return group.size();
+            case FIRST:
+                return group.get(0).getValue(aggregate.getFieldName());
+            case SUM:
+                Double sum = null;
+                for (OguFeature feature : group) {
+                    OguFieldValue value = feature.getAttribute(aggregate.getFieldName());
+                    Double number = value == null ? null : value.getDoubleValue();
+                    if (number != null) {
+                        sum = sum == null ? number : sum + number;
+                    }
+                }
+                return sum;
+            default:
+                throw new IllegalArgumentException("不支持的汇总方式: " + aggregate.getAggregateType());
+        }
+    }
+
+    private static OguField aggregateField(OguFieldSchema sourceSchema, AggregateFieldModel aggregate) {
+        AggregateType type = aggregate.getAggregateType();
+        String sourceName = aggregate.getFieldName();
+        OguField source = null;
+        if (type != AggregateType.COUNT || sourceName != null) {
+            source = sourceSchema.getField(indexOf(sourceSchema, sourceName));
+        }
+
+        String name = aggregate.getOutputName();
+        if (CharSequenceUtil.isBlank(name)) {
+            name = source == null ? type.getPrefix() : type.getPrefix() + "_" + source.getName();
+        }
+        FieldDataType dataType;
+        switch (type) {
+            case COUNT:
+                dataType = FieldDataType.INTEGER;
+                break;
+            case SUM:
+                dataType = FieldDataType.DOUBLE;
+                break;
+            default:
+                dataType = source.getDataType();
+                break;
+        }
+        return new OguField(name, name, dataType);
+    }
+
+    private static int indexOf(OguFieldSchema schema, String fieldName) {
+        int index = schema.indexOf(fieldName);
+        if (index < 0) {
+            throw new IllegalArgumentException("字段不存在: " + fieldName);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,160 @@
+package com.znlgis.ogu4j.geometry;
+
+import cn.hutool.cache.CacheUtil;
+import cn.hutool.cache.impl.LRUCache;
+import com.esri.core.geometry.Envelope2D;
+import com.esri.core.geometry.Geometry;
+import com.esri.core.geometry.OperatorBoundary;
+import com.esri.core.geometry.OperatorBuffer;
+import com.esri.core.geometry.OperatorCentroid2D;
+import com.esri.core.geometry.OperatorContains;
+import com.esri.core.geometry.OperatorConvexHull;
+import com.esri.core.geometry.OperatorCrosses;
+import com.esri.core.geometry.OperatorDifference;
+import com.esri.core.geometry.OperatorDisjoint;
+import com.esri.core.geometry.OperatorDistance;
+import com.esri.core.geometry.OperatorEquals;
+import com.esri.core.geometry.OperatorIntersection;
+import com.esri.core.geometry.OperatorIntersects;
+import com.esri.core.geometry.OperatorOverlaps;
+import com.esri.core.geometry.OperatorRelate;
+import com.esri.core.geometry.OperatorSimplifyOGC;
+import com.esri.core.geometry.OperatorSymmetricDifference;
+import com.esri.core.geometry.OperatorTouches;
+import com.esri.core.geometry.OperatorUnion;
+import com.esri.core.geometry.OperatorWithin;
+import com.esri.core.geometry.SpatialReference;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ESRI几何运算上下文
+ * <p>
+ * 按坐标系WKID缓存ESRI几何运算所需的空间参考和算子实例，
+ * 并提供一个容量有界的WKT解析缓存（所有坐标系共享，按WKT文本查找），
+ * 使{@link GeometryUtil}的WKT版本方法在循环中反复调用时不再重复创建空间参考、查找算子和解析同一WKT。
+ * 只缓存长度不超过{@value #MAX_CACHED_WKT_LENGTH}个字符的WKT，较大的几何每次直接解析，
+ * 缓存占用的内存因此有上限。
+ * </p>
+ * <p>
+ * 上下文实例不可变，可由多个线程共享。解析缓存中的几何不直接返回，每次命中时返回其副本，
+ * 调用方可以修改返回的几何而不影响其他线程。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see GeometryUtil
+ */
+@Getter
+public final class EsriGeometryContext {
+    /**
+     * WKT解析缓存容量
+     */
+    private static final int PARSE_CACHE_CAPACITY = 1024;
+
+    /**
+     * 进入解析缓存的WKT最大长度（字符）
+     */
+    private static final int MAX_CACHED_WKT_LENGTH = 4096;
+
+    /**
+     * 未指定坐标系时使用的键
+     */
+    private static final int NO_WKID = 0;
+
+    private static final Map<Integer, EsriGeometryContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    private static final LRUCache<String, Geometry> PARSE_CACHE = CacheUtil.newLRUCache(PARSE_CACHE_CAPACITY);
+
+    /**
+     * 坐标系WKID，null表示未指定坐标系
+     */
+    private final Integer wkid;
+
+    /**
+     * 空间参考，null表示未指定坐标系
+     */
+    private final SpatialReference spatialReference;
+
+    private final OperatorIntersects intersects = OperatorIntersects.local();
+    private final OperatorDisjoint disjoint = OperatorDisjoint.local();
+    private final OperatorTouches touches = OperatorTouches.local();
+    private final OperatorCrosses crosses = OperatorCrosses.local();
+    private final OperatorContains contains = OperatorContains.local();
+    private final OperatorWithin within = OperatorWithin.local();
+    private final OperatorOverlaps overlaps = OperatorOverlaps.local();
+    private final OperatorEquals equals = OperatorEquals.local();
+    private final OperatorRelate relate = OperatorRelate.local();
+    private final OperatorDistance distance = OperatorDistance.local();
+    private final OperatorBuffer buffer = OperatorBuffer.local();
+    private final OperatorIntersection intersection = OperatorIntersection.local();
+    private final OperatorDifference difference = OperatorDifference.local();
+    private final OperatorSymmetricDifference symmetricDifference = OperatorSymmetricDifference.local();
+    private final OperatorUnion union = OperatorUnion.local();
+    private final OperatorSimplifyOGC simplifyOGC = OperatorSimplifyOGC.local();
+    private final OperatorBoundary boundary = OperatorBoundary.local();
+    private final OperatorConvexHull convexHull = OperatorConvexHull.local();
+    private final OperatorCentroid2D centroid = OperatorCentroid2D.local();
+
+    private EsriGeometryContext(Integer wkid) {
+        this.wkid = wkid;
+        this.spatialReference = wkid == null ? null : SpatialReference.create(wkid);
+    }
+
+    /**
+     * 获取指定坐标系的运算上下文
+     *
+     * @param wkid 坐标系WKID，为null时空间参考也为null
+     * @return 运算上下文
+     */
+    public static EsriGeometryContext of(Integer wkid) {
+        return CONTEXTS.computeIfAbsent(wkid == null ? NO_WKID : wkid,
+                key -> new EsriGeometryContext(wkid));
+    }
+
+    /**
+     * 解析WKT为ESRI Geometry，优先从解析缓存中获取
+     * <p>
+     * 缓存命中时返回缓存几何的副本，复制比重新解析WKT开销小；超过缓存长度上限的WKT直接解析，不进入缓存。
+     * </p>
+     *
+     * @param wkt WKT格式的字符串
+     * @return ESRI Geometry对象，不与其他调用方共享
+     */
+    public static Geometry parseWkt(String wkt) {
+        if (wkt.length() > MAX_CACHED_WKT_LENGTH) {
+            return GeometryUtil.createEsriGeometryByWkt(wkt);
+        }
+        Geometry cached = PARSE_CACHE.get(wkt);
+        if (cached == null) {
+            cached = GeometryUtil.createEsriGeometryByWkt(wkt);
+            cached.queryEnvelope2D(new Envelope2D());
+            PARSE_CACHE.put(wkt, cached);
+        }
+        // 缓存几何可能被多个线程同时复制，复制时可能更新其内部的延迟计算属性
+        synchronized (cached) {
+            return cached.copy();
+        }
+    }
+
+    /**
+     * 解析WKT为ESRI Geometry，优先从解析缓存中获取
+     *
+     * @param wkt WKT格式的字符串
+     * @return ESRI Geometry对象，不与其他调用方共享
+     * @see #parseWkt(String)
+     */
+    public Geometry parse(String wkt) {
+        return parseWkt(wkt);
+    }
+
+    /**
+     * 清空WKT解析缓存
+     */
+    public static void clearParseCache() {
+        PARSE_CACHE.clear();
+    }
+}
@@ -0,0 +1,235 @@
+package com.znlgis.ogu4j.geometry;
+
+import com.esri.core.geometry.Geometry;
+import com.esri.core.geometry.OperatorSimpleRelation;
+import com.esri.core.geometry.SpatialReference;
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ESRI加速几何空间关系判断
+ * <p>
+ * 用于一个基准几何与大量候选几何之间的重复空间关系判断（如一个大边界面与数十万宗地逐一判断）。
+ * 基准几何在构造时只解析和加速一次（{@code accelerateGeometry}），之后每次判断只需解析候选几何。
+ * 候选几何与基准几何必须位于同一坐标系。
+ * </p>
+ * <p>
+ * 实例构造完成后不再修改，可由多个线程共享；批量判断方法在{@link ParallelUtil}的有界线程池中并行执行，
+ * 结果顺序与候选几何顺序一致。批量判断的候选几何不进入{@link EsriGeometryContext}的解析缓存。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SpatialRelationType
+ */
+public final class EsriGeometryPredicate {
+
+    private final Geometry geometry;
+
+    private final Integer wkid;
+
+    private final SpatialReference spatialReference;
+
+    private final EsriGeometryContext context;
+
+    /**
+     * 构造函数
+     * <p>
+     * 基准几何会被复制后再加速，传入的几何对象不受影响。
+     * </p>
+     *
+     * @param geometry 基准几何
+     * @param wkid     坐标系WKID
+     */
+    public EsriGeometryPredicate(Geometry geometry, Integer wkid) {
+        this.context = EsriGeometryContext.of(wkid);
+        this.wkid = wkid;
+        this.spatialReference = context.getSpatialReference();
+        this.geometry = geometry.copy();
+        // 各空间关系算子共用几何上挂载的加速结构，只需加速一次
+        OperatorSimpleRelation operator = context.getIntersects();
+        if (operator.canAccelerateGeometry(this.geometry)) {
+            operator.accelerateGeometry(this.geometry, spatialReference,
+                    Geometry.GeometryAccelerationDegree.enumMedium);
+        }
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param wkt  基准几何的WKT格式字符串
+     * @param wkid 坐标系WKID
+     */
+    public EsriGeometryPredicate(String wkt, Integer wkid) {
+        this(GeometryUtil.createEsriGeometryByWkt(wkt), wkid);
+    }
+
+    /**
+     * 获取坐标系WKID
+     *
+     * @return 坐标系WKID
+     */
+    public Integer getWkid() {
+        return wkid;
+    }
+
+    /**
+     * 判断基准几何与候选几何的空间关系
+     *
+     * @param relation  空间关系类型
+     * @param candidate 候选几何，null表示没有几何（只与基准几何相离）
+     * @return 是否满足空间关系
+     */
+    public boolean test(SpatialRelationType relation, Geometry candidate) {
+        if (candidate == null) {
+            return relation == SpatialRelationType.DISJOINT;
+        }
+        return operator(relation).execute(geometry, candidate, spatialReference, null);
+    }
+
+    /**
+     * 判断基准几何与候选几何的空间关系（WKT版本）
+     *
+     * @param relation     空间关系类型
+     * @param candidateWkt 候选几何的WKT格式字符串
+     * @return 是否满足空间关系
+     */
+    public boolean test(SpatialRelationType relation, String candidateWkt) {
+        return test(relation, candidateWkt == null ? null : GeometryUtil.createEsriGeometryByWkt(candidateWkt));
+    }
+
+    /**
+     * 基准几何是否与候选几何相交
+     *
+     * @param candidateWkt 候选几何的WKT格式字符串
+     * @return 是否相交
+     */
+    public boolean intersects(String candidateWkt) {
+        return test(SpatialRelationType.INTERSECTS, candidateWkt);
+    }
+
+    /**
+     * 基准几何是否包含候选几何
+     *
+     * @param candidateWkt 候选几何的WKT格式字符串
+     * @return 是否包含
+     */
+    public boolean contains(String candidateWkt) {
+        return test(SpatialRelationType.CONTAINS, candidateWkt);
+    }
+
+    /**
+     * 基准几何是否被候选几何包含
+     *
+     * @param candidateWkt 候选几何的WKT格式字符串
+     * @return 是否被包含
+     */
+    public boolean within(String candidateWkt) {
+        return test(SpatialRelationType.WITHIN, candidateWkt);
+    }
+
+    /**
+     * 基准几何是否与候选几何接触
+     *
+     * @param candidateWkt 候选几何的WKT格式字符串
+     * @return 是否接触
+     */
+    public boolean touches(String candidateWkt) {
+        return test(SpatialRelationType.TOUCHES, candidateWkt);
+    }
+
+    /**
+     * 基准几何是否与候选几何相离
+     *
+     * @param candidateWkt 候选几何的WKT格式字符串
+     * @return 是否相离
+     */
+    public boolean disjoint(String candidateWkt) {
+        return test(SpatialRelationType.DISJOINT, candidateWkt);
+    }
+
+    /**
+     * 并行判断基准几何与一组候选几何的空间关系
+     *
+     * @param relation      空间关系类型
+     * @param candidateWkts 候选几何的WKT格式字符串列表
+     * @return 与候选几何顺序一致的判断结果
+     */
+    public boolean[] testAll(SpatialRelationType relation, List<String> candidateWkts) {
+        boolean[] results = new boolean[candidateWkts.size()];
+        ParallelUtil.forEachIndex(results.length, i -> results[i] = test(relation, candidateWkts.get(i)));
+        return results;
+    }
+
+    /**
+     * 并行判断基准几何与图层中每个要素几何的空间关系
+     * <p>
+     * 要素几何以WKB形式导入，不经过WKT文本。
+     * </p>
+     *
+     * @param relation 空间关系类型
+     * @param layer    候选图层
+     * @return 与图层要素顺序一致的判断结果
+     * @throws IllegalArgumentException 图层坐标系与基准几何坐标系不一致时抛出异常
+     */
+    public boolean[] testAll(SpatialRelationType relation, OguLayer layer) {
+        if (wkid != null && layer.getWkid() != null && !wkid.equals(layer.getWkid())) {
+            throw new IllegalArgumentException("图层坐标系与基准几何坐标系不一致");
+        }
+        List<OguFeature> features = layer.getFeatures() == null ? List.of() : layer.getFeatures();
+        boolean[] results = new boolean[features.size()];
+        ParallelUtil.forEachIndex(results.length, i -> results[i] = test(relation, features.get(i)));
+        return results;
+    }
+
+    /**
+     * 并行筛选图层中与基准几何满足空间关系的要素
+     *
+     * @param relation 空间关系类型
+     * @param layer    候选图层
+     * @return 满足空间关系的要素，顺序与图层一致
+     * @throws IllegalArgumentException 图层坐标系与基准几何坐标系不一致时抛出异常
+     */
+    public List<OguFeature> filter(SpatialRelationType relation, OguLayer layer) {
+        boolean[] results = testAll(relation, layer);
+        List<OguFeature> matched = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                matched.add(layer.getFeatures().get(i));
+            }
+        }
+        return matched;
+    }
+
+    private boolean test(SpatialRelationType relation, OguFeature feature) {
+        byte[] wkb = feature.getGeometryWkb();
+        return test(relation, wkb == null ? null : GeometryUtil.createEsriGeometryByWkb(wkb));
+    }
+
+    private OperatorSimpleRelation operator(SpatialRelationType relation) {
+        switch (relation) {
+            case INTERSECTS:
+                return context.getIntersects();
+            case CONTAINS:
+                return context.getContains();
+            case WITHIN:
+                return context.getWithin();
+            case TOUCHES:
+                return context.getTouches();
+            case DISJOINT:
+                return context.getDisjoint();
+            case CROSSES:
+                return context.getCrosses();
+            case OVERLAPS:
+                return context.getOverlaps();
+            default:
+                throw new IllegalArgumentException("不支持的空间关系类型: " + relation);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.znlgis.ogu4j.geometry;
 
 import com.esri.core.geometry.*;
+import com.znlgis.ogu4j.engine.enums.GeometryNormalizeType;
 import com.znlgis.ogu4j.engine.enums.GeometryType;
 import com.znlgis.ogu4j.engine.enums.TopologyValidationErrorType;
 import com.znlgis.ogu4j.engine.model.SimpleGeometryResult;
 import com.znlgis.ogu4j.engine.model.TopologyValidationResult;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
 import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.utils.ParallelUtil;
 import lombok.SneakyThrows;
 import org.geotools.geojson.geom.GeometryJSON;
 import org.geotools.geometry.jts.WKTReader2;
@@ -14,15 +17,20 @@ import org.locationtech.jts.algorithm.ConvexHull;
 import org.locationtech.jts.algorithm.hull.ConcaveHull;
 import org.locationtech.jts.densify.Densifier;
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
 import org.locationtech.jts.geom.util.LineStringExtracter;
 import org.locationtech.jts.operation.polygonize.Polygonizer;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
 import org.locationtech.jts.operation.valid.IsSimpleOp;
 import org.locationtech.jts.operation.valid.IsValidOp;
 import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
 
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -127,6 +135,57 @@ public class GeometryUtil {
         return writer.write(geometry);
     }
 
+    /**
+     * WKB转JTS Geometry
+     * <p>
+     * 支持OGC/ISO WKB及带SRID、Z值标志的扩展WKB。
+     * </p>
+     *
+     * @param wkb WKB格式的字节数组
+     * @return JTS Geometry对象
+     */
+    @SneakyThrows
+    public static org.locationtech.jts.geom.Geometry wkb2Geometry(byte[] wkb) {
+        WKBReader reader = new WKBReader();
+        return reader.read(wkb);
+    }
+
+    /**
+     * JTS Geometry转WKB
+     * <p>
+     * 几何包含Z值时输出三维WKB，否则输出二维WKB。
+     * </p>
+     *
+     * @param geometry JTS Geometry对象
+     * @return WKB格式的字节数组
+     */
+    public static byte[] geometry2Wkb(org.locationtech.jts.geom.Geometry geometry) {
+        Coordinate coordinate = geometry.getCoordinate();
+        int dimension = coordinate != null && !Double.isNaN(coordinate.getZ()) ? 3 : 2;
+        WKBWriter writer = new WKBWriter(dimension);
+        return writer.write(geometry);
+    }
+
+    /**
+     * WKT转WKB
+     *
+     * @param wkt WKT格式的字符串
+     * @return WKB格式的字节数组
+     */
+    public static byte[] wkt2Wkb(String wkt) {
+        return geometry2Wkb(wkt2Geometry(wkt));
+    }
+
+    /**
+     * WKB转WKT
+     *
+     * @param wkb WKB格式的字节数组
+     * @return WKT格式的字符串
+     */
+    public static String wkb2Wkt(byte[] wkb) {
+        return geometry2Wkt(wkb2Geometry(wkb));
+    }
+
     /**
      * JTS Geometry转GeoJSON
      *
@@ -213,7 +272,7 @@ public class GeometryUtil {
     /**
      * 通过WKT创建ESRI Geometry
      * <p>
-     * 如果标准WKT解析失败，会尝试通过JTS进行格式修正后再次解析。
+     * 如果标准WKT解析失败，会改用JTS解析，再以WKB形式导入，不再重新格式化和解析WKT文本。
      * </p>
      *
      * @param wkt WKT格式的字符串
@@ -224,12 +283,22 @@ public class GeometryUtil {
         try {
             geometry = GeometryEngine.geometryFromWkt(wkt, 0, com.esri.core.geometry.Geometry.Type.Unknown);
         } catch (Exception e) {
-            wkt = wkt2Geometry(wkt).toText();
-            geometry = GeometryEngine.geometryFromWkt(wkt, 0, com.esri.core.geometry.Geometry.Type.Unknown);
+            geometry = createEsriGeometryByWkb(geometry2Wkb(wkt2Geometry(wkt)));
         }
         return geometry;
     }
 
+    /**
+     * 从WKB创建ESRI Geometry对象
+     *
+     * @param wkb WKB格式的字节数组
+     * @return ESRI Geometry对象
+     */
+    public static com.esri.core.geometry.Geometry createEsriGeometryByWkb(byte[] wkb) {
+        return OperatorImportFromWkb.local().execute(WkbImportFlags.wkbImportDefaults,
+                com.esri.core.geometry.Geometry.Type.Unknown, ByteBuffer.wrap(wkb), null);
+    }
+
     // ==================== ESRI几何输出方法 ====================
 
     /**
@@ -263,6 +332,23 @@ public class GeometryUtil {
         return GeometryEngine.geometryToWkt(geometry, 0);
     }
 
+    /**
+     * 将ESRI Geometry转换为WKB格式字节数组
+     *
+     * @param geometry ESRI Geometry对象
+     * @return WKB格式的字节数组
+     */
+    public static byte[] toWkb(com.esri.core.geometry.Geometry geometry) {
+        ByteBuffer buffer = OperatorExportToWkb.local().execute(WkbExportFlags.wkbExportDefaults, geometry, null);
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.limit() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] wkb = new byte[buffer.remaining()];
+        buffer.duplicate().get(wkb);
+        return wkb;
+    }
+
     // ==================== 字段处理方法 ====================
 
     /**
@@ -588,20 +674,15 @@ public class GeometryUtil {
 
     /**
      * 获取JTS几何并集
+     * <p>
+     * 使用级联合并（{@link UnaryUnionOp}），输入几何较多时远快于逐个两两合并。
+     * </p>
      *
      * @param geoms JTS Geometry对象数组
-     * @return 并集
+     * @return 并集，没有输入几何时返回null
      */
     public static org.locationtech.jts.geom.Geometry union(org.locationtech.jts.geom.Geometry... geoms) {
-        org.locationtech.jts.geom.Geometry result = null;
-        for (org.locationtech.jts.geom.Geometry g : geoms) {
-            if (result == null) {
-                result = g;
-            } else {
-                result = result.union(g);
-            }
-        }
-        return result;
+        return UnaryUnionOp.union(Arrays.asList(geoms));
     }
 
     /**
@@ -935,7 +1016,7 @@ public class GeometryUtil {
      * @return 是否为空
      */
     public static boolean isEmptyWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         return geom.isEmpty();
     }
 
@@ -946,7 +1027,7 @@ public class GeometryUtil {
      * @return 长度
      */
     public static double lengthWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         return geom.calculateLength2D();
     }
 
@@ -959,10 +1040,11 @@ public class GeometryUtil {
      * @return 是否相交
      */
     public static boolean intersectsWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorIntersects.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getIntersects().execute(a, b, sr, null);
     }
 
     /**
@@ -972,7 +1054,7 @@ public class GeometryUtil {
      * @return 几何类型
      */
     public static GeometryType geometryTypeWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         return GeometryType.valueOf(geom.getType().name().toUpperCase());
     }
 
@@ -984,9 +1066,10 @@ public class GeometryUtil {
      * @return 是否简单
      */
     public static boolean isSimpleWkt(String wkt, Integer wkid) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorSimplifyOGC.local().isSimpleOGC(geom, sr, false, null, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry geom = context.parse(wkt);
+        return context.getSimplifyOGC().isSimpleOGC(geom, sr, false, null, null);
     }
 
     /**
@@ -998,10 +1081,10 @@ public class GeometryUtil {
      * @return 距离
      */
     public static double distanceWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return GeometryEngine.distance(a, b, sr);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getDistance().execute(a, b, null);
     }
 
     /**
@@ -1011,7 +1094,7 @@ public class GeometryUtil {
      * @return 面积
      */
     public static double areaWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         return geom.calculateArea2D();
     }
 
@@ -1022,7 +1105,7 @@ public class GeometryUtil {
      * @return 中心点的WKT格式字符串
      */
     public static String centroidWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         Point2D point2D = OperatorCentroid2D.local().execute(geom, null);
         com.esri.core.geometry.Point point = new com.esri.core.geometry.Point(point2D.x, point2D.y);
         return toWkt(point);
@@ -1035,7 +1118,7 @@ public class GeometryUtil {
      * @return 维度
      */
     public static int dimensionWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         return geom.getDimension();
     }
 
@@ -1046,7 +1129,7 @@ public class GeometryUtil {
      * @return 边界的WKT格式字符串
      */
     public static String boundaryWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         com.esri.core.geometry.Geometry boundary = OperatorBoundary.local().execute(geom, null);
         return toWkt(boundary);
     }
@@ -1060,10 +1143,11 @@ public class GeometryUtil {
      * @return 是否相离
      */
     public static boolean disjointWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorDisjoint.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getDisjoint().execute(a, b, sr, null);
     }
 
     /**
@@ -1075,10 +1159,11 @@ public class GeometryUtil {
      * @return 是否接触
      */
     public static boolean touchesWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorTouches.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getTouches().execute(a, b, sr, null);
     }
 
     /**
@@ -1090,10 +1175,11 @@ public class GeometryUtil {
      * @return 是否交叉
      */
     public static boolean crossesWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorCrosses.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getCrosses().execute(a, b, sr, null);
     }
 
     /**
@@ -1105,10 +1191,11 @@ public class GeometryUtil {
      * @return 是否包含
      */
     public static boolean containsWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorContains.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getContains().execute(a, b, sr, null);
     }
 
     /**
@@ -1120,10 +1207,11 @@ public class GeometryUtil {
      * @return 是否在内部
      */
     public static boolean withinWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorWithin.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getWithin().execute(a, b, sr, null);
     }
 
     /**
@@ -1135,10 +1223,11 @@ public class GeometryUtil {
      * @return 是否有重叠
      */
     public static boolean overlapsWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorOverlaps.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getOverlaps().execute(a, b, sr, null);
     }
 
     /**
@@ -1151,10 +1240,11 @@ public class GeometryUtil {
      * @return 是否符合关系
      */
     public static boolean relatePatternWkt(String awkt, String bwkt, Integer wkid, String pattern) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorRelate.local().execute(a, b, sr, pattern, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getRelate().execute(a, b, sr, pattern, null);
     }
 
     /**
@@ -1166,9 +1256,10 @@ public class GeometryUtil {
      * @return 缓冲区的WKT格式字符串
      */
     public static String bufferWkt(String wkt, Integer wkid, double distance) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        com.esri.core.geometry.Geometry buffer = OperatorBuffer.local().execute(geom, sr, distance, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry geom = context.parse(wkt);
+        com.esri.core.geometry.Geometry buffer = context.getBuffer().execute(geom, sr, distance, null);
         return toWkt(buffer);
     }
 
@@ -1179,7 +1270,7 @@ public class GeometryUtil {
      * @return 凸包的WKT格式字符串
      */
     public static String convexHullWkt(String wkt) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
+        com.esri.core.geometry.Geometry geom = EsriGeometryContext.parseWkt(wkt);
         com.esri.core.geometry.Geometry convexHull = OperatorConvexHull.local().execute(geom, null);
         return toWkt(convexHull);
     }
@@ -1193,10 +1284,11 @@ public class GeometryUtil {
      * @return 交集的WKT格式字符串
      */
     public static String intersectionWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        com.esri.core.geometry.Geometry intersection = OperatorIntersection.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        com.esri.core.geometry.Geometry intersection = context.getIntersection().execute(a, b, sr, null);
         return toWkt(intersection);
     }
 
@@ -1208,9 +1300,11 @@ public class GeometryUtil {
      * @return 并集的WKT格式字符串
      */
     public static String unionWkt(List<String> wkts, Integer wkid) {
-        com.esri.core.geometry.Geometry[] geoms = wkts.stream().map(GeometryUtil::createEsriGeometryByWkt).toArray(com.esri.core.geometry.Geometry[]::new);
-        SpatialReference sr = SpatialReference.create(wkid);
-        com.esri.core.geometry.Geometry union = GeometryEngine.union(geoms, sr);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry[] geoms = wkts.stream().map(context::parse).toArray(com.esri.core.geometry.Geometry[]::new);
+        GeometryCursor cursor = context.getUnion().execute(new SimpleGeometryCursor(geoms), sr, null);
+        com.esri.core.geometry.Geometry union = cursor.next();
         return toWkt(union);
     }
 
@@ -1223,10 +1317,11 @@ public class GeometryUtil {
      * @return 差集的WKT格式字符串
      */
     public static String differenceWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        com.esri.core.geometry.Geometry difference = OperatorDifference.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        com.esri.core.geometry.Geometry difference = context.getDifference().execute(a, b, sr, null);
         return toWkt(difference);
     }
 
@@ -1239,10 +1334,11 @@ public class GeometryUtil {
      * @return 对称差的WKT格式字符串
      */
     public static String symDifferenceWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        com.esri.core.geometry.Geometry symDifference = OperatorSymmetricDifference.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        com.esri.core.geometry.Geometry symDifference = context.getSymmetricDifference().execute(a, b, sr, null);
         return toWkt(symDifference);
     }
 
@@ -1255,10 +1351,11 @@ public class GeometryUtil {
      * @return 是否相等
      */
     public static boolean equalsWkt(String awkt, String bwkt, Integer wkid) {
-        com.esri.core.geometry.Geometry a = createEsriGeometryByWkt(awkt);
-        com.esri.core.geometry.Geometry b = createEsriGeometryByWkt(bwkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        return OperatorEquals.local().execute(a, b, sr, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry a = context.parse(awkt);
+        com.esri.core.geometry.Geometry b = context.parse(bwkt);
+        return context.getEquals().execute(a, b, sr, null);
     }
 
     /**
@@ -1269,9 +1366,81 @@ public class GeometryUtil {
      * @return 简化后的WKT格式字符串
      */
     public static String simplifyWkt(String wkt, Integer wkid) {
-        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkt(wkt);
-        SpatialReference sr = SpatialReference.create(wkid);
-        com.esri.core.geometry.Geometry simplified = OperatorSimplifyOGC.local().execute(geom, sr, false, null);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry geom = context.parse(wkt);
+        com.esri.core.geometry.Geometry simplified = context.getSimplifyOGC().execute(geom, sr, false, null);
         return toWkt(simplified);
     }
+
+    /**
+     * 简化几何（WKB版本）
+     * <p>
+     * 与{@link #simplifyWkt(String, Integer)}相同，使用OGC标准简化几何，
+     * 输入和输出均为二进制WKB，省去WKT文本的格式化和解析开销。
+     * </p>
+     *
+     * @param wkb  WKB格式的字节数组
+     * @param wkid 坐标系WKID
+     * @return 简化后的WKB字节数组
+     */
+    public static byte[] simplifyWkb(byte[] wkb, Integer wkid) {
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkb(wkb);
+        com.esri.core.geometry.Geometry simplified = context.getSimplifyOGC().execute(geom, sr, false, null);
+        return toWkb(simplified);
+    }
+
+    /**
+     * 按指定方式规范化几何（WKB版本）
+     * <p>
+     * {@link GeometryNormalizeType#CHECK}先以OGC规则检查几何是否为简单几何，只有检查未通过时才执行简化，
+     * 已是简单几何时原样返回输入的字节数组。
+     * </p>
+     *
+     * @param wkb           WKB格式的字节数组
+     * @param wkid          坐标系WKID
+     * @param normalizeType 规范化方式
+     * @return 规范化后的WKB字节数组
+     */
+    public static byte[] normalizeWkb(byte[] wkb, Integer wkid, GeometryNormalizeType normalizeType) {
+        if (wkb == null || normalizeType == null || normalizeType == GeometryNormalizeType.NONE) {
+            return wkb;
+        }
+        com.esri.core.geometry.Geometry geom = createEsriGeometryByWkb(wkb);
+        EsriGeometryContext context = EsriGeometryContext.of(wkid);
+        SpatialReference sr = context.getSpatialReference();
+        OperatorSimplifyOGC operator = context.getSimplifyOGC();
+        if (normalizeType == GeometryNormalizeType.CHECK && operator.isSimpleOGC(geom, sr, true, null, null)) {
+            return wkb;
+        }
+        return toWkb(operator.execute(geom, sr, false, null));
+    }
+
+    /**
+     * 并行规范化要素几何
+     * <p>
+     * 在{@link ParallelUtil}的有界线程池中逐个替换要素的几何，要素列表的顺序保持不变。
+     * </p>
+     *
+     * @param features      要素列表
+     * @param wkid          坐标系WKID
+     * @param normalizeType 规范化方式，为{@link GeometryNormalizeType#NONE}时不做任何处理
+     */
+    public static void normalizeGeometries(List<OguFeature> features, Integer wkid,
+                                           GeometryNormalizeType normalizeType) {
+        if (normalizeType == null || normalizeType == GeometryNormalizeType.NONE) {
+            return;
+        }
+        ParallelUtil.forEach(features, feature -> {
+            byte[] wkb = feature.getGeometryWkb();
+            if (wkb != null) {
+                byte[] normalized = normalizeWkb(wkb, wkid, normalizeType);
+                if (normalized != wkb) {
+                    feature.setGeometryWkb(normalized);
+                }
+            }
+        });
+    }
 }
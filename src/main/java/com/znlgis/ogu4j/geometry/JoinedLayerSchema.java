@@ -0,0 +1,125 @@
+package com.znlgis.ogu4j.geometry;
+
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldSchema;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 合并两个图层字段的结果图层结构
+ * <p>
+ * 结果图层的名称、坐标系、几何类型、容差和元数据与左图层相同，字段为左图层字段和右图层字段的副本，
+ * 修改结果图层的字段不影响原图层，
+ * 右图层字段与已有字段重名（不区分大小写）时依次追加"_1"、"_2"等后缀。
+ * 供空间连接和叠加分析生成结果要素使用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SpatialJoinUtil
+ * @see OverlayUtil
+ */
+final class JoinedLayerSchema {
+
+    private final OguLayer layer;
+
+    private final OguFieldSchema schema;
+
+    private final List<OguField> leftFields;
+
+    private final List<OguField> rightFields;
+
+    /**
+     * 构造函数
+     *
+     * @param left  左图层
+     * @param right 右图层，为null时结果图层只包含左图层字段
+     */
+    JoinedLayerSchema(OguLayer left, OguLayer right) {
+        this.layer = left.copySchema();
+        this.leftFields = left.getFields() == null ? List.of() : left.getFields();
+        this.rightFields = right == null || right.getFields() == null ? List.of() : right.getFields();
+        List<OguField> fields = new ArrayList<>(leftFields.size() + rightFields.size());
+        for (OguField field : leftFields) {
+            fields.add(copyField(field, field.getName()));
+        }
+        appendFields(fields, rightFields);
+        layer.setFields(fields);
+        this.schema = layer.getFieldSchema();
+    }
+
+    /**
+     * 获取结果图层（不含要素）
+     *
+     * @return 结果图层
+     */
+    OguLayer getLayer() {
+        return layer;
+    }
+
+    /**
+     * 创建结果要素
+     *
+     * @param id       要素ID
+     * @param geometry 要素几何
+     * @param left     提供左图层字段值的要素，为null时左图层字段值为空
+     * @param right    提供右图层字段值的要素，为null时右图层字段值为空
+     * @return 绑定结果图层字段结构的要素
+     */
+    OguFeature createFeature(String id, Geometry geometry, OguFeature left, OguFeature right) {
+        OguFieldValue[] values = new OguFieldValue[schema.size()];
+        int i = 0;
+        for (OguField field : leftFields) {
+            values[i] = new OguFieldValue(schema.getField(i), left == null ? null : left.getValue(field.getName()));
+            i++;
+        }
+        for (OguField field : rightFields) {
+            // 按右图层中的原字段名取值，结果字段可能已改名
+            values[i] = new OguFieldValue(schema.getField(i), right == null ? null : right.getValue(field.getName()));
+            i++;
+        }
+
+        OguFeature feature = new OguFeature();
+        feature.setId(id);
+        feature.setJtsGeometry(geometry);
+        feature.setAttributes(schema, values);
+        return feature;
+    }
+
+    private static void appendFields(List<OguField> fields, List<OguField> appended) {
+        Set<String> names = new HashSet<>();
+        for (OguField field : fields) {
+            if (field.getName() != null) {
+                names.add(field.getName().toLowerCase(Locale.ROOT));
+            }
+        }
+        for (OguField field : appended) {
+            String name = field.getName();
+            if (name != null && names.contains(name.toLowerCase(Locale.ROOT))) {
+                int suffix = 1;
+                while (names.contains((name + "_" + suffix).toLowerCase(Locale.ROOT))) {
+                    suffix++;
+                }
+                name = name + "_" + suffix;
+            }
+            if (name != null) {
+                names.add(name.toLowerCase(Locale.ROOT));
+            }
+            fields.add(copyField(field, name));
+        }
+    }
+
+    private static OguField copyField(OguField field, String name) {
+        return new OguField(name, field.getAlias(), field.getDescription(), field.getDataType(),
+                field.getLength(), field.getNullable(), field.getDefaultValue());
+    }
+}
@@ -0,0 +1,240 @@
+package com.znlgis.ogu4j.geometry;
+
+import com.znlgis.ogu4j.engine.enums.OverlayType;
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.model.layer.OguSpatialIndex;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jts.operation.overlayng.UnaryUnionNG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 图层叠加分析工具类
+ * <p>
+ * 提供输入图层与叠加图层之间的相交、擦除、标识和联合运算，结果为合并两个图层属性的新图层。
+ * 叠加图层使用{@link OguLayer#getSpatialIndex()}的空间索引查找候选要素对，
+ * 输入要素在{@link ParallelUtil}的线程池中并行处理；几何运算使用JTS OverlayNG，
+ * 输入图层设置了容差时以容差为网格做snap-rounding，未设置时使用浮点精度并在失败时自动改用snapping。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OverlayUtil {
+    private OverlayUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 图层叠加分析
+     * <p>
+     * 结果图层的名称、坐标系、几何类型和容差与输入图层相同，字段为输入图层字段加叠加图层字段
+     * （擦除时只有输入图层字段），叠加图层字段与已有字段重名（不区分大小写）时依次追加"_1"、"_2"等后缀。
+     * 结果要素按输入图层顺序排列：每个输入要素先输出与各叠加要素的重叠部分（按叠加图层顺序），
+     * 再输出未被覆盖的剩余部分；联合时最后按叠加图层顺序输出叠加要素未被输入图层覆盖的部分。
+     * 结果要素的ID取自提供几何的输入或叠加要素。
+     * </p>
+     * <p>
+     * 相交结果的几何维度取两个输入几何中较低的维度，其余结果与来源几何的维度相同，运算产生的更低维度部分被舍弃。
+     * 没有几何的要素不参与运算。
+     * </p>
+     *
+     * @param input   输入图层
+     * @param overlay 叠加图层
+     * @param type    叠加分析类型
+     * @return 叠加分析结果图层
+     * @throws IllegalArgumentException 两个图层坐标系不一致时抛出异常
+     */
+    public static OguLayer overlay(OguLayer input, OguLayer overlay, OverlayType type) {
+        if (input.getWkid() != null && overlay.getWkid() != null && !input.getWkid().equals(overlay.getWkid())) {
+            throw new IllegalArgumentException("输入图层与叠加图层坐标系不一致");
+        }
+
+        PrecisionModel precisionModel = precisionModel(input);
+        JoinedLayerSchema schema = new JoinedLayerSchema(input, type == OverlayType.ERASE ? null : overlay);
+        OguLayer result = schema.getLayer();
+
+        OguSpatialIndex overlayIndex = overlay.getSpatialIndex();
+        List<OguFeature> inputFeatures = input.getFeatures() == null ? List.of() : input.getFeatures();
+        List<List<OguFeature>> pieces = ParallelUtil.map(inputFeatures,
+                feature -> overlayFeature(schema, overlayIndex, feature, type, precisionModel));
+        for (List<OguFeature> featurePieces : pieces) {
+            result.getFeatures().addAll(featurePieces);
+        }
+
+        if (type == OverlayType.UNION) {
+            OguSpatialIndex inputIndex = input.getSpatialIndex();
+            List<OguFeature> overlayFeatures = overlay.getFeatures() == null ? List.of() : overlay.getFeatures();
+            List<OguFeature> remainders = ParallelUtil.map(overlayFeatures,
+                    feature -> remainder(schema, inputIndex, feature, false, precisionModel));
+            for (OguFeature remainder : remainders) {
+                if (remainder != null) {
+                    result.getFeatures().add(remainder);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 图层相交
+     *
+     * @param input   输入图层
+     * @param overlay 叠加图层
+     * @return 两个图层重叠部分组成的图层
+     * @see #overlay(OguLayer, OguLayer, OverlayType)
+     */
+    public static OguLayer intersect(OguLayer input, OguLayer overlay) {
+        return overlay(input, overlay, OverlayType.INTERSECT);
+    }
+
+    /**
+     * 图层擦除
+     *
+     * @param input   输入图层
+     * @param overlay 擦除图层
+     * @return 输入图层中不与擦除图层重叠的部分组成的图层
+     * @see #overlay(OguLayer, OguLayer, OverlayType)
+     */
+    public static OguLayer erase(OguLayer input, OguLayer overlay) {
+        return overlay(input, overlay, OverlayType.ERASE);
+    }
+
+    /**
+     * 图层标识
+     *
+     * @param input   输入图层
+     * @param overlay 标识图层
+     * @return 输入图层按标识图层切分并附加其属性的图层
+     * @see #overlay(OguLayer, OguLayer, OverlayType)
+     */
+    public static OguLayer identity(OguLayer input, OguLayer overlay) {
+        return overlay(input, overlay, OverlayType.IDENTITY);
+    }
+
+    /**
+     * 图层联合
+     *
+     * @param input   输入图层
+     * @param overlay 叠加图层
+     * @return 两个图层相互切分后的全部部分组成的图层
+     * @see #overlay(OguLayer, OguLayer, OverlayType)
+     */
+    public static OguLayer union(OguLayer input, OguLayer overlay) {
+        return overlay(input, overlay, OverlayType.UNION);
+    }
+
+    private static List<OguFeature> overlayFeature(JoinedLayerSchema schema, OguSpatialIndex overlayIndex,
+                                                   OguFeature feature, OverlayType type,
+                                                   PrecisionModel precisionModel) {
+        Geometry geometry = feature.getJtsGeometry();
+        if (geometry == null || geometry.isEmpty()) {
+            return List.of();
+        }
+
+        List<OguFeature> pieces = new ArrayList<>();
+        if (type != OverlayType.ERASE) {
+            for (OguFeature other : overlayIndex.query(SpatialRelationType.INTERSECTS, geometry)) {
+                Geometry otherGeometry = other.getJtsGeometry();
+                int dimension = type == OverlayType.INTERSECT
+                        ? Math.min(geometry.getDimension(), otherGeometry.getDimension())
+                        : geometry.getDimension();
+                Geometry piece = extract(overlay(geometry, otherGeometry, OverlayNG.INTERSECTION, precisionModel),
+                        dimension);
+                if (piece != null) {
+                    pieces.add(schema.createFeature(feature.getId(), piece, feature, other));
+                }
+            }
+        }
+        if (type != OverlayType.INTERSECT) {
+            OguFeature remainder = remainder(schema, overlayIndex, feature, true, precisionModel);
+            if (remainder != null) {
+                pieces.add(remainder);
+            }
+        }
+        return pieces;
+    }
+
+    /**
+     * 计算要素几何未被另一图层要素覆盖的部分
+     *
+     * @param isLeft 要素是否来自结果图层的左侧（输入图层）
+     */
+    private static OguFeature remainder(JoinedLayerSchema schema, OguSpatialIndex otherIndex, OguFeature feature,
+                                        boolean isLeft, PrecisionModel precisionModel) {
+        Geometry geometry = feature.getJtsGeometry();
+        if (geometry == null || geometry.isEmpty()) {
+            return null;
+        }
+
+        List<OguFeature> others = otherIndex.query(SpatialRelationType.INTERSECTS, geometry);
+        Geometry remainder;
+        if (others.isEmpty()) {
+            remainder = geometry.copy();
+        } else {
+            List<Geometry> otherGeometries = new ArrayList<>(others.size());
+            for (OguFeature other : others) {
+                otherGeometries.add(other.getJtsGeometry());
+            }
+            Geometry cover = otherGeometries.size() == 1 ? otherGeometries.get(0)
+                    : union(geometry.getFactory().buildGeometry(otherGeometries), precisionModel);
+            remainder = extract(overlay(geometry, cover, OverlayNG.DIFFERENCE, precisionModel),
+                    geometry.getDimension());
+        }
+        if (remainder == null) {
+            return null;
+        }
+        return isLeft ? schema.createFeature(feature.getId(), remainder, feature, null)
+                : schema.createFeature(feature.getId(), remainder, null, feature);
+    }
+
+    /**
+     * 由图层容差确定运算精度模型，未设置容差时返回null表示浮点精度
+     */
+    static PrecisionModel precisionModel(OguLayer layer) {
+        Double tolerance = layer.getTolerance();
+        return tolerance == null || tolerance <= 0 ? null : new PrecisionModel(1 / tolerance);
+    }
+
+    private static Geometry overlay(Geometry a, Geometry b, int opCode, PrecisionModel precisionModel) {
+        return precisionModel == null ? OverlayNGRobust.overlay(a, b, opCode)
+                : OverlayNG.overlay(a, b, opCode, precisionModel);
+    }
+
+    private static Geometry union(Geometry geometry, PrecisionModel precisionModel) {
+        return precisionModel == null ? OverlayNGRobust.union(geometry)
+                : UnaryUnionNG.union(geometry, precisionModel);
+    }
+
+    /**
+     * 提取几何中指定维度的部分
+     *
+     * @return 指定维度的部分，没有时返回null
+     */
+    private static Geometry extract(Geometry geometry, int dimension) {
+        if (geometry == null || geometry.isEmpty()) {
+            return null;
+        }
+        List<Geometry> parts = new ArrayList<>();
+        for (int i = 0; i < geometry.getNumGeometries(); i++) {
+            Geometry part = geometry.getGeometryN(i);
+            if (!part.isEmpty() && part.getDimension() == dimension) {
+                parts.add(part);
+            }
+        }
+        if (parts.size() == geometry.getNumGeometries() && geometry.getClass() != GeometryCollection.class) {
+            return geometry;
+        }
+        return parts.isEmpty() ? null : geometry.getFactory().buildGeometry(parts);
+    }
+}
@@ -0,0 +1,169 @@
+package com.znlgis.ogu4j.geometry;
+
+import com.znlgis.ogu4j.engine.enums.SpatialJoinMatchType;
+import com.znlgis.ogu4j.engine.enums.SpatialJoinType;
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.model.layer.OguSpatialIndex;
+import com.znlgis.ogu4j.utils.ParallelUtil;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Lineal;
+import org.locationtech.jts.geom.Polygonal;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 空间连接工具类
+ * <p>
+ * 按空间关系将连接图层要素的属性附加到目标图层要素上（如将行政区划属性附加到宗地上）。
+ * 连接图层使用{@link OguLayer#getSpatialIndex()}的空间索引，目标要素在{@link ParallelUtil}的线程池中并行探查索引，
+ * 每个目标几何只预处理一次，避免逐对调用几何判断的O(N·M)开销。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SpatialJoinUtil {
+    /**
+     * 支持的空间关系类型
+     */
+    private static final Set<SpatialRelationType> SUPPORTED_RELATIONS = EnumSet.of(SpatialRelationType.INTERSECTS,
+            SpatialRelationType.CONTAINS, SpatialRelationType.WITHIN, SpatialRelationType.COVERS,
+            SpatialRelationType.NEAREST);
+
+    private SpatialJoinUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 空间连接
+     *
+     * @param target    目标图层
+     * @param join      连接图层
+     * @param relation  空间关系类型（相交、包含、被包含或覆盖），以"目标几何 关系 连接几何"的方向判断
+     * @param joinType  连接类型
+     * @param matchType 匹配方式
+     * @return 连接结果图层
+     * @throws IllegalArgumentException 两个图层坐标系不一致或空间关系类型不受支持时抛出异常
+     * @see #join(OguLayer, OguLayer, SpatialRelationType, double, SpatialJoinType, SpatialJoinMatchType)
+     */
+    public static OguLayer join(OguLayer target, OguLayer join, SpatialRelationType relation,
+                                SpatialJoinType joinType, SpatialJoinMatchType matchType) {
+        return join(target, join, relation, 0, joinType, matchType);
+    }
+
+    /**
+     * 空间连接
+     * <p>
+     * 结果图层的名称、坐标系、几何类型和容差与目标图层相同，字段为目标图层字段加连接图层字段，
+     * 连接图层字段与已有字段重名（不区分大小写）时依次追加"_1"、"_2"等后缀。
+     * 结果要素的ID和几何（副本）取自目标要素，按目标图层顺序排列；
+     * 一对多时同一目标要素的多个结果要素按连接图层顺序排列。
+     * </p>
+     * <p>
+     * 一对一匹配时，面与面之间取重叠面积最大的连接要素，线与线或线与面之间取重叠长度最大的连接要素，
+     * 重叠量相同时取连接图层中靠前的要素；邻近连接取距离最近的连接要素。
+     * </p>
+     *
+     * @param target    目标图层
+     * @param join      连接图层
+     * @param relation  空间关系类型（相交、包含、被包含、覆盖或邻近），以"目标几何 关系 连接几何"的方向判断
+     * @param distance  邻近距离（与图层坐标系单位一致），仅空间关系类型为邻近时使用
+     * @param joinType  连接类型
+     * @param matchType 匹配方式
+     * @return 连接结果图层
+     * @throws IllegalArgumentException 两个图层坐标系不一致或空间关系类型不受支持时抛出异常
+     */
+    public static OguLayer join(OguLayer target, OguLayer join, SpatialRelationType relation, double distance,
+                                SpatialJoinType joinType, SpatialJoinMatchType matchType) {
+        if (target.getWkid() != null && join.getWkid() != null && !target.getWkid().equals(join.getWkid())) {
+            throw new IllegalArgumentException("目标图层与连接图层坐标系不一致");
+        }
+        if (!SUPPORTED_RELATIONS.contains(relation)) {
+            throw new IllegalArgumentException("不支持的空间关系类型: " + relation);
+        }
+
+        JoinedLayerSchema schema = new JoinedLayerSchema(target, join);
+        OguLayer result = schema.getLayer();
+
+        OguSpatialIndex index = join.getSpatialIndex();
+        List<OguFeature> targetFeatures = target.getFeatures() == null ? List.of() : target.getFeatures();
+        List<List<OguFeature>> matches = ParallelUtil.map(targetFeatures,
+                feature -> match(index, feature, relation, distance, matchType));
+
+        List<OguFeature> features = result.getFeatures();
+        for (int i = 0; i < targetFeatures.size(); i++) {
+            OguFeature feature = targetFeatures.get(i);
+            List<OguFeature> matched = matches.get(i);
+            if (matched.isEmpty()) {
+                if (joinType == SpatialJoinType.LEFT) {
+                    features.add(schema.createFeature(feature.getId(), copyGeometry(feature), feature, null));
+                }
+                continue;
+            }
+            for (OguFeature joinFeature : matched) {
+                features.add(schema.createFeature(feature.getId(), copyGeometry(feature), feature, joinFeature));
+            }
+        }
+        return result;
+    }
+
+    private static List<OguFeature> match(OguSpatialIndex index, OguFeature feature, SpatialRelationType relation,
+                                          double distance, SpatialJoinMatchType matchType) {
+        Geometry geometry = feature.getJtsGeometry();
+        if (geometry == null || geometry.isEmpty()) {
+            return List.of();
+        }
+
+        if (relation == SpatialRelationType.NEAREST) {
+            if (matchType == SpatialJoinMatchType.ONE_TO_MANY) {
+                return index.queryWithinDistance(geometry, distance);
+            }
+            List<OguFeature> nearest = index.nearest(geometry, 1);
+            if (nearest.isEmpty() || nearest.get(0).getJtsGeometry().distance(geometry) > distance) {
+                return List.of();
+            }
+            return nearest;
+        }
+
+        List<OguFeature> matched = index.query(relation, geometry);
+        if (matchType == SpatialJoinMatchType.ONE_TO_MANY || matched.size() < 2) {
+            return matched;
+        }
+        OguFeature best = matched.get(0);
+        double bestOverlap = overlap(geometry, best.getJtsGeometry());
+        for (int i = 1; i < matched.size(); i++) {
+            double overlap = overlap(geometry, matched.get(i).getJtsGeometry());
+            if (overlap > bestOverlap) {
+                best = matched.get(i);
+                bestOverlap = overlap;
+            }
+        }
+        return List.of(best);
+    }
+
+    /**
+     * 计算两个几何的重叠量：都是面时为重叠面积，有线参与时为重叠长度，其余情况为0
+     */
+    private static double overlap(Geometry a, Geometry b) {
+        boolean polygonal = a instanceof Polygonal && b instanceof Polygonal;
+        boolean lineal = a instanceof Lineal || b instanceof Lineal;
+        if (!polygonal && !lineal) {
+            return 0;
+        }
+        Geometry intersection = OverlayNGRobust.overlay(a, b, OverlayNG.INTERSECTION);
+        return polygonal ? intersection.getArea() : intersection.getLength();
+    }
+
+    private static Geometry copyGeometry(OguFeature feature) {
+        Geometry geometry = feature.getJtsGeometry();
+        return geometry == null ? null : geometry.copy();
+    }
+}
@@ -0,0 +1,178 @@
+package com.znlgis.ogu4j.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+/**
+ * 并行处理工具类
+ * <p>
+ * 在一个共享的、线程数有界的ForkJoinPool中按序号分段并行处理列表元素，
+ * 线程数默认等于可用处理器数量，不占用公共ForkJoinPool。
+ * 每个元素只由一个线程处理，结果按原列表的顺序排列；元素数量较少或已在池内线程中调用时按顺序执行。
+ * 所有方法均为静态方法，无需实例化即可使用。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ParallelUtil {
+    /**
+     * 并行执行的最少元素数量
+     */
+    private static final int MIN_PARALLEL_SIZE = 64;
+
+    /**
+     * 每个线程分得的任务段数
+     */
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors()),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("ogu4j-parallel-" + thread.getPoolIndex());
+                return thread;
+            },
+            null, false);
+
+    private ParallelUtil() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * 获取并行线程数
+     *
+     * @return 并行线程数
+     */
+    public static int getParallelism() {
+        return POOL.getParallelism();
+    }
+
+    /**
+     * 并行处理列表中的每个元素
+     * <p>
+     * 方法返回时所有元素均已处理完成，处理过程中的修改对调用线程可见。
+     * 任一元素处理失败时抛出该异常。
+     * </p>
+     *
+     * @param items  元素列表（应支持按序号快速访问）
+     * @param action 元素处理函数
+     * @param <T>    元素类型
+     */
+    public static <T> void forEach(List<T> items, Consumer<? super T> action) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        forEachIndex(items.size(), i -> action.accept(items.get(i)));
+    }
+
+    /**
+     * 并行转换列表中的每个元素
+     *
+     * @param items  元素列表（应支持按序号快速访问）
+     * @param mapper 元素转换函数
+     * @param <T>    元素类型
+     * @param <R>    结果类型
+     * @return 与元素列表顺序一致的结果列表
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> mapper) {
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Object[] results = new Object[items.size()];
+        forEachIndex(items.size(), i -> results[i] = mapper.apply(items.get(i)));
+        return (List<R>) new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * 并行转换列表中的每个元素，适用于元素数量少但单个元素处理开销大的场景
+     *
+     * @param items           元素列表（应支持按序号快速访问）
+     * @param minParallelSize 并行执行的最少元素数量
+     * @param mapper          元素转换函数
+     * @param <T>             元素类型
+     * @param <R>             结果类型
+     * @return 与元素列表顺序一致的结果列表
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> map(List<T> items, int minParallelSize, Function<? super T, ? extends R> mapper) {
+        if (items == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Object[] results = new Object[items.size()];
+        forEachIndex(items.size(), minParallelSize, i -> results[i] = mapper.apply(items.get(i)));
+        return (List<R>) new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * 并行处理序号区间[0, size)
+     * <p>
+     * 在池内线程中调用时（嵌套并行）按顺序执行，避免占满线程后相互等待。
+     * </p>
+     *
+     * @param size   序号数量
+     * @param action 序号处理函数
+     */
+    public static void forEachIndex(int size, IntConsumer action) {
+        forEachIndex(size, MIN_PARALLEL_SIZE, action);
+    }
+
+    /**
+     * 并行处理序号区间[0, size)，并指定并行执行的最少序号数量
+     *
+     * @param size            序号数量
+     * @param minParallelSize 并行执行的最少序号数量，不小于2
+     * @param action          序号处理函数
+     * @see #forEachIndex(int, IntConsumer)
+     */
+    public static void forEachIndex(int size, int minParallelSize, IntConsumer action) {
+        int parallelism = POOL.getParallelism();
+        if (size < Math.max(2, minParallelSize) || parallelism < 2 || inOwnPool()) {
+            for (int i = 0; i < size; i++) {
+                action.accept(i);
+            }
+            return;
+        }
+        int threshold = Math.max(1, size / (parallelism * SEGMENTS_PER_THREAD));
+        POOL.invoke(new IndexTask(action, 0, size, threshold));
+    }
+
+    private static boolean inOwnPool() {
+        return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == POOL;
+    }
+
+    private static final class IndexTask extends RecursiveAction {
+        private final transient IntConsumer action;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        IndexTask(IntConsumer action, int from, int to, int threshold) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new IndexTask(action, from, mid, threshold), new IndexTask(action, mid, to, threshold));
+        }
+    }
+}
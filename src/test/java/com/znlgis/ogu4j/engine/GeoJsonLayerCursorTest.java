@@ -0,0 +1,119 @@
+package com.znlgis.ogu4j.engine;
+
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.io.LayerCursor;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * GeoJSON图层要素游标测试
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GeoJsonLayerCursorTest {
+    private static final String GEOJSON = """
+            {"type": "FeatureCollection", "name": "points", "features": [
+              {"type": "Feature", "id": "1", "geometry": {"type": "Point", "coordinates": [114.0, 30.0]},
+               "properties": {"code": 1, "name": "a"}},
+              {"type": "Feature", "id": "2", "geometry": {"type": "Point", "coordinates": [114.1, 30.1]},
+               "properties": {"code": 3000000000, "name": "b", "valid": true, "area": 1}},
+              {"type": "Feature", "id": "3", "geometry": {"type": "Point", "coordinates": [114.2, 30.2]},
+               "properties": {"code": 2, "valid": false, "area": 2.5, "mixed": true}},
+              {"type": "Feature", "id": "4", "geometry": {"type": "Point", "coordinates": [114.3, 30.3]},
+               "properties": {"mixed": 1}}
+            ]}
+            """;
+
+    @Test
+    public void schemaContainsPropertiesOfLaterFeatures() throws Exception {
+        Path path = writeGeoJson();
+        try (LayerCursor cursor = new GeoJsonLayerReader().openCursor(path.toString(), null, null, null,
+                Map.of("geometryNormalize", "NONE"))) {
+            OguLayer schema = cursor.getSchema();
+            assertEquals("points", schema.getName());
+            assertEquals(List.of("code", "name", "valid", "area", "mixed"), fieldNames(schema));
+            assertEquals(FieldDataType.LONG, field(schema, "code").getDataType());
+            assertEquals(FieldDataType.STRING, field(schema, "name").getDataType());
+            assertEquals(FieldDataType.STRING, field(schema, "valid").getDataType());
+            assertEquals(FieldDataType.DOUBLE, field(schema, "area").getDataType());
+            assertEquals(FieldDataType.STRING, field(schema, "mixed").getDataType());
+
+            List<OguFeature> features = new ArrayList<>();
+            while (cursor.hasNext()) {
+                features.add(cursor.next());
+            }
+            assertEquals(4, features.size());
+            assertEquals(5, schema.getFields().size());
+            assertEquals(1L, features.get(0).getValue("code"));
+            assertNull(features.get(0).getValue("valid"));
+            assertEquals("true", features.get(1).getValue("valid"));
+            assertEquals(1.0, features.get(1).getValue("area"));
+            assertEquals("false", features.get(2).getValue("valid"));
+            assertEquals("true", features.get(2).getValue("mixed"));
+            assertEquals("1", features.get(3).getValue("mixed"));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void readReturnsSameSchemaAndValuesAsCursor() throws Exception {
+        Path path = writeGeoJson();
+        try {
+            OguLayer layer = new GeoJsonLayerReader().read(path.toString(), null, null, null,
+                    Map.of("geometryNormalize", "NONE"));
+            assertEquals(List.of("code", "name", "valid", "area", "mixed"), fieldNames(layer));
+            assertEquals(FieldDataType.STRING, field(layer, "valid").getDataType());
+            List<OguFeature> features = layer.getFeatures();
+            assertEquals(4, features.size());
+            assertEquals(1L, features.get(0).getValue("code"));
+            assertEquals(2L, features.get(2).getValue("code"));
+            assertEquals(1.0, features.get(1).getValue("area"));
+            assertEquals("true", features.get(1).getValue("valid"));
+            assertEquals("false", features.get(2).getValue("valid"));
+            assertEquals("true", features.get(2).getValue("mixed"));
+            assertEquals("1", features.get(3).getValue("mixed"));
+
+            try (LayerCursor cursor = new GeoJsonLayerReader().openCursor(path.toString(), null, null, null,
+                    Map.of("geometryNormalize", "NONE"))) {
+                for (OguFeature feature : features) {
+                    OguFeature expected = cursor.next();
+                    for (String name : fieldNames(layer)) {
+                        assertEquals(name, expected.getValue(name), feature.getValue(name));
+                    }
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static Path writeGeoJson() throws IOException {
+        Path path = Files.createTempFile("ogu4j", ".geojson");
+        Files.writeString(path, GEOJSON, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    private static List<String> fieldNames(OguLayer layer) {
+        return layer.getFields().stream().map(OguField::getName).toList();
+    }
+
+    private static OguField field(OguLayer layer, String name) {
+        return layer.getFields().stream().filter(f -> name.equals(f.getName())).findFirst().orElseThrow();
+    }
+}
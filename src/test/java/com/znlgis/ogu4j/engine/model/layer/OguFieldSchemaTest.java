@@ -0,0 +1,92 @@
+package com.znlgis.ogu4j.engine.model.layer;
+
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.util.ShpUtil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * OGU字段结构测试
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OguFieldSchemaTest {
+
+    @Test
+    public void indexOfIgnoresCase() {
+        OguFieldSchema schema = new OguFieldSchema(List.of(
+                new OguField("NAME", "名称", FieldDataType.STRING),
+                new OguField("area", "面积", FieldDataType.DOUBLE)));
+        assertEquals(0, schema.indexOf("name"));
+        assertEquals(1, schema.indexOf("AREA"));
+        assertEquals(-1, schema.indexOf("code"));
+    }
+
+    @Test
+    public void renamedFieldIsReadByNewName() {
+        OguLayer layer = newLayer();
+        OguFieldSchema schema = layer.getFieldSchema();
+        OguFeature feature = newFeature(layer);
+        assertSame(schema, layer.getFieldSchema());
+
+        layer.getFields().get(0).setName("NAME2");
+        assertFalse(schema.isCurrent());
+        assertFalse(schema.matches(layer.getFields()));
+        assertEquals("a", feature.getValue("NAME2"));
+        assertNull(feature.getValue("NAME"));
+        assertEquals(1.5, feature.getValue("AREA"));
+
+        OguFieldSchema rebuilt = layer.getFieldSchema();
+        assertNotSame(schema, rebuilt);
+        assertTrue(rebuilt.isCurrent());
+        assertEquals(0, rebuilt.indexOf("NAME2"));
+        assertEquals(-1, rebuilt.indexOf("NAME"));
+    }
+
+    @Test
+    public void shapefileFieldNameFormattingRebuildsSchema() {
+        OguLayer layer = newLayer();
+        layer.getFields().add(new OguField("DESCRIPTION_TEXT", "描述", FieldDataType.STRING));
+        OguFeature feature = newFeature(layer);
+
+        ShpUtil.formatFieldName(layer.getFields());
+        assertEquals("DESCRIPTIO", layer.getFields().get(2).getName());
+        assertEquals("long text", feature.getValue("DESCRIPTIO"));
+        assertEquals(2, layer.getFieldSchema().indexOf("DESCRIPTIO"));
+    }
+
+    private static OguLayer newLayer() {
+        OguLayer layer = new OguLayer();
+        List<OguField> fields = new ArrayList<>();
+        fields.add(new OguField("NAME", "名称", FieldDataType.STRING));
+        fields.add(new OguField("AREA", "面积", FieldDataType.DOUBLE));
+        layer.setFields(fields);
+        return layer;
+    }
+
+    private static OguFeature newFeature(OguLayer layer) {
+        List<OguFieldValue> values = new ArrayList<>();
+        Object[] data = {"a", 1.5, "long text"};
+        for (int i = 0; i < layer.getFields().size(); i++) {
+            OguFieldValue value = new OguFieldValue();
+            value.setField(layer.getFields().get(i));
+            value.setValue(data[i]);
+            values.add(value);
+        }
+        OguFeature feature = new OguFeature();
+        feature.setAttributes(values);
+        feature.bind(layer.getFieldSchema());
+        return feature;
+    }
+}
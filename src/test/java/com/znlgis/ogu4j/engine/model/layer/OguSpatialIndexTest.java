@@ -0,0 +1,48 @@
+package com.znlgis.ogu4j.engine.model.layer;
+
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * OGU要素空间索引测试
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class OguSpatialIndexTest {
+
+    @Test
+    public void indexIsCachedUntilFeaturesChange() {
+        OguLayer layer = new OguLayer();
+        layer.setFeatures(new ArrayList<>(List.of(newFeature("1", 0, 0), newFeature("2", 10, 10))));
+        OguSpatialIndex index = layer.getSpatialIndex();
+        assertSame(index, layer.getSpatialIndex());
+        assertEquals(1, index.query(new Envelope(-1, 1, -1, 1)).size());
+
+        layer.getFeatures().add(newFeature("3", 0.5, 0.5));
+        OguSpatialIndex added = layer.getSpatialIndex();
+        assertNotSame(index, added);
+        assertEquals(2, added.query(new Envelope(-1, 1, -1, 1)).size());
+
+        layer.getFeatures().get(0).setGeometry("POINT (20 20)");
+        assertSame(added, layer.getSpatialIndex());
+        layer.setFeatures(layer.getFeatures());
+        OguSpatialIndex reset = layer.getSpatialIndex();
+        assertNotSame(added, reset);
+        List<OguFeature> result = reset.query(new Envelope(-1, 1, -1, 1));
+        assertEquals(1, result.size());
+        assertEquals("3", result.get(0).getId());
+    }
+
+    private static OguFeature newFeature(String id, double x, double y) {
+        return new OguFeature(id, "POINT (" + x + " " + y + ")", new ArrayList<>(), null, null);
+    }
+}
@@ -0,0 +1,245 @@
+package com.znlgis.ogu4j.engine.util;
+
+import com.znlgis.ogu4j.engine.enums.DatumTransformType;
+import com.znlgis.ogu4j.engine.model.TransformParamModel;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import com.znlgis.ogu4j.engine.model.layer.OguLayerMetadata;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * 参数法坐标转换工具类测试
+ * <p>
+ * 七参数和四参数的算例取自IOGP Guidance Note 7-2（EPSG坐标转换方法9607、9621）。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DatumTransformUtilTest {
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    private static final double A = 6378137.0;
+
+    private static final double E2 = GaussKrugerUtil.FLATTENING * (2 - GaussKrugerUtil.FLATTENING);
+
+    private static final double WGS72_A = 6378135.0;
+
+    private static final double WGS72_F = 1 / 298.26;
+
+    private static final double KRASSOVSKY_A = 6378245.0;
+
+    private static final double KRASSOVSKY_F = 1 / 298.3;
+
+    @Test
+    public void parseParams() {
+        TransformParamModel seven = DatumTransformUtil.parseParams("0, 0, 4.5，0,0,-0.554,0.219");
+        assertEquals(DatumTransformType.SEVEN_PARAMETER, seven.getTransformType());
+        assertEquals(4.5, seven.getDz(), 0);
+        assertEquals(-0.554, seven.getRz(), 0);
+        assertEquals(0.219, seven.getScale(), 0);
+
+        TransformParamModel four = DatumTransformUtil.parseParams("-208.185,-129.549,1.56504,1.5504");
+        assertEquals(DatumTransformType.FOUR_PARAMETER, four.getTransformType());
+        assertEquals(-208.185, four.getDx(), 0);
+        assertEquals(1.56504, four.getRz(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseParamsRejectsWrongCount() {
+        DatumTransformUtil.parseParams("1,2,3");
+    }
+
+    /**
+     * 坐标框架旋转七参数（EPSG 9607）算例：WGS 72到WGS 84
+     */
+    @Test
+    public void sevenParameterCoordinateFrame() {
+        TransformParamModel params = new TransformParamModel(DatumTransformType.SEVEN_PARAMETER,
+                0, 0, 4.5, 0, 0, -0.554, 0.219);
+        double[] source = geodetic(3657660.66, 255768.55, 5201382.11);
+        double[] expected = geodetic(3657660.78, 255778.43, 5201387.75);
+
+        Point point = FACTORY.createPoint(new Coordinate(source[0], source[1], source[2]));
+        DatumTransformUtil.transform(point, params, GaussKrugerUtil.GEOGRAPHIC_WKID);
+        assertGeodeticEquals(expected, point.getX(), point.getY(), 0.02);
+        assertEquals(source[2], point.getCoordinate().getZ(), 0);
+    }
+
+    @Test
+    public void sevenParameterOnProjectedCoordinates() {
+        TransformParamModel params = new TransformParamModel(DatumTransformType.SEVEN_PARAMETER,
+                0, 0, 4.5, 0, 0, -0.554, 0.219);
+        double[] lonLat = {114.3, 30.6};
+        Point geographic = FACTORY.createPoint(new Coordinate(lonLat[0], lonLat[1]));
+        DatumTransformUtil.transform(geographic, params, GaussKrugerUtil.GEOGRAPHIC_WKID);
+
+        GaussKrugerUtil.forward(lonLat, 4526);
+        Point projected = FACTORY.createPoint(new Coordinate(lonLat[0], lonLat[1]));
+        DatumTransformUtil.transform(projected, params, 4526);
+
+        double[] expected = {geographic.getX(), geographic.getY()};
+        GaussKrugerUtil.forward(expected, 4526);
+        assertEquals(expected[0], projected.getX(), 1e-6);
+        assertEquals(expected[1], projected.getY(), 1e-6);
+    }
+
+    /**
+     * 同一算例按源坐标所在的WGS 72椭球换算
+     */
+    @Test
+    public void sevenParameterUsesSourceEllipsoid() {
+        TransformParamModel params = new TransformParamModel(DatumTransformType.SEVEN_PARAMETER,
+                0, 0, 4.5, 0, 0, -0.554, 0.219, WGS72_A, WGS72_F);
+        double[] source = geodetic(3657660.66, 255768.55, 5201382.11, WGS72_A, WGS72_F * (2 - WGS72_F));
+        double[] expected = geodetic(3657660.78, 255778.43, 5201387.75);
+
+        Point point = FACTORY.createPoint(new Coordinate(source[0], source[1], source[2]));
+        DatumTransformUtil.transform(point, params, GaussKrugerUtil.GEOGRAPHIC_WKID);
+        assertGeodeticEquals(expected, point.getX(), point.getY(), 0.02);
+    }
+
+    @Test
+    public void sevenParameterProjectsWithSourceEllipsoid() {
+        TransformParamModel params = new TransformParamModel(DatumTransformType.SEVEN_PARAMETER,
+                15.8, -154.4, -82.3, 0, 0, 0, 0, KRASSOVSKY_A, KRASSOVSKY_F);
+        Point geographic = FACTORY.createPoint(new Coordinate(114.3, 30.6));
+        DatumTransformUtil.transform(geographic, params, GaussKrugerUtil.GEOGRAPHIC_WKID);
+
+        double[] beijing54 = {114.3, 30.6};
+        new GaussKrugerUtil.Ellipsoid(KRASSOVSKY_A, KRASSOVSKY_F).forward(beijing54, 4526);
+        Point projected = FACTORY.createPoint(new Coordinate(beijing54[0], beijing54[1]));
+        DatumTransformUtil.transform(projected, params, 4526);
+
+        double[] expected = {geographic.getX(), geographic.getY()};
+        GaussKrugerUtil.forward(expected, 4526);
+        assertEquals(expected[0], projected.getX(), 1e-6);
+        assertEquals(expected[1], projected.getY(), 1e-6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sevenParameterRejectsUnsupportedWkid() {
+        TransformParamModel params = new TransformParamModel(DatumTransformType.SEVEN_PARAMETER,
+                0, 0, 0, 0, 0, 0, 0);
+        DatumTransformUtil.transform(FACTORY.createPoint(new Coordinate(0, 0)), params, 3857);
+    }
+
+    /**
+     * 平面相似变换（EPSG 9621）算例：ETRS89 / UTM 31N到ED50 / UTM 31N
+     * <p>
+     * 算例以东坐标为X，换算为测量坐标系约定后X（北）平移为-208.185米、Y（东）平移为-129.549米。
+     * </p>
+     */
+    @Test
+    public void fourParameterSurveyingConvention() {
+        TransformParamModel params = new TransformParamModel(-208.185, -129.549, 1.56504, 1.5504);
+        Point point = FACTORY.createPoint(new Coordinate(300000, 4500000));
+        DatumTransformUtil.transform(point, params, null);
+        assertEquals(299905.060, point.getX(), 0.001);
+        assertEquals(4499796.515, point.getY(), 0.001);
+    }
+
+    @Test
+    public void fourParameterRotatesFromNorthToEast() {
+        TransformParamModel params = new TransformParamModel(10, 20, 90 * 3600, 0);
+        Point point = FACTORY.createPoint(new Coordinate(0, 1));
+        DatumTransformUtil.transform(point, params, null);
+        assertEquals(21, point.getX(), 1e-9);
+        assertEquals(10, point.getY(), 1e-9);
+    }
+
+    @Test
+    public void transformLayerInParallel() {
+        TransformParamModel four = new TransformParamModel(-208.185, -129.549, 1.56504, 1.5504);
+        TransformParamModel seven = new TransformParamModel(DatumTransformType.SEVEN_PARAMETER,
+                -50, 80, 4.5, 0.3, -0.2, -0.554, 0.219);
+        OguLayer layer = newLayer(500);
+        List<Geometry> expected = new ArrayList<>();
+        for (OguFeature feature : layer.getFeatures()) {
+            Geometry geometry = feature.getJtsGeometry().copy();
+            DatumTransformUtil.transform(geometry, four, null);
+            DatumTransformUtil.transform(geometry, seven, layer.getWkid());
+            expected.add(geometry);
+        }
+
+        OguLayerMetadata metadata = new OguLayerMetadata();
+        metadata.setTransformParams("-208.185,-129.549,1.56504,1.5504");
+        layer.setMetadata(metadata);
+        assertSame(layer, DatumTransformUtil.transform(layer));
+        assertSame(layer, DatumTransformUtil.transform(layer, seven));
+
+        for (int i = 0; i < expected.size(); i++) {
+            OguFeature feature = layer.getFeatures().get(i);
+            assertEquals(0, expected.get(i).getCoordinate().distance(feature.getJtsGeometry().getCoordinate()), 1e-6);
+            assertEquals(expected.get(i).getCoordinates().length, feature.getJtsGeometry().getCoordinates().length);
+        }
+    }
+
+    @Test
+    public void transformLayerInvalidatesCachedGeometry() {
+        OguLayer layer = newLayer(1);
+        OguFeature feature = layer.getFeatures().get(0);
+        String before = feature.getGeometry();
+        DatumTransformUtil.transform(layer, new TransformParamModel(100, 0, 0, 0));
+        assertFalse(before.equals(feature.getGeometry()));
+        assertEquals(38400000, feature.getJtsGeometry().getCoordinate().getX(), 1e-9);
+        assertEquals(3300100, feature.getJtsGeometry().getCoordinate().getY(), 1e-9);
+    }
+
+    private static OguLayer newLayer(int size) {
+        OguLayer layer = new OguLayer();
+        layer.setWkid(4526);
+        List<OguFeature> features = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double x = 38400000 + i * 17.5;
+            double y = 3300000 + i * 11.25;
+            OguFeature feature = new OguFeature();
+            feature.setId(String.valueOf(i));
+            feature.setJtsGeometry(FACTORY.createPolygon(new Coordinate[]{new Coordinate(x, y),
+                    new Coordinate(x + 10, y), new Coordinate(x + 10, y + 10), new Coordinate(x, y)}));
+            features.add(feature);
+        }
+        layer.setFeatures(features);
+        return layer;
+    }
+
+    /**
+     * CGCS2000椭球的空间直角坐标换算为[经度, 纬度, 大地高]
+     */
+    private static double[] geodetic(double x, double y, double z) {
+        return geodetic(x, y, z, A, E2);
+    }
+
+    /**
+     * 指定椭球的空间直角坐标换算为[经度, 纬度, 大地高]
+     */
+    private static double[] geodetic(double x, double y, double z, double a, double e2) {
+        double p = Math.hypot(x, y);
+        double phi = Math.atan2(z, p * (1 - e2));
+        double h = 0;
+        for (int i = 0; i < 20; i++) {
+            double n = a / Math.sqrt(1 - e2 * Math.sin(phi) * Math.sin(phi));
+            h = p / Math.cos(phi) - n;
+            phi = Math.atan2(z, p * (1 - e2 * n / (n + h)));
+        }
+        return new double[]{Math.toDegrees(Math.atan2(y, x)), Math.toDegrees(phi), h};
+    }
+
+    private static void assertGeodeticEquals(double[] expected, double lon, double lat, double meters) {
+        double dx = Math.toRadians(lon - expected[0]) * A * Math.cos(Math.toRadians(expected[1]));
+        double dy = Math.toRadians(lat - expected[1]) * A;
+        assertEquals(0, Math.hypot(dx, dy), meters);
+    }
+}
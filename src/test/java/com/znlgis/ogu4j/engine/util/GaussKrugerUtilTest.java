@@ -0,0 +1,147 @@
+package com.znlgis.ogu4j.engine.util;
+
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.referencing.CRS;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * CGCS2000高斯-克吕格投影工具类测试
+ * <p>
+ * 以GeoTools从EPSG数据库解码的坐标系为基准，在四组投影带（4491-4501、4502-4512、4513-4533、4534-4554）
+ * 的中央子午线、带内和带边缘取样点，比较正算、反算和packed坐标数组转换的结果。
+ * </p>
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GaussKrugerUtilTest {
+    /**
+     * 与GeoTools结果的允许偏差（米）
+     */
+    private static final double TOLERANCE = 0.001;
+
+    /**
+     * 正反算往返的允许偏差（度），约0.1毫米
+     */
+    private static final double ROUND_TRIP_TOLERANCE = 1e-9;
+
+    private static final double[] LATITUDES = {18, 35, 53};
+
+    private static final double METERS_PER_DEGREE = 111320;
+
+    @Test
+    public void sixDegreeZonesWithZoneNumber() throws Exception {
+        checkZones(4491, 4501, 3);
+    }
+
+    @Test
+    public void sixDegreeZones() throws Exception {
+        checkZones(4502, 4512, 3);
+    }
+
+    @Test
+    public void threeDegreeZonesWithZoneNumber() throws Exception {
+        checkZones(4513, 4533, 1.5);
+    }
+
+    @Test
+    public void threeDegreeZones() throws Exception {
+        checkZones(4534, 4554, 1.5);
+    }
+
+    @Test
+    public void transformBetweenAdjacentZones() throws Exception {
+        double[] geographic = samples(GaussKrugerUtil.getCentralMeridian(4526), 1.5);
+        double[] source = geographic.clone();
+        GaussKrugerUtil.transform(source, 4490, 4526);
+
+        double[] expected = source.clone();
+        mathTransform(4526, 4527).transform(expected, 0, expected, 0, expected.length / 2);
+        double[] actual = source.clone();
+        GaussKrugerUtil.transform(actual, 4526, 4527);
+        assertPlanarEquals(expected, actual);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedWkid() {
+        GaussKrugerUtil.transform(new double[]{114, 30}, 4490, 3857);
+    }
+
+    private static void checkZones(int minWkid, int maxWkid, double halfWidth) throws Exception {
+        for (int wkid = minWkid; wkid <= maxWkid; wkid++) {
+            double[] geographic = samples(GaussKrugerUtil.getCentralMeridian(wkid), halfWidth);
+
+            double[] expected = geographic.clone();
+            mathTransform(4490, wkid).transform(expected, 0, expected, 0, expected.length / 2);
+
+            double[] packed = geographic.clone();
+            GaussKrugerUtil.transform(packed, 4490, wkid);
+            assertPlanarEquals(expected, packed);
+
+            double[] inverseExpected = expected.clone();
+            mathTransform(wkid, 4490).transform(inverseExpected, 0, inverseExpected, 0, expected.length / 2);
+            double[] inversePacked = expected.clone();
+            GaussKrugerUtil.transform(inversePacked, wkid, 4490);
+
+            for (int i = 0; i < geographic.length; i += 2) {
+                double[] point = {geographic[i], geographic[i + 1]};
+                GaussKrugerUtil.forward(point, wkid);
+                assertEquals(wkid + " E", expected[i], point[0], TOLERANCE);
+                assertEquals(wkid + " N", expected[i + 1], point[1], TOLERANCE);
+
+                double[] inverse = {expected[i], expected[i + 1]};
+                GaussKrugerUtil.inverse(inverse, wkid);
+                assertGeographicEquals(wkid, inverseExpected[i], inverseExpected[i + 1], inverse);
+                assertGeographicEquals(wkid, inverseExpected[i], inverseExpected[i + 1],
+                        new double[]{inversePacked[i], inversePacked[i + 1]});
+
+                GaussKrugerUtil.inverse(point, wkid);
+                assertEquals(wkid + " round trip lon", geographic[i], point[0], ROUND_TRIP_TOLERANCE);
+                assertEquals(wkid + " round trip lat", geographic[i + 1], point[1], ROUND_TRIP_TOLERANCE);
+            }
+        }
+    }
+
+    /**
+     * 在中央子午线、带内和带边缘取样
+     */
+    private static double[] samples(double centralMeridian, double halfWidth) {
+        List<Double> coordinates = new ArrayList<>();
+        for (double latitude : LATITUDES) {
+            for (double offset : new double[]{-halfWidth, -halfWidth / 3, 0, halfWidth / 2, halfWidth}) {
+                coordinates.add(centralMeridian + offset);
+                coordinates.add(latitude);
+            }
+        }
+        return coordinates.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private static MathTransform mathTransform(int sourceWkid, int targetWkid) throws Exception {
+        CoordinateReferenceSystem source = CRS.decode("EPSG:" + sourceWkid, true);
+        CoordinateReferenceSystem target = CRS.decode("EPSG:" + targetWkid, true);
+        return CRS.findMathTransform(source, target, true);
+    }
+
+    private static void assertPlanarEquals(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i += 2) {
+            double distance = Math.hypot(expected[i] - actual[i], expected[i + 1] - actual[i + 1]);
+            assertTrue("point " + i / 2 + " differs by " + distance + " m", distance < TOLERANCE);
+        }
+    }
+
+    private static void assertGeographicEquals(int wkid, double lon, double lat, double[] actual) {
+        double dx = (actual[0] - lon) * METERS_PER_DEGREE * Math.cos(Math.toRadians(lat));
+        double dy = (actual[1] - lat) * METERS_PER_DEGREE;
+        double distance = Math.hypot(dx, dy);
+        assertTrue(wkid + " inverse differs by " + distance + " m", distance < TOLERANCE);
+    }
+}
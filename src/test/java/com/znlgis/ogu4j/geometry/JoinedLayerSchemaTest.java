@@ -0,0 +1,90 @@
+package com.znlgis.ogu4j.geometry;
+
+import com.znlgis.ogu4j.engine.enums.FieldDataType;
+import com.znlgis.ogu4j.engine.enums.SpatialJoinMatchType;
+import com.znlgis.ogu4j.engine.enums.SpatialJoinType;
+import com.znlgis.ogu4j.engine.enums.SpatialRelationType;
+import com.znlgis.ogu4j.engine.model.layer.OguFeature;
+import com.znlgis.ogu4j.engine.model.layer.OguField;
+import com.znlgis.ogu4j.engine.model.layer.OguFieldValue;
+import com.znlgis.ogu4j.engine.model.layer.OguLayer;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * 合并图层字段的结果图层结构测试
+ *
+ * @author znlgis
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class JoinedLayerSchemaTest {
+    private static final GeometryFactory FACTORY = new GeometryFactory();
+
+    @Test
+    public void joinResultFieldsAreCopies() {
+        OguLayer target = newLayer("NAME", "a", 0);
+        OguLayer join = newLayer("NAME", "b", 5);
+        OguLayer result = SpatialJoinUtil.join(target, join, SpatialRelationType.INTERSECTS,
+                SpatialJoinType.INNER, SpatialJoinMatchType.ONE_TO_ONE);
+
+        assertEquals(List.of("NAME", "NAME_1"), result.getFields().stream().map(OguField::getName).toList());
+        assertNotSame(target.getFields().get(0), result.getFields().get(0));
+        assertNotSame(join.getFields().get(0), result.getFields().get(1));
+        assertSourceUnchangedAfterRename(target, result, "a");
+        assertEquals("NAME", join.getFields().get(0).getName());
+    }
+
+    @Test
+    public void overlayResultFieldsAreCopies() {
+        OguLayer input = newLayer("NAME", "a", 0);
+        OguLayer overlay = newLayer("CODE", "b", 5);
+        OguLayer result = OverlayUtil.intersect(input, overlay);
+
+        assertEquals(1, result.getFeatures().size());
+        assertEquals("b", result.getFeatures().get(0).getValue("CODE"));
+        assertSourceUnchangedAfterRename(input, result, "a");
+    }
+
+    private static void assertSourceUnchangedAfterRename(OguLayer source, OguLayer result, String value) {
+        result.getFields().get(0).setName("RENAMED");
+        result.getFields().get(0).setDataType(FieldDataType.INTEGER);
+
+        assertEquals("NAME", source.getFields().get(0).getName());
+        assertEquals(FieldDataType.STRING, source.getFields().get(0).getDataType());
+        assertEquals(0, source.getFieldSchema().indexOf("NAME"));
+        assertEquals(value, source.getFeatures().get(0).getValue("NAME"));
+        assertEquals(value, result.getFeatures().get(0).getValue("RENAMED"));
+    }
+
+    private static OguLayer newLayer(String fieldName, String value, double offset) {
+        OguLayer layer = new OguLayer();
+        layer.setName(fieldName);
+        layer.setWkid(4526);
+        List<OguField> fields = new ArrayList<>();
+        fields.add(new OguField(fieldName, fieldName, FieldDataType.STRING));
+        layer.setFields(fields);
+
+        OguFieldValue fieldValue = new OguFieldValue();
+        fieldValue.setField(fields.get(0));
+        fieldValue.setValue(value);
+        OguFeature feature = new OguFeature();
+        feature.setId(value);
+        feature.setJtsGeometry(FACTORY.createPolygon(new Coordinate[]{new Coordinate(offset, offset),
+                new Coordinate(offset + 10, offset), new Coordinate(offset + 10, offset + 10),
+                new Coordinate(offset, offset + 10), new Coordinate(offset, offset)}));
+        feature.setAttributes(new ArrayList<>(List.of(fieldValue)));
+        feature.bind(layer.getFieldSchema());
+        List<OguFeature> features = new ArrayList<>();
+        features.add(feature);
+        layer.setFeatures(features);
+        return layer;
+    }
+}